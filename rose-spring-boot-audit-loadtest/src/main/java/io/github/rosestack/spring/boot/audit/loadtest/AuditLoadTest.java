@@ -0,0 +1,240 @@
+package io.github.rosestack.spring.boot.audit.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.github.rosestack.spring.boot.audit.support.pipeline.AuditPipeline;
+import java.io.File;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 审计模块压测入口
+ *
+ * <p>对每种详情存储布局（{@code rose.audit.storage.layout}）分别启动被测应用，预热后以固定速率压测，
+ * 等待入队的审计事件全部处理完成，输出 JSON 结果：
+ *
+ * <ul>
+ *   <li>requests：吞吐量与 p50/p99/p999 请求延迟
+ *   <li>pipeline：队列最长等待时间（管道滞后）、最大队列深度、排空耗时、丢弃与重试数
+ *   <li>rows：各表新增行数与每秒写入行数
+ *   <li>jvm：堆使用与各收集器的 GC 次数、耗时。压测客户端与被测应用运行在同一 JVM 中，这些数字是整个进程的，
+ *       包含压测客户端自身的分配与 GC，结果中以 {@code scope=process} 标明
+ * </ul>
+ *
+ * <pre>
+ * mvn -pl rose-spring-boot-audit-loadtest spring-boot:run -Dspring-boot.run.arguments="--rate=1000 --duration=60"
+ * </pre>
+ *
+ * @author chensoul
+ * @since 1.0.0
+ */
+@Slf4j
+public class AuditLoadTest {
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(120);
+    private static final long SAMPLE_INTERVAL_MILLIS = 100;
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", Instant.now().toString());
+        report.put("options", options.toMap());
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (String layout : options.getLayouts()) {
+            results.add(run(options, layout.trim()));
+        }
+        report.put("results", results);
+
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        File output = new File(options.getOutput());
+        if (output.getParentFile() != null) {
+            output.getParentFile().mkdirs();
+        }
+        objectMapper.writeValue(output, report);
+        System.out.println(objectMapper.writeValueAsString(report));
+        log.info("压测结果已写入: {}", output.getAbsolutePath());
+    }
+
+    private static Map<String, Object> run(LoadTestOptions options, String layout) throws Exception {
+        log.info("开始压测，详情存储布局: {}", layout);
+        List<String> args = new ArrayList<>(Arrays.asList(options.getApplicationArgs()));
+        args.add("--rose.audit.storage.layout=" + layout);
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(AuditLoadTestApplication.class)
+                .run(args.toArray(new String[0]))) {
+            AuditPipeline pipeline = context.getBean(AuditPipeline.class);
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            URI baseUri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+            LoadDriver driver = new LoadDriver(baseUri, options.getConcurrency());
+
+            if (!options.getWarmup().isZero()) {
+                driver.run(options.getRate(), options.getWarmup());
+                awaitDrain(pipeline);
+            }
+
+            Map<String, Long> rowsBefore = countRows(jdbcTemplate);
+            Map<String, Object> stateBefore = pipeline.getState();
+            Map<String, long[]> gcBefore = gcSnapshot();
+            MemoryUsage heapBefore = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+
+            PipelineSampler sampler = new PipelineSampler(pipeline);
+            long start = System.nanoTime();
+            LatencyRecorder recorder;
+            try {
+                recorder = driver.run(options.getRate(), options.getDuration());
+            } finally {
+                sampler.stop();
+            }
+            long loadNanos = System.nanoTime() - start;
+            long drainNanos = awaitDrain(pipeline);
+
+            Map<String, Long> rowsAfter = countRows(jdbcTemplate);
+            Map<String, Object> stateAfter = pipeline.getState();
+            MemoryUsage heapAfter = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+
+            double loadSeconds = loadNanos / 1e9;
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("layout", layout);
+
+            Map<String, Object> requests = new LinkedHashMap<>();
+            requests.put("completed", recorder.getCompleted());
+            requests.put("errors", recorder.getErrors());
+            requests.put("throughputPerSecond", round(recorder.getCompleted() / loadSeconds));
+            requests.put("latencyMs", recorder.summary());
+            result.put("requests", requests);
+
+            Map<String, Object> pipelineResult = new LinkedHashMap<>();
+            pipelineResult.put("lagMaxMs", sampler.maxLagMillis);
+            pipelineResult.put("queueDepthMax", sampler.maxQueueDepth);
+            pipelineResult.put("drainMs", TimeUnit.NANOSECONDS.toMillis(drainNanos));
+            pipelineResult.put("persisted", delta(stateBefore, stateAfter, "persisted"));
+            pipelineResult.put("dropped", delta(stateBefore, stateAfter, "dropped"));
+            pipelineResult.put("retried", delta(stateBefore, stateAfter, "retried"));
+            pipelineResult.put("batches", delta(stateBefore, stateAfter, "batches"));
+            result.put("pipeline", pipelineResult);
+
+            Map<String, Object> rows = new LinkedHashMap<>();
+            long totalRows = 0;
+            for (Map.Entry<String, Long> entry : rowsAfter.entrySet()) {
+                long written = entry.getValue() - rowsBefore.getOrDefault(entry.getKey(), 0L);
+                rows.put(entry.getKey(), written);
+                totalRows += written;
+            }
+            rows.put("total", totalRows);
+            rows.put("rowsPerSecond", round(totalRows / (loadSeconds + drainNanos / 1e9)));
+            result.put("rows", rows);
+
+            Map<String, Object> jvm = new LinkedHashMap<>();
+            jvm.put("scope", "process");
+            jvm.put("heapUsedBeforeMb", mb(heapBefore.getUsed()));
+            jvm.put("heapUsedAfterMb", mb(heapAfter.getUsed()));
+            jvm.put("heapCommittedMb", mb(heapAfter.getCommitted()));
+            jvm.put("heapMaxMb", mb(heapAfter.getMax()));
+            jvm.put("gc", gcDelta(gcBefore, gcSnapshot()));
+            result.put("jvm", jvm);
+
+            log.info("压测完成，详情存储布局: {}，吞吐量: {}/s", layout, requests.get("throughputPerSecond"));
+            return result;
+        }
+    }
+
+    /**
+     * 等待审计管道处理完所有入队事件：已处理数（写入成功或写入失败后丢弃）追上已入队数
+     *
+     * @return 排空耗时（纳秒）
+     */
+    private static long awaitDrain(AuditPipeline pipeline) {
+        long start = System.nanoTime();
+        long deadline = start + DRAIN_TIMEOUT.toNanos();
+        while (pipeline.getProcessedCount() < pipeline.getAcceptedCount() && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        long pending = pipeline.getAcceptedCount() - pipeline.getProcessedCount();
+        if (pending > 0) {
+            log.warn("审计管道未在 {} 内排空，未处理: {}", DRAIN_TIMEOUT, pending);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static Map<String, Long> countRows(JdbcTemplate jdbcTemplate) {
+        Map<String, Long> rows = new LinkedHashMap<>();
+        for (String table : new String[] {"audit_log", "audit_log_detail", "audit_log_detail_doc"}) {
+            rows.put(table, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class));
+        }
+        return rows;
+    }
+
+    private static Map<String, long[]> gcSnapshot() {
+        Map<String, long[]> snapshot = new LinkedHashMap<>();
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            snapshot.put(gc.getName(), new long[] {gc.getCollectionCount(), gc.getCollectionTime()});
+        }
+        return snapshot;
+    }
+
+    private static List<Map<String, Object>> gcDelta(Map<String, long[]> before, Map<String, long[]> after) {
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (Map.Entry<String, long[]> entry : after.entrySet()) {
+            long[] previous = before.getOrDefault(entry.getKey(), new long[2]);
+            Map<String, Object> gc = new LinkedHashMap<>(4);
+            gc.put("name", entry.getKey());
+            gc.put("count", entry.getValue()[0] - previous[0]);
+            gc.put("timeMs", entry.getValue()[1] - previous[1]);
+            result.add(gc);
+        }
+        return result;
+    }
+
+    private static long delta(Map<String, Object> before, Map<String, Object> after, String key) {
+        return ((Number) after.get(key)).longValue() - ((Number) before.get(key)).longValue();
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    private static double mb(long bytes) {
+        return round(bytes / 1024.0 / 1024.0);
+    }
+
+    /**
+     * 压测期间定时采样管道滞后与队列深度
+     */
+    private static final class PipelineSampler {
+        private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "audit-loadtest-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        private volatile long maxLagMillis;
+        private volatile int maxQueueDepth;
+
+        private PipelineSampler(AuditPipeline pipeline) {
+            scheduler.scheduleAtFixedRate(
+                    () -> {
+                        maxLagMillis = Math.max(maxLagMillis, pipeline.getOldestEventAgeMillis());
+                        maxQueueDepth = Math.max(maxQueueDepth, pipeline.getQueueDepth());
+                    },
+                    0,
+                    SAMPLE_INTERVAL_MILLIS,
+                    TimeUnit.MILLISECONDS);
+        }
+
+        private void stop() {
+            scheduler.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package io.github.rosestack.spring.boot.audit.loadtest;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * 压测用被测应用：审计 starter + 内嵌 H2（MySQL 模式）+ 带 {@code @Audit} 的接口
+ *
+ * <p>由 {@link AuditLoadTest} 按存储布局分别启动，不单独运行。
+ *
+ * @author chensoul
+ * @since 1.0.0
+ */
+@SpringBootApplication
+public class AuditLoadTestApplication {}
@@ -0,0 +1,73 @@
+package io.github.rosestack.spring.boot.audit.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 请求延迟记录器
+ *
+ * <p>预分配数组保存每个请求的延迟（纳秒），结束后排序计算分位数，压测期间不产生额外对象。
+ *
+ * @author chensoul
+ * @since 1.0.0
+ */
+public class LatencyRecorder {
+    private final long[] latencies;
+    private final AtomicInteger count = new AtomicInteger();
+    private final LongAdder errors = new LongAdder();
+
+    public LatencyRecorder(int capacity) {
+        this.latencies = new long[capacity];
+    }
+
+    public void record(long latencyNanos) {
+        int index = count.getAndIncrement();
+        if (index < latencies.length) {
+            latencies[index] = latencyNanos;
+        }
+    }
+
+    public void error() {
+        errors.increment();
+    }
+
+    public int getCompleted() {
+        return Math.min(count.get(), latencies.length);
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    /**
+     * 延迟统计（毫秒）
+     */
+    public Map<String, Object> summary() {
+        int n = getCompleted();
+        long[] sorted = Arrays.copyOf(latencies, n);
+        Arrays.sort(sorted);
+
+        Map<String, Object> summary = new LinkedHashMap<>(8);
+        summary.put("p50", millis(percentile(sorted, 0.50)));
+        summary.put("p99", millis(percentile(sorted, 0.99)));
+        summary.put("p999", millis(percentile(sorted, 0.999)));
+        summary.put("max", millis(n == 0 ? 0 : sorted[n - 1]));
+        summary.put("mean", millis(n == 0 ? 0 : (long) Arrays.stream(sorted).average().orElse(0)));
+        return summary;
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+}
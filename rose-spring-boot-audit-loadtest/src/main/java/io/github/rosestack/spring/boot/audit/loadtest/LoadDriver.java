@@ -0,0 +1,105 @@
+package io.github.rosestack.spring.boot.audit.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 固定速率请求驱动
+ *
+ * <p>开放模型：第 i 个请求的计划发起时间为 {@code start + i * interval}，延迟从计划时间开始计算，
+ * 被测应用变慢时排队时间也计入延迟，避免协调遗漏（coordinated omission）导致分位数偏低。 在途请求数受 concurrency 限制。
+ *
+ * @author chensoul
+ * @since 1.0.0
+ */
+@Slf4j
+public class LoadDriver {
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final URI baseUri;
+    private final int concurrency;
+
+    public LoadDriver(URI baseUri, int concurrency) {
+        this.baseUri = baseUri;
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * 以固定速率发起请求
+     *
+     * @param rate     每秒请求数
+     * @param duration 持续时间
+     * @return 延迟记录
+     */
+    public LatencyRecorder run(int rate, Duration duration) throws InterruptedException {
+        long total = Math.max(1, rate * duration.getSeconds());
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        LatencyRecorder recorder = new LatencyRecorder((int) total);
+        Semaphore inflight = new Semaphore(concurrency);
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(concurrency, 16));
+        try {
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(executor)
+                    .build();
+
+            long start = System.nanoTime();
+            for (long i = 0; i < total; i++) {
+                long intended = start + i * intervalNanos;
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                inflight.acquire();
+                client.sendAsync(request(i), HttpResponse.BodyHandlers.discarding())
+                        .whenComplete((response, ex) -> {
+                            inflight.release();
+                            if (ex != null || response.statusCode() >= 400) {
+                                recorder.error();
+                            } else {
+                                recorder.record(System.nanoTime() - intended);
+                            }
+                        });
+            }
+
+            if (!inflight.tryAcquire(concurrency, REQUEST_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("等待在途请求完成超时");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return recorder;
+    }
+
+    /**
+     * 四分之三写请求（参数含需脱敏字段），四分之一读请求（记录返回值）
+     */
+    private HttpRequest request(long i) {
+        if (i % 4 == 3) {
+            return HttpRequest.newBuilder(baseUri.resolve("/orders/" + i))
+                    .timeout(REQUEST_TIMEOUT)
+                    .GET()
+                    .build();
+        }
+        String body = "{\"customerId\":" + (i % 1000)
+                + ",\"items\":[{\"sku\":\"SKU-" + (i % 97) + "\",\"quantity\":" + (1 + i % 5) + ",\"price\":19.90},"
+                + "{\"sku\":\"SKU-" + (i % 89) + "\",\"quantity\":1,\"price\":5.50}]"
+                + ",\"remark\":\"load test order " + i + "\",\"password\":\"secret-" + i + "\"}";
+        return HttpRequest.newBuilder(baseUri.resolve("/orders"))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+}
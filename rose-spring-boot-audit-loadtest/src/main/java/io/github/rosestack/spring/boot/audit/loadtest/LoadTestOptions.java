@@ -0,0 +1,75 @@
+package io.github.rosestack.spring.boot.audit.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+
+/**
+ * 压测参数，从命令行 {@code --key=value} 解析
+ *
+ * <pre>
+ * --rate=500                       每秒请求数（开放模型，按固定间隔发起）
+ * --duration=30                    压测时长（秒）
+ * --warmup=5                       预热时长（秒），不计入结果
+ * --concurrency=64                 最大在途请求数
+ * --layouts=normalized,document    依次压测的详情存储布局
+ * --output=target/audit-loadtest.json
+ * </pre>
+ *
+ * <p>其余 {@code --spring.*}、{@code --rose.*} 参数原样传给被测应用。
+ *
+ * @author chensoul
+ * @since 1.0.0
+ */
+@Getter
+public class LoadTestOptions {
+    private final int rate;
+    private final Duration duration;
+    private final Duration warmup;
+    private final int concurrency;
+    private final List<String> layouts;
+    private final String output;
+    private final String[] applicationArgs;
+
+    private LoadTestOptions(Map<String, String> options, String[] applicationArgs) {
+        this.rate = Integer.parseInt(options.getOrDefault("rate", "500"));
+        this.duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "30")));
+        this.warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "5")));
+        this.concurrency = Integer.parseInt(options.getOrDefault("concurrency", "64"));
+        this.layouts = Arrays.asList(options.getOrDefault("layouts", "normalized,document").split(","));
+        this.output = options.getOrDefault("output", "target/audit-loadtest.json");
+        this.applicationArgs = applicationArgs;
+        if (rate <= 0 || concurrency <= 0) {
+            throw new IllegalArgumentException("rate 与 concurrency 必须大于 0");
+        }
+    }
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        List<String> applicationArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--spring.") || arg.startsWith("--rose.") || arg.startsWith("--logging.")) {
+                applicationArgs.add(arg);
+            } else if (arg.startsWith("--") && arg.contains("=")) {
+                int index = arg.indexOf('=');
+                options.put(arg.substring(2, index), arg.substring(index + 1));
+            }
+        }
+        return new LoadTestOptions(options, applicationArgs.toArray(new String[0]));
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("rate", rate);
+        map.put("durationSeconds", duration.getSeconds());
+        map.put("warmupSeconds", warmup.getSeconds());
+        map.put("concurrency", concurrency);
+        map.put("layouts", layouts);
+        return map;
+    }
+}
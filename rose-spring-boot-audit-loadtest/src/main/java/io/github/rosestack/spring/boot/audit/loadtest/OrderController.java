@@ -0,0 +1,45 @@
+package io.github.rosestack.spring.boot.audit.loadtest;
+
+import io.github.rosestack.spring.boot.audit.annotation.Audit;
+import io.github.rosestack.spring.boot.audit.enums.AuditEventType;
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 被压测的审计接口
+ *
+ * <p>写接口记录请求参数（含需脱敏字段），读接口记录返回值，覆盖审计详情的主要构建路径。
+ *
+ * @author chensoul
+ * @since 1.0.0
+ */
+@RestController
+@RequestMapping("/orders")
+public class OrderController {
+    private final AtomicLong sequence = new AtomicLong();
+
+    @PostMapping
+    @Audit(value = "创建订单", eventType = AuditEventType.DATA_CREATE)
+    public Map<String, Object> create(@RequestBody Map<String, Object> order) {
+        Map<String, Object> result = new LinkedHashMap<>(4);
+        result.put("id", sequence.incrementAndGet());
+        result.put("status", "CREATED");
+        return result;
+    }
+
+    @GetMapping("/{id}")
+    @Audit(value = "查询订单", eventType = AuditEventType.DATA_READ, recordReturnValue = true)
+    public Map<String, Object> get(@PathVariable Long id) {
+        Map<String, Object> result = new LinkedHashMap<>(8);
+        result.put("id", id);
+        result.put("customerId", id % 1000);
+        result.put("amount", BigDecimal.valueOf(id % 10000, 2));
+        result.put("items", List.of("SKU-" + (id % 97), "SKU-" + (id % 89)));
+        result.put("status", "PAID");
+        return result;
+    }
+}
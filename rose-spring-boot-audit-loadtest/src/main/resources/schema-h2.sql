@@ -0,0 +1,92 @@
+-- =====================================================
+-- 压测用 H2 表结构（MySQL 兼容模式）
+-- =====================================================
+-- 与 db/mysql 下的脚本保持相同的列与二级索引，去掉 H2 不支持的分区与表选项，
+-- 使两种详情布局的写放大（索引维护、外键检查）在压测中可比。
+-- =====================================================
+
+DROP TABLE IF EXISTS audit_log_detail_doc;
+DROP TABLE IF EXISTS audit_log_detail;
+DROP TABLE IF EXISTS audit_log;
+
+CREATE TABLE audit_log (
+    id BIGINT NOT NULL,
+    event_time DATETIME NOT NULL,
+    event_type VARCHAR(50) NOT NULL,
+    event_subtype VARCHAR(50),
+    operation_name VARCHAR(200),
+    status VARCHAR(20) NOT NULL,
+    risk_level VARCHAR(20) NOT NULL,
+    user_id VARCHAR(64),
+    user_name VARCHAR(100),
+    request_uri VARCHAR(500),
+    http_method VARCHAR(10),
+    http_status INT,
+    session_id VARCHAR(128),
+    client_ip VARCHAR(45),
+    server_ip VARCHAR(45),
+    geo_location VARCHAR(200),
+    user_agent VARCHAR(100),
+    app_name VARCHAR(100),
+    tenant_id VARCHAR(50),
+    trace_id VARCHAR(100),
+    execution_time BIGINT,
+    digital_signature VARCHAR(512),
+    hash_value VARCHAR(128),
+    prev_hash VARCHAR(128),
+    created_time DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    deleted TINYINT(1) NOT NULL DEFAULT 0,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_audit_log_event_time ON audit_log (event_time);
+CREATE INDEX idx_audit_log_user_id ON audit_log (user_id);
+CREATE INDEX idx_audit_log_tenant_id ON audit_log (tenant_id);
+CREATE INDEX idx_audit_log_event_type ON audit_log (event_type);
+CREATE INDEX idx_audit_log_risk_level ON audit_log (risk_level);
+CREATE INDEX idx_audit_log_status ON audit_log (status);
+CREATE INDEX idx_audit_log_trace_id ON audit_log (trace_id);
+CREATE INDEX idx_audit_log_client_ip ON audit_log (client_ip);
+CREATE INDEX idx_audit_log_tenant_time ON audit_log (tenant_id, event_time);
+CREATE INDEX idx_audit_log_user_time ON audit_log (user_id, event_time);
+CREATE INDEX idx_audit_log_type_time ON audit_log (event_type, event_time);
+CREATE INDEX idx_audit_log_risk_time ON audit_log (risk_level, event_time);
+CREATE INDEX idx_audit_log_deleted ON audit_log (deleted);
+
+CREATE TABLE audit_log_detail (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    audit_log_id BIGINT NOT NULL,
+    detail_type VARCHAR(50) NOT NULL,
+    detail_key VARCHAR(50) NOT NULL,
+    detail_value LONGTEXT,
+    is_sensitive TINYINT(1) NOT NULL DEFAULT 0,
+    is_encrypted TINYINT(1) NOT NULL DEFAULT 0,
+    tenant_id VARCHAR(50),
+    created_time DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_audit_log_detail_audit_log FOREIGN KEY (audit_log_id) REFERENCES audit_log (id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_audit_detail_log_id ON audit_log_detail (audit_log_id);
+CREATE INDEX idx_audit_detail_type ON audit_log_detail (detail_type);
+CREATE INDEX idx_audit_detail_key ON audit_log_detail (detail_key);
+CREATE INDEX idx_audit_detail_sensitive ON audit_log_detail (is_sensitive);
+CREATE INDEX idx_audit_detail_encrypted ON audit_log_detail (is_encrypted);
+CREATE INDEX idx_audit_detail_tenant_id ON audit_log_detail (tenant_id);
+CREATE INDEX idx_audit_detail_created_time ON audit_log_detail (created_time);
+CREATE INDEX idx_audit_detail_log_type ON audit_log_detail (audit_log_id, detail_type);
+CREATE INDEX idx_audit_detail_log_key ON audit_log_detail (audit_log_id, detail_key);
+CREATE INDEX idx_audit_detail_tenant_type ON audit_log_detail (tenant_id, detail_type);
+CREATE INDEX idx_audit_detail_security ON audit_log_detail (is_sensitive, is_encrypted);
+
+CREATE TABLE audit_log_detail_doc (
+    audit_log_id BIGINT NOT NULL,
+    chunk_no INT NOT NULL DEFAULT 0,
+    -- H2 会把字符串参数当作 JSON 字符串字面量写入 JSON 列，这里用 LONGTEXT 代替
+    details LONGTEXT NOT NULL,
+    detail_count INT NOT NULL DEFAULT 0,
+    has_sensitive TINYINT(1) NOT NULL DEFAULT 0,
+    tenant_id VARCHAR(50),
+    created_time DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (audit_log_id, chunk_no, created_time)
+);
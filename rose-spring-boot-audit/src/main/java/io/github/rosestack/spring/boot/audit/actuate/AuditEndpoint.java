@@ -0,0 +1,42 @@
+package io.github.rosestack.spring.boot.audit.actuate;
+
+import io.github.rosestack.spring.boot.audit.support.pipeline.AuditPipeline;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+/**
+ * 审计管道端点（{@code /actuator/audit}）
+ *
+ * <ul>
+ *   <li>GET：查看管道实时状态（队列深度、最早事件等待时长、写入/丢弃/重试计数等）
+ *   <li>POST {@code {"action": "pause"}} / {@code {"action": "resume"}}：暂停或恢复写入存储
+ * </ul>
+ *
+ * @author chensoul
+ * @since 1.0.0
+ */
+@Endpoint(id = "audit")
+@RequiredArgsConstructor
+public class AuditEndpoint {
+    private final AuditPipeline auditPipeline;
+
+    @ReadOperation
+    public Map<String, Object> state() {
+        return auditPipeline.getState();
+    }
+
+    @WriteOperation
+    public Map<String, Object> control(String action) {
+        if ("pause".equalsIgnoreCase(action)) {
+            auditPipeline.pause();
+        } else if ("resume".equalsIgnoreCase(action)) {
+            auditPipeline.resume();
+        } else {
+            throw new IllegalArgumentException("不支持的操作: " + action + "，可选值: pause、resume");
+        }
+        return auditPipeline.getState();
+    }
+}
@@ -24,6 +24,11 @@ public @interface Audit {
 
     boolean recordReturnValue() default false;
 
+    /**
+     * 是否采集方法内 MyBatis-Plus 实体的数据变更（变更前/后数据、字段差异、SQL）
+     */
+    boolean recordDataChange() default false;
+
     String[] maskFields() default {};
 
     EncryptType encryptType() default EncryptType.AES;
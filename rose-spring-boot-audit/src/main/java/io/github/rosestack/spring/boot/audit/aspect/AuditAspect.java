@@ -6,12 +6,20 @@ import io.github.rosestack.spring.boot.audit.enums.AuditStatus;
 import io.github.rosestack.spring.boot.audit.listener.AuditEvent;
 import io.github.rosestack.spring.boot.audit.support.AuditEventBuilder;
 import io.github.rosestack.spring.boot.audit.support.AuditEventConditionEvaluator;
-import java.time.LocalDateTime;
+import io.github.rosestack.spring.boot.audit.support.change.DataChange;
+import io.github.rosestack.spring.boot.audit.support.change.DataChangeContext;
+import io.github.rosestack.spring.boot.audit.support.metrics.AuditMetrics;
+import io.github.rosestack.spring.boot.audit.support.metrics.AuditStage;
+import io.github.rosestack.spring.boot.capture.InvocationCapture;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.annotation.Order;
@@ -24,40 +32,59 @@ import org.springframework.core.annotation.Order;
 public class AuditAspect {
     private final ApplicationEventPublisher eventPublisher;
     private final FieldEncryptor fieldEncryptor;
+    private final AuditMetrics auditMetrics;
 
     /**
      * 环绕通知：拦截@Audit注解的方法
      */
     @Around("@annotation(audit)")
     public Object around(ProceedingJoinPoint joinPoint, Audit audit) throws Throwable {
-        LocalDateTime startTime = LocalDateTime.now();
-        long executionStartTime = System.currentTimeMillis();
+        // 与同一调用上的其他切面（如 @SysLog）共用一次采集
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        InvocationCapture capture = InvocationCapture.enter(method, joinPoint.getTarget(), joinPoint.getArgs());
 
         Object result = null;
         Throwable exception = null;
         AuditStatus status = AuditStatus.SUCCESS;
+        if (audit.recordDataChange()) {
+            DataChangeContext.open();
+        }
 
         try {
             result = joinPoint.proceed();
+            capture.complete(result, null);
             return result;
         } catch (Throwable e) {
+            capture.complete(null, e);
             exception = e;
             status = AuditStatus.FAILURE;
             throw e;
         } finally {
+            long captureStart = System.nanoTime();
+            List<DataChange> dataChanges =
+                    audit.recordDataChange() ? DataChangeContext.close() : Collections.emptyList();
             try {
                 if (AuditEventConditionEvaluator.evaluate(joinPoint, audit.condition(), result)) {
-                    long executionTime = System.currentTimeMillis() - executionStartTime;
-
-                    AuditEventBuilder auditEventBuilder = new AuditEventBuilder(audit, fieldEncryptor);
+                    long buildStart = System.nanoTime();
+                    AuditEventBuilder auditEventBuilder = new AuditEventBuilder(audit, fieldEncryptor, auditMetrics);
                     AuditEvent auditEvent = auditEventBuilder.buildAuditEvent(
-                            joinPoint, audit, startTime, executionTime, result, exception, status);
+                            joinPoint, audit, capture.getStartTime(), capture.getCostMillis(), result, exception, status);
+                    if (!dataChanges.isEmpty()) {
+                        auditEvent
+                                .getAuditLogDetails()
+                                .addAll(auditEventBuilder.buildDataChangeDetails(
+                                        auditEvent.getAuditLog().getId(), dataChanges));
+                    }
+                    auditMetrics.recordStage(AuditStage.BUILD, System.nanoTime() - buildStart);
 
                     eventPublisher.publishEvent(auditEvent);
-                    log.debug("发布审计事件成功，审计日志ID: {}", auditEvent.getAuditLog().getId());
+                    log.debug("发布审计事件成功，审计日志: {}", auditEvent.getAuditLog().getOperationName());
                 }
             } catch (Exception e) {
                 log.error("记录审计日志失败: {}", e.getMessage(), e);
+            } finally {
+                auditMetrics.recordStage(AuditStage.CAPTURE, System.nanoTime() - captureStart);
+                capture.exit();
             }
         }
     }
@@ -1,22 +1,40 @@
 package io.github.rosestack.spring.boot.audit.config;
 
 import io.github.rosestack.encrypt.FieldEncryptor;
+import io.github.rosestack.spring.boot.audit.actuate.AuditEndpoint;
 import io.github.rosestack.spring.boot.audit.aspect.AuditAspect;
 import io.github.rosestack.spring.boot.audit.listener.AuditEventListener;
+import io.github.rosestack.spring.boot.audit.mapper.AuditLogDetailDocMapper;
 import io.github.rosestack.spring.boot.audit.mapper.AuditLogDetailMapper;
 import io.github.rosestack.spring.boot.audit.service.impl.AuditLogServiceImpl;
+import io.github.rosestack.spring.boot.audit.service.impl.DocumentAuditLogServiceImpl;
+import io.github.rosestack.spring.boot.audit.support.change.DataChangeInterceptor;
+import io.github.rosestack.spring.boot.audit.support.metrics.AuditMetrics;
+import io.github.rosestack.spring.boot.audit.support.metrics.MicrometerAuditMetrics;
+import io.github.rosestack.spring.boot.audit.support.pipeline.AuditPipeline;
+import io.github.rosestack.spring.boot.audit.support.recorder.AuditRecorder;
+import io.github.rosestack.spring.boot.audit.support.storage.AuditDetailLayoutMigrator;
 import io.github.rosestack.spring.boot.audit.support.storage.AuditStorage;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import jakarta.annotation.PostConstruct;
 import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.mybatis.spring.annotation.MapperScan;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
 
 /**
@@ -28,7 +46,8 @@ import org.springframework.context.annotation.EnableAspectJAutoProxy;
  * @since 1.0.0
  */
 @Slf4j
-@AutoConfiguration
+@AutoConfiguration(
+        afterName = "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration")
 @RequiredArgsConstructor
 @EnableAspectJAutoProxy(proxyTargetClass = true)
 @EnableConfigurationProperties(AuditProperties.class)
@@ -39,27 +58,45 @@ public class AuditAutoConfig {
 
     @PostConstruct
     public void init() {
-        log.info("审计配置: 存储类型={}", auditProperties.getStorage().getType());
+        log.info(
+                "审计配置: 存储类型={}, 详情布局={}",
+                auditProperties.getStorage().getType(),
+                auditProperties.getStorage().getLayout());
     }
 
     @Bean
     @ConditionalOnMissingBean
     @ConditionalOnProperty(prefix = "rose.audit.aspect", name = "enabled", havingValue = "true", matchIfMissing = true)
-    public AuditAspect auditAspect(ApplicationEventPublisher eventPublisher, FieldEncryptor fieldEncryptor) {
+    public AuditAspect auditAspect(
+            ApplicationEventPublisher eventPublisher, FieldEncryptor fieldEncryptor, AuditMetrics auditMetrics) {
         log.debug("注册 AuditAspect Bean");
-        return new AuditAspect(eventPublisher, fieldEncryptor);
+        return new AuditAspect(eventPublisher, fieldEncryptor, auditMetrics);
     }
 
     @Bean
-    @ConditionalOnProperty(
-            prefix = "rose.audit.storage",
-            name = "type",
-            havingValue = "database",
-            matchIfMissing = true)
+    @ConditionalOnExpression("'${rose.audit.storage.type:database}' == 'database'"
+            + " && '${rose.audit.storage.layout:normalized}' == 'normalized'")
     public AuditStorage jdbcAuditStorage(Validator validator, AuditLogDetailMapper auditLogDetailMapper) {
         return new AuditLogServiceImpl(validator, auditLogDetailMapper);
     }
 
+    @Bean
+    @ConditionalOnExpression("'${rose.audit.storage.type:database}' == 'database'"
+            + " && '${rose.audit.storage.layout:normalized}' == 'document'")
+    public AuditStorage documentAuditStorage(
+            Validator validator,
+            AuditLogDetailMapper auditLogDetailMapper,
+            AuditLogDetailDocMapper auditLogDetailDocMapper) {
+        return new DocumentAuditLogServiceImpl(validator, auditLogDetailMapper, auditLogDetailDocMapper);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public AuditDetailLayoutMigrator auditDetailLayoutMigrator(
+            AuditLogDetailMapper auditLogDetailMapper, AuditLogDetailDocMapper auditLogDetailDocMapper) {
+        return new AuditDetailLayoutMigrator(auditLogDetailMapper, auditLogDetailDocMapper);
+    }
+
     @Bean
     @ConditionalOnMissingBean
     public AuditStorage noopAuditLogService() {
@@ -67,7 +104,81 @@ public class AuditAutoConfig {
     }
 
     @Bean
-    public AuditEventListener auditEventListener(AuditStorage auditStorage) {
-        return new AuditEventListener(auditStorage);
+    @ConditionalOnMissingBean
+    public AuditMetrics auditMetrics() {
+        return AuditMetrics.NOOP;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public AuditPipeline auditPipeline(AuditStorage auditStorage, AuditMetrics auditMetrics) {
+        return new AuditPipeline(auditStorage, auditMetrics, auditProperties.getPipeline());
+    }
+
+    @Bean
+    public AuditEventListener auditEventListener(AuditPipeline auditPipeline) {
+        return new AuditEventListener(auditPipeline);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public AuditRecorder auditRecorder(
+            AuditPipeline auditPipeline, FieldEncryptor fieldEncryptor, AuditMetrics auditMetrics) {
+        return new AuditRecorder(auditPipeline, fieldEncryptor, auditMetrics, auditProperties);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(
+            prefix = "rose.audit.data-change",
+            name = "enabled",
+            havingValue = "true",
+            matchIfMissing = true)
+    public DataChangeInterceptor dataChangeInterceptor() {
+        return new DataChangeInterceptor(auditProperties.getDataChange());
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    static class AuditMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        @ConditionalOnBean(MeterRegistry.class)
+        public AuditMetrics micrometerAuditMetrics(MeterRegistry meterRegistry) {
+            return new MicrometerAuditMetrics(meterRegistry);
+        }
+
+        @Bean
+        @ConditionalOnBean(MeterRegistry.class)
+        public MeterBinder auditPipelineMeterBinder(AuditPipeline auditPipeline) {
+            return registry -> {
+                Gauge.builder("rose.audit.queue.depth", auditPipeline, AuditPipeline::getQueueDepth)
+                        .description("Audit events waiting to be persisted")
+                        .register(registry);
+                Gauge.builder(
+                                "rose.audit.queue.oldest.age",
+                                auditPipeline,
+                                pipeline -> pipeline.getOldestEventAgeMillis() / 1000.0)
+                        .description("Age of the oldest queued audit event")
+                        .baseUnit("seconds")
+                        .register(registry);
+                Gauge.builder("rose.audit.pipeline.paused", auditPipeline, pipeline -> pipeline.isPaused() ? 1 : 0)
+                        .description("Whether audit persistence is paused")
+                        .register(registry);
+            };
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(Endpoint.class)
+    static class AuditEndpointConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        @ConditionalOnAvailableEndpoint
+        public AuditEndpoint auditEndpoint(AuditPipeline auditPipeline) {
+            return new AuditEndpoint(auditPipeline);
+        }
     }
 }
@@ -1,10 +1,12 @@
 package io.github.rosestack.spring.boot.audit.config;
 
+import io.github.rosestack.encrypt.enums.EncryptType;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import lombok.Data;
@@ -34,6 +36,11 @@ public class AuditProperties {
      */
     private List<String> maskFields;
 
+    /**
+     * 详情加密类型，作用于编程式审计（{@code AuditRecorder}）；{@code @Audit} 注解方法使用注解上的 encryptType
+     */
+    @NotNull private EncryptType encryptType = EncryptType.AES;
+
     /**
      * 存储配置
      */
@@ -49,6 +56,21 @@ public class AuditProperties {
      */
     @Valid @NotNull private Filter filter = new Filter();
 
+    /**
+     * 写入管道配置
+     */
+    @Valid @NotNull private Pipeline pipeline = new Pipeline();
+
+    /**
+     * 编程式批量审计配置
+     */
+    @Valid @NotNull private Recorder recorder = new Recorder();
+
+    /**
+     * 数据变更采集配置
+     */
+    @Valid @NotNull private DataChange dataChange = new DataChange();
+
     /**
      * 存储配置
      */
@@ -58,6 +80,84 @@ public class AuditProperties {
          * 存储类型：目前主要支持 database
          */
         @NotBlank(message = "存储类型不能为空") private String type = "database";
+
+        /**
+         * 详情存储布局：normalized（逐行写入 audit_log_detail）、document（每个事件一行 JSON 文档，写入 audit_log_detail_doc）
+         */
+        @NotBlank(message = "详情存储布局不能为空") private String layout = "normalized";
+    }
+
+    /**
+     * 写入管道配置
+     */
+    @Data
+    public static class Pipeline {
+        /**
+         * 队列容量，队列满时新事件被丢弃
+         */
+        @Min(value = 1, message = "队列容量不能小于1") private int queueCapacity = 10000;
+
+        /**
+         * 单批最大事件数
+         */
+        @Min(value = 1, message = "批大小不能小于1") private int batchSize = 200;
+
+        /**
+         * 批次最长等待时间，未攒满一批时到时即写入
+         */
+        @NotNull(message = "批次等待时间不能为空") private Duration flushInterval = Duration.ofMillis(500);
+
+        /**
+         * 写入失败后的重试次数
+         */
+        @Min(value = 0, message = "重试次数不能小于0") private int maxRetries = 2;
+
+        /**
+         * 重试间隔
+         */
+        @NotNull(message = "重试间隔不能为空") private Duration retryBackoff = Duration.ofMillis(200);
+
+        /**
+         * 停机时等待队列排空的最长时间
+         */
+        @NotNull(message = "停机等待时间不能为空") private Duration shutdownTimeout = Duration.ofSeconds(10);
+    }
+
+    /**
+     * 编程式批量审计配置
+     */
+    @Data
+    public static class Recorder {
+        /**
+         * 每个详情分片包含的条目数，攒满即提交到写入管道
+         */
+        @Min(value = 1, message = "分片大小不能小于1") private int chunkSize = 500;
+
+        /**
+         * 写入管道队列满时提交分片的最长等待时间，超时后分片被丢弃
+         */
+        @NotNull(message = "提交等待时间不能为空") private Duration offerTimeout = Duration.ofSeconds(5);
+    }
+
+    /**
+     * 数据变更采集配置（{@code @Audit(recordDataChange = true)}）
+     */
+    @Data
+    public static class DataChange {
+        /**
+         * 是否注册数据变更采集拦截器
+         */
+        private boolean enabled = true;
+
+        /**
+         * 单条语句采集变更前数据的最大行数，超过时只记录变更后数据
+         */
+        @Min(value = 1, message = "最大行数不能小于1") private int maxRows = 1000;
+
+        /**
+         * 是否记录 SQL 语句与参数
+         */
+        private boolean recordSql = true;
     }
 
     /**
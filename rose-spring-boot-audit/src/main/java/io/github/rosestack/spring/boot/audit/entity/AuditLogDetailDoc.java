@@ -0,0 +1,117 @@
+package io.github.rosestack.spring.boot.audit.entity;
+
+import com.baomidou.mybatisplus.annotation.*;
+import io.github.rosestack.core.util.JsonUtils;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 审计日志详情文档实体类
+ *
+ * <p>高吞吐写入布局：一个审计事件的全部 {@link AuditLogDetail} 合并为一行 JSON 文档，只追加写入、按创建时间分区、不建外键。
+ * 对应 {@code db/mysql/audit_log_detail_doc.sql}，通过 {@code rose.audit.storage.layout=document} 启用。
+ *
+ * @author chensoul
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@TableName("audit_log_detail_doc")
+public class AuditLogDetailDoc {
+
+    /**
+     * 审计日志ID（与 audit_log.id 对应）
+     */
+    @NotNull(message = "审计日志ID不能为空") @TableId(value = "audit_log_id", type = IdType.INPUT)
+    private Long auditLogId;
+
+    /**
+     * 详情分片序号（普通审计事件为 0，批量审计按分片递增）
+     */
+    @TableField("chunk_no")
+    private Integer chunkNo;
+
+    /**
+     * 详情文档（JSON数组）
+     */
+    @NotNull(message = "详情文档不能为空") @TableField("details")
+    private String details;
+
+    /**
+     * 详情条数
+     */
+    @TableField("detail_count")
+    private Integer detailCount;
+
+    /**
+     * 是否包含敏感数据
+     */
+    @TableField("has_sensitive")
+    private Boolean hasSensitive;
+
+    /**
+     * 租户ID（多租户支持）
+     */
+    @Size(max = 50, message = "租户ID长度不能超过50个字符") @TableField(value = "tenant_id", fill = FieldFill.INSERT)
+    private String tenantId;
+
+    /**
+     * 创建时间
+     */
+    @TableField(value = "created_time", fill = FieldFill.INSERT)
+    private LocalDateTime createdTime;
+
+    // ==================== 业务方法 ====================
+
+    /**
+     * 将同一审计事件的详情列表合并为文档
+     *
+     * @param auditLogId      审计日志ID
+     * @param auditLogDetails 详情列表
+     * @return 详情文档
+     */
+    public static AuditLogDetailDoc of(Long auditLogId, List<AuditLogDetail> auditLogDetails) {
+        List<Map<String, Object>> items = new ArrayList<>(auditLogDetails.size());
+        boolean hasSensitive = false;
+        String tenantId = null;
+        LocalDateTime createdTime = null;
+        for (AuditLogDetail detail : auditLogDetails) {
+            Map<String, Object> item = new LinkedHashMap<>(8);
+            item.put("detail_type", detail.getDetailType());
+            item.put("detail_key", detail.getDetailKey());
+            item.put("detail_value", detail.getDetailValue());
+            item.put("is_sensitive", Boolean.TRUE.equals(detail.getIsSensitive()));
+            item.put("is_encrypted", Boolean.TRUE.equals(detail.getIsEncrypted()));
+            items.add(item);
+
+            hasSensitive |= Boolean.TRUE.equals(detail.getIsSensitive());
+            if (tenantId == null) {
+                tenantId = detail.getTenantId();
+            }
+            if (createdTime == null) {
+                createdTime = detail.getCreatedTime();
+            }
+        }
+
+        return AuditLogDetailDoc.builder()
+                .auditLogId(auditLogId)
+                .chunkNo(0)
+                .details(JsonUtils.toString(items))
+                .detailCount(items.size())
+                .hasSensitive(hasSensitive)
+                .tenantId(tenantId)
+                .createdTime(createdTime)
+                .build();
+    }
+}
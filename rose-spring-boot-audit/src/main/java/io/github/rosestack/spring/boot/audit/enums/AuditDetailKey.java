@@ -27,7 +27,7 @@ public enum AuditDetailKey {
     // ==================== 数据变更相关 ====================
     DATA_CHANGE_BEFORE("DATA_CHANGE_BEFORE", "变更前数据", AuditDetailType.DATA_CHANGE, false, true),
     DATA_CHANGE_AFTER("DATA_CHANGE_AFTER", "变更后数据", AuditDetailType.DATA_CHANGE, false, true),
-    DATA_CHANGE_DIFF("DATA_CHANGE_DIFF", "变更差异对比", AuditDetailType.DATA_CHANGE, false, false),
+    DATA_CHANGE_DIFF("DATA_CHANGE_DIFF", "变更差异对比", AuditDetailType.DATA_CHANGE, false, true),
     SQL_STATEMENT("SQL_STATEMENT", "执行的SQL语句", AuditDetailType.DATA_CHANGE, false, false),
     SQL_PARAMETERS("SQL_PARAMETERS", "SQL参数", AuditDetailType.DATA_CHANGE, false, true),
 
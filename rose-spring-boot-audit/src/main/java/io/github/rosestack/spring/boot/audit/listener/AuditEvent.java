@@ -26,6 +26,11 @@ public class AuditEvent {
      */
     private final List<AuditLogDetail> auditLogDetails;
 
+    /**
+     * 详情分片序号：0 表示完整事件（主记录 + 详情）；大于 0 表示批量审计中追加的详情分片，主记录已单独写入
+     */
+    private final int chunk;
+
     /**
      * 构造函数
      *
@@ -33,7 +38,34 @@ public class AuditEvent {
      * @param auditLogDetails 审计日志详细记录列表
      */
     public AuditEvent(AuditLog auditLog, List<AuditLogDetail> auditLogDetails) {
+        this(auditLog, auditLogDetails, 0);
+    }
+
+    private AuditEvent(AuditLog auditLog, List<AuditLogDetail> auditLogDetails, int chunk) {
         this.auditLog = auditLog;
         this.auditLogDetails = auditLogDetails;
+        this.chunk = chunk;
+    }
+
+    /**
+     * 创建详情分片事件，只追加详情，不再写入主记录
+     *
+     * @param auditLog        已提交的审计日志主记录
+     * @param auditLogDetails 本分片的详情列表
+     * @param chunk           分片序号，从 1 开始
+     * @return 详情分片事件
+     */
+    public static AuditEvent detailChunk(AuditLog auditLog, List<AuditLogDetail> auditLogDetails, int chunk) {
+        if (chunk <= 0) {
+            throw new IllegalArgumentException("chunk 必须大于 0");
+        }
+        return new AuditEvent(auditLog, auditLogDetails, chunk);
+    }
+
+    /**
+     * 是否为详情分片事件
+     */
+    public boolean isDetailChunk() {
+        return chunk > 0;
     }
 }
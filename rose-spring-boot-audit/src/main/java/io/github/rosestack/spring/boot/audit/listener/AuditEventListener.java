@@ -1,49 +1,27 @@
 package io.github.rosestack.spring.boot.audit.listener;
 
-import io.github.rosestack.spring.boot.audit.entity.AuditLog;
-import io.github.rosestack.spring.boot.audit.entity.AuditLogDetail;
-import io.github.rosestack.spring.boot.audit.support.storage.AuditStorage;
-import java.util.List;
+import io.github.rosestack.spring.boot.audit.support.pipeline.AuditPipeline;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 
+/**
+ * 审计事件监听器
+ *
+ * <p>将审计事件提交到 {@link AuditPipeline}，由管道异步攒批写入存储；入队不阻塞发布线程，因此无需再经过 {@code @Async} 线程池。
+ *
+ * @author chensoul
+ * @since 1.0.0
+ */
 @Slf4j
 @RequiredArgsConstructor
 public class AuditEventListener {
-    private final AuditStorage auditStorage;
+    private final AuditPipeline auditPipeline;
 
-    @Async
     @EventListener
     public void handleAuditEvent(AuditEvent auditEvent) {
-        try {
-            AuditLog auditLog = auditEvent.getAuditLog();
-            List<AuditLogDetail> auditLogDetails = auditEvent.getAuditLogDetails();
-            auditStorage.saveAuditLog(auditLog, auditLogDetails);
-        } catch (Exception e) {
-            log.error("处理审计事件失败: {}", e.getMessage(), e);
-            // 根据配置决定是否重试或记录到备用存储
-            handleEventProcessingFailure(auditEvent, e);
+        if (!auditPipeline.offer(auditEvent)) {
+            log.debug("审计事件入队失败，队列已满，审计日志: {}", auditEvent.getAuditLog().getOperationName());
         }
     }
-
-    /**
-     * 处理事件处理失败的情况
-     */
-    private void handleEventProcessingFailure(AuditEvent auditEvent, Exception e) {
-        // 可以在这里实现重试机制、备用存储等容错策略
-        // 例如：将失败的事件写入文件或发送到死信队列
-
-        // 记录失败统计
-        recordFailureStats(auditEvent, e);
-    }
-
-    /**
-     * 记录失败统计
-     */
-    private void recordFailureStats(AuditEvent auditEvent, Exception e) {
-        // 实现失败统计逻辑
-        log.warn("记录审计事件处理失败统计: 错误类型={}", e.getClass().getSimpleName());
-    }
 }
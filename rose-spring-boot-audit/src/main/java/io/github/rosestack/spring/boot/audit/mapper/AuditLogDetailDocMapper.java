@@ -0,0 +1,8 @@
+package io.github.rosestack.spring.boot.audit.mapper;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import io.github.rosestack.spring.boot.audit.entity.AuditLogDetailDoc;
+import org.apache.ibatis.annotations.Mapper;
+
+@Mapper
+public interface AuditLogDetailDocMapper extends BaseMapper<AuditLogDetailDoc> {}
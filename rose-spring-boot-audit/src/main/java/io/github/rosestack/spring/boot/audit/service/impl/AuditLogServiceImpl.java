@@ -3,6 +3,7 @@ package io.github.rosestack.spring.boot.audit.service.impl;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
 import io.github.rosestack.spring.boot.audit.entity.AuditLog;
 import io.github.rosestack.spring.boot.audit.entity.AuditLogDetail;
+import io.github.rosestack.spring.boot.audit.listener.AuditEvent;
 import io.github.rosestack.spring.boot.audit.mapper.AuditLogDetailMapper;
 import io.github.rosestack.spring.boot.audit.mapper.AuditLogMapper;
 import io.github.rosestack.spring.boot.audit.service.AuditLogService;
@@ -54,11 +55,9 @@ public class AuditLogServiceImpl extends ServiceImpl<AuditLogMapper, AuditLog> i
                 throw new RuntimeException("保存审计日志失败");
             }
 
-            // 批量处理
-            if (auditLogDetails == null || auditLogDetails.isEmpty()) {
-                for (AuditLogDetail detail : auditLogDetails) {
-                    auditLogDetailMapper.insert(detail);
-                }
+            // 保存详情
+            if (auditLogDetails != null && !auditLogDetails.isEmpty()) {
+                saveAuditLogDetails(auditLog, auditLogDetails, 0);
             }
 
             log.debug("审计日志记录成功，ID: {}", auditLog.getId());
@@ -68,6 +67,48 @@ public class AuditLogServiceImpl extends ServiceImpl<AuditLogMapper, AuditLog> i
         }
     }
 
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public void saveAuditLogs(List<AuditEvent> auditEvents) {
+        // 同一事务内写入整批事件，减少提交次数
+        for (AuditEvent auditEvent : auditEvents) {
+            if (auditEvent.isDetailChunk()) {
+                appendAuditLogDetails(auditEvent.getAuditLog(), auditEvent.getAuditLogDetails(), auditEvent.getChunk());
+            } else {
+                saveAuditLog(auditEvent.getAuditLog(), auditEvent.getAuditLogDetails());
+            }
+        }
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public void appendAuditLogDetails(AuditLog auditLog, List<AuditLogDetail> auditLogDetails, int chunk) {
+        if (auditLogDetails == null || auditLogDetails.isEmpty()) {
+            return;
+        }
+        saveAuditLogDetails(auditLog, auditLogDetails, chunk);
+        log.debug("审计详情分片追加成功，审计日志ID: {}，分片: {}，条数: {}", auditLog.getId(), chunk, auditLogDetails.size());
+    }
+
+    /**
+     * 保存审计详情
+     *
+     * <p>默认逐行写入 audit_log_detail 表，子类可覆盖以切换详情存储布局。
+     *
+     * @param auditLog        已保存的审计日志（主键已生成）
+     * @param auditLogDetails 审计详情列表，非空
+     * @param chunk           详情分片序号，普通审计事件为 0
+     */
+    protected void saveAuditLogDetails(AuditLog auditLog, List<AuditLogDetail> auditLogDetails, int chunk) {
+        for (AuditLogDetail detail : auditLogDetails) {
+            detail.setAuditLogId(auditLog.getId());
+            if (!StringUtils.hasText(detail.getTenantId())) {
+                detail.setTenantId(auditLog.getTenantId());
+            }
+            auditLogDetailMapper.insert(detail);
+        }
+    }
+
     /**
      * 验证审计日志数据
      */
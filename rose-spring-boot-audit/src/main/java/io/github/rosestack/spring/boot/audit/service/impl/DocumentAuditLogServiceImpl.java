@@ -0,0 +1,49 @@
+package io.github.rosestack.spring.boot.audit.service.impl;
+
+import io.github.rosestack.spring.boot.audit.entity.AuditLog;
+import io.github.rosestack.spring.boot.audit.entity.AuditLogDetail;
+import io.github.rosestack.spring.boot.audit.entity.AuditLogDetailDoc;
+import io.github.rosestack.spring.boot.audit.mapper.AuditLogDetailDocMapper;
+import io.github.rosestack.spring.boot.audit.mapper.AuditLogDetailMapper;
+import jakarta.validation.Validator;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.StringUtils;
+
+/**
+ * 文档布局审计日志服务实现类
+ *
+ * <p>主记录仍写入 audit_log，详情不再逐行写入 audit_log_detail，而是合并为一行 JSON 文档追加写入
+ * audit_log_detail_doc。每个审计事件的详情写入从 N 次 INSERT（每次维护外键与 11 个二级索引）降为 1 次 INSERT（仅维护主键）。
+ *
+ * @author chensoul
+ * @since 1.0.0
+ */
+@Slf4j
+public class DocumentAuditLogServiceImpl extends AuditLogServiceImpl {
+    private final AuditLogDetailDocMapper auditLogDetailDocMapper;
+
+    public DocumentAuditLogServiceImpl(
+            Validator validator,
+            AuditLogDetailMapper auditLogDetailMapper,
+            AuditLogDetailDocMapper auditLogDetailDocMapper) {
+        super(validator, auditLogDetailMapper);
+        this.auditLogDetailDocMapper = auditLogDetailDocMapper;
+    }
+
+    @Override
+    protected void saveAuditLogDetails(AuditLog auditLog, List<AuditLogDetail> auditLogDetails, int chunk) {
+        AuditLogDetailDoc doc = AuditLogDetailDoc.of(auditLog.getId(), auditLogDetails);
+        doc.setChunkNo(chunk);
+        if (!StringUtils.hasText(doc.getTenantId())) {
+            doc.setTenantId(auditLog.getTenantId());
+        }
+        if (doc.getCreatedTime() == null) {
+            doc.setCreatedTime(LocalDateTime.now());
+        }
+        auditLogDetailDocMapper.insert(doc);
+        log.debug(
+                "审计详情文档写入成功，审计日志ID: {}，分片: {}，详情条数: {}", auditLog.getId(), chunk, doc.getDetailCount());
+    }
+}
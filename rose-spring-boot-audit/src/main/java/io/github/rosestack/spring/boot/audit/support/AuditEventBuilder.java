@@ -3,6 +3,7 @@ package io.github.rosestack.spring.boot.audit.support;
 import io.github.rosestack.core.util.JsonUtils;
 import io.github.rosestack.core.util.SensitiveUtils;
 import io.github.rosestack.encrypt.FieldEncryptor;
+import io.github.rosestack.encrypt.enums.EncryptType;
 import io.github.rosestack.spring.boot.audit.annotation.Audit;
 import io.github.rosestack.spring.boot.audit.entity.AuditLog;
 import io.github.rosestack.spring.boot.audit.entity.AuditLogDetail;
@@ -11,6 +12,12 @@ import io.github.rosestack.spring.boot.audit.enums.AuditEventType;
 import io.github.rosestack.spring.boot.audit.enums.AuditRiskLevel;
 import io.github.rosestack.spring.boot.audit.enums.AuditStatus;
 import io.github.rosestack.spring.boot.audit.listener.AuditEvent;
+import io.github.rosestack.spring.boot.audit.support.change.DataChange;
+import io.github.rosestack.spring.boot.audit.support.change.RowChange;
+import io.github.rosestack.spring.boot.audit.support.metrics.AuditMetrics;
+import io.github.rosestack.spring.boot.audit.support.metrics.AuditStage;
+import io.github.rosestack.spring.boot.capture.InvocationCapture;
+import io.github.rosestack.spring.boot.capture.RequestSnapshot;
 import io.github.rosestack.spring.util.ServletUtils;
 import jakarta.servlet.http.HttpServletRequest;
 import java.lang.reflect.Method;
@@ -44,15 +51,43 @@ public class AuditEventBuilder {
             "secret",
             "key");
 
-    private final Audit audit;
+    private static final String WRAPPER_PARAMETERS = "paramNameValuePairs";
+
+    private final EncryptType encryptType;
     private final FieldEncryptor fieldEncryptor;
-    private final Set<String> maskFields = new LinkedHashSet<>();
+    private final AuditMetrics auditMetrics;
+    private final String[] maskFields;
+    private final Set<String> maskFieldNames;
 
     public AuditEventBuilder(Audit audit, FieldEncryptor fieldEncryptor) {
-        this.audit = audit;
-        this.maskFields.addAll(DEFAULT_MASK_FIELDS);
-        this.maskFields.addAll(Arrays.asList(audit.maskFields()));
+        this(audit, fieldEncryptor, AuditMetrics.NOOP);
+    }
+
+    public AuditEventBuilder(Audit audit, FieldEncryptor fieldEncryptor, AuditMetrics auditMetrics) {
+        this(audit.maskFields(), audit.encryptType(), fieldEncryptor, auditMetrics);
+    }
+
+    /**
+     * 不依赖 {@link Audit} 注解的构造函数，供编程式审计使用
+     *
+     * @param maskFields     额外的脱敏字段
+     * @param encryptType    加密类型
+     * @param fieldEncryptor 字段加密器
+     * @param auditMetrics   审计指标
+     */
+    public AuditEventBuilder(
+            String[] maskFields, EncryptType encryptType, FieldEncryptor fieldEncryptor, AuditMetrics auditMetrics) {
+        Set<String> fields = new LinkedHashSet<>(DEFAULT_MASK_FIELDS);
+        fields.addAll(Arrays.asList(maskFields));
+        // 脱敏字段只计算一次，避免每条详情重复转换数组
+        this.maskFields = fields.toArray(new String[0]);
+        this.maskFieldNames = new HashSet<>(fields.size() * 2);
+        for (String field : fields) {
+            maskFieldNames.add(field.toLowerCase(Locale.ROOT));
+        }
+        this.encryptType = encryptType;
         this.fieldEncryptor = fieldEncryptor;
+        this.auditMetrics = auditMetrics;
     }
 
     /**
@@ -213,6 +248,97 @@ public class AuditEventBuilder {
         return details;
     }
 
+    /**
+     * 构建数据变更详情：变更前数据、变更后数据、字段差异、SQL 语句与参数各一条
+     */
+    public List<AuditLogDetail> buildDataChangeDetails(Long auditLogId, List<DataChange> dataChanges) {
+        List<Map<String, Object>> before = new ArrayList<>();
+        List<Map<String, Object>> after = new ArrayList<>();
+        List<Map<String, Object>> diff = new ArrayList<>();
+        List<String> statements = new ArrayList<>();
+        List<Map<String, Object>> parameters = new ArrayList<>();
+
+        for (DataChange dataChange : dataChanges) {
+            for (RowChange row : dataChange.getRows()) {
+                if (!row.getBefore().isEmpty()) {
+                    before.add(rowSnapshot(dataChange, row.getId(), row.getBefore()));
+                }
+                if (!row.getAfter().isEmpty()) {
+                    after.add(rowSnapshot(dataChange, row.getId(), row.getAfter()));
+                }
+                Map<String, Object> fields = row.diff();
+                if (!fields.isEmpty()) {
+                    diff.add(rowSnapshot(dataChange, row.getId(), maskDiff(fields)));
+                }
+            }
+            if (dataChange.getSql() != null) {
+                statements.add(dataChange.getSql());
+                parameters.add(maskParameters(dataChange.getParameters()));
+            }
+        }
+
+        List<AuditLogDetail> details = new ArrayList<>(5);
+        if (!before.isEmpty()) {
+            details.add(createDetail(auditLogId, AuditDetailKey.DATA_CHANGE_BEFORE, before));
+        }
+        if (!after.isEmpty()) {
+            details.add(createDetail(auditLogId, AuditDetailKey.DATA_CHANGE_AFTER, after));
+        }
+        if (!diff.isEmpty()) {
+            details.add(createDetail(auditLogId, AuditDetailKey.DATA_CHANGE_DIFF, diff));
+        }
+        if (!statements.isEmpty()) {
+            details.add(createDetail(auditLogId, AuditDetailKey.SQL_STATEMENT, statements));
+            details.add(createDetail(auditLogId, AuditDetailKey.SQL_PARAMETERS, parameters));
+        }
+        return details;
+    }
+
+    /**
+     * 差异以 {字段 -> {before, after}} 保存，通用脱敏只匹配键名、不会处理内层的 before/after，因此按字段名逐项脱敏
+     */
+    private Map<String, Object> maskDiff(Map<String, Object> diff) {
+        diff.replaceAll((field, pair) -> {
+            if (!isMaskField(field)) {
+                return pair;
+            }
+            Map<String, Object> masked = new LinkedHashMap<>(4);
+            masked.put("before", SensitiveUtils.MASKED);
+            masked.put("after", SensitiveUtils.MASKED);
+            return masked;
+        });
+        return diff;
+    }
+
+    /**
+     * 按参数属性名的最后一段（如 {@code et.password} 的 {@code password}）脱敏；Wrapper 条件生成的参数
+     * （{@code ew.paramNameValuePairs.MPGENVAL1}）无法对应到列，一律脱敏
+     */
+    private Map<String, Object> maskParameters(Map<String, Object> parameters) {
+        if (parameters == null) {
+            return null;
+        }
+        Map<String, Object> masked = new LinkedHashMap<>(parameters);
+        masked.replaceAll((name, value) -> {
+            String property = name.substring(name.lastIndexOf('.') + 1);
+            return name.contains(WRAPPER_PARAMETERS) || isMaskField(property) ? SensitiveUtils.MASKED : value;
+        });
+        return masked;
+    }
+
+    private boolean isMaskField(String name) {
+        return maskFieldNames.contains(name.toLowerCase(Locale.ROOT));
+    }
+
+    private Map<String, Object> rowSnapshot(DataChange dataChange, Object id, Map<String, Object> values) {
+        Map<String, Object> snapshot = new LinkedHashMap<>(8);
+        snapshot.put("table", dataChange.getTable());
+        snapshot.put("operation", dataChange.getOperation());
+        snapshot.put("id", id);
+        snapshot.put("values", values);
+        return snapshot;
+    }
+
     /**
      * 获取操作名称
      */
@@ -267,7 +393,19 @@ public class AuditEventBuilder {
     /**
      * 设置HTTP信息
      */
-    private void setHttpInfo(AuditLog auditLog) {
+    public void setHttpInfo(AuditLog auditLog) {
+        // 优先使用当前调用已采集的请求快照，避免与 @SysLog 重复解析请求
+        InvocationCapture capture = InvocationCapture.current();
+        RequestSnapshot snapshot = capture == null ? null : capture.getRequest();
+        if (snapshot != null) {
+            auditLog.setRequestUri(snapshot.getRequestUri());
+            auditLog.setHttpMethod(snapshot.getMethod());
+            auditLog.setClientIp(snapshot.getClientIp());
+            auditLog.setUserAgent(snapshot.getUserAgent());
+            auditLog.setSessionId(snapshot.getSessionId());
+            return;
+        }
+
         HttpServletRequest request = ServletUtils.getCurrentRequest();
         if (request != null) {
             auditLog.setRequestUri(request.getRequestURI());
@@ -286,17 +424,22 @@ public class AuditEventBuilder {
                 .isEncrypted(detailKey.isEncrypted())
                 .build();
 
+        long serializeStart = System.nanoTime();
         if (detailKey.isSensitive()) {
             auditLogDetail.setDetailValue(JsonUtils.toString(
-                    SensitiveUtils.maskSensitiveFields(detailValue, maskFields.toArray(new String[] {}))));
+                    SensitiveUtils.maskSensitiveFields(detailValue, maskFields)));
             auditLogDetail.setIsSensitive(auditLogDetail.getDetailValue().contains(SensitiveUtils.MASKED));
         } else {
+            auditLogDetail.setDetailValue(JsonUtils.toString(detailValue));
             auditLogDetail.setIsSensitive(false);
         }
+        auditMetrics.recordStage(AuditStage.SERIALIZE, System.nanoTime() - serializeStart);
 
         if (detailKey.isEncrypted()) {
-            auditLogDetail.setDetailValue(fieldEncryptor.decrypt(auditLogDetail.getDetailValue(), audit.encryptType()));
+            long encryptStart = System.nanoTime();
+            auditLogDetail.setDetailValue(fieldEncryptor.encrypt(auditLogDetail.getDetailValue(), encryptType));
             auditLogDetail.setIsEncrypted(true);
+            auditMetrics.recordStage(AuditStage.ENCRYPT, System.nanoTime() - encryptStart);
         } else {
             auditLogDetail.setIsEncrypted(false);
         }
@@ -0,0 +1,42 @@
+package io.github.rosestack.spring.boot.audit.support.change;
+
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 单条 SQL 语句产生的数据变更
+ *
+ * @author chensoul
+ * @since 1.0.0
+ */
+@Getter
+@RequiredArgsConstructor
+public class DataChange {
+
+    /**
+     * 表名
+     */
+    private final String table;
+
+    /**
+     * 操作类型：INSERT、UPDATE、DELETE
+     */
+    private final String operation;
+
+    /**
+     * 执行的 SQL 语句，未开启 SQL 记录时为 null
+     */
+    private final String sql;
+
+    /**
+     * SQL 参数（MyBatis 参数属性名 -> 绑定值，按占位符顺序），未开启 SQL 记录时为 null
+     */
+    private final Map<String, Object> parameters;
+
+    /**
+     * 行级变更
+     */
+    private final List<RowChange> rows;
+}
@@ -0,0 +1,63 @@
+package io.github.rosestack.spring.boot.audit.support.change;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 数据变更采集上下文
+ *
+ * <p>由 {@code @Audit(recordDataChange = true)} 的切面在方法执行前开启、执行后关闭；{@link DataChangeInterceptor}
+ * 只在上下文开启时采集变更，其余 SQL 不受影响。嵌套的审计方法共用最外层的上下文，变更归属最外层审计事件。
+ *
+ * @author chensoul
+ * @since 1.0.0
+ */
+public final class DataChangeContext {
+    private static final ThreadLocal<DataChangeContext> HOLDER = new ThreadLocal<>();
+
+    private final List<DataChange> changes = new ArrayList<>();
+    private int depth;
+
+    private DataChangeContext() {}
+
+    /**
+     * 开启（或进入已开启的）采集上下文
+     */
+    public static void open() {
+        DataChangeContext context = HOLDER.get();
+        if (context == null) {
+            context = new DataChangeContext();
+            HOLDER.set(context);
+        }
+        context.depth++;
+    }
+
+    /**
+     * 退出采集上下文
+     *
+     * @return 最外层退出时返回采集到的变更，否则返回空列表
+     */
+    public static List<DataChange> close() {
+        DataChangeContext context = HOLDER.get();
+        if (context == null) {
+            return Collections.emptyList();
+        }
+        if (--context.depth > 0) {
+            return Collections.emptyList();
+        }
+        HOLDER.remove();
+        return context.changes;
+    }
+
+    /**
+     * 当前线程的采集上下文，未开启时为 null
+     */
+    public static DataChangeContext current() {
+        return HOLDER.get();
+    }
+
+    void add(DataChange change) {
+        changes.add(change);
+    }
+}
@@ -0,0 +1,363 @@
+package io.github.rosestack.spring.boot.audit.support.change;
+
+import com.baomidou.mybatisplus.core.metadata.TableFieldInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import io.github.rosestack.spring.boot.audit.config.AuditProperties;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.ParameterMode;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.session.Configuration;
+
+/**
+ * 数据变更采集拦截器
+ *
+ * <p>只在 {@link DataChangeContext} 开启时工作，采集 MyBatis-Plus 实体表上的 INSERT/UPDATE/DELETE：
+ *
+ * <ul>
+ *   <li>变更前数据：每条语句从参数中收集全部主键，执行一次 {@code SELECT ... WHERE id IN (...)}，更新操作只查询实体中非空（即将更新）的列
+ *   <li>字段级差异：通过 {@link EntityAccessor} 读取实体属性，与变更前数据逐字段比较，只保留发生变化的字段；
+ *       自动填充的列不参与比较
+ *   <li>SQL 语句与参数：可通过 {@code rose.audit.data-change.record-sql} 关闭
+ * </ul>
+ *
+ * <p>仅基于 Wrapper 条件、无法从参数确定主键的更新/删除只记录 SQL，不采集行级变更。使用 BatchExecutor 时，变更前数据读取的是已提交到数据库的状态。
+ *
+ * @author chensoul
+ * @since 1.0.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Intercepts(
+        @Signature(
+                type = Executor.class,
+                method = "update",
+                args = {MappedStatement.class, Object.class}))
+public class DataChangeInterceptor implements Interceptor {
+    private static final String PARAM_ENTITY = "et";
+    private static final String[] PARAM_COLLECTIONS = {"coll", "collection", "list", "array"};
+
+    private final AuditProperties.DataChange properties;
+    private final Map<String, Optional<TableInfo>> tableInfoCache = new ConcurrentHashMap<>();
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        DataChangeContext context = DataChangeContext.current();
+        if (context == null) {
+            return invocation.proceed();
+        }
+
+        MappedStatement ms = (MappedStatement) invocation.getArgs()[0];
+        Object parameter = invocation.getArgs()[1];
+        SqlCommandType commandType = ms.getSqlCommandType();
+        if (commandType != SqlCommandType.INSERT
+                && commandType != SqlCommandType.UPDATE
+                && commandType != SqlCommandType.DELETE) {
+            return invocation.proceed();
+        }
+        TableInfo tableInfo = resolveTableInfo(ms);
+        if (tableInfo == null || !tableInfo.havePK()) {
+            return invocation.proceed();
+        }
+
+        Pending pending = null;
+        try {
+            pending = prepare((Executor) invocation.getTarget(), tableInfo, commandType, parameter);
+        } catch (Exception e) {
+            log.warn("采集变更前数据失败，语句: {}，错误: {}", ms.getId(), e.getMessage());
+        }
+
+        Object result = invocation.proceed();
+
+        if (pending != null) {
+            try {
+                context.add(complete(ms, parameter, pending));
+            } catch (Exception e) {
+                log.warn("采集数据变更失败，语句: {}，错误: {}", ms.getId(), e.getMessage());
+            }
+        }
+        return result;
+    }
+
+    private Pending prepare(Executor executor, TableInfo tableInfo, SqlCommandType commandType, Object parameter)
+            throws SQLException {
+        List<Object> entities = new ArrayList<>();
+        List<Object> ids = new ArrayList<>();
+        collect(parameter, tableInfo, entities, ids);
+
+        EntityAccessor accessor = EntityAccessor.of(tableInfo.getEntityType());
+        // 逻辑删除表的 deleteById/deleteByIds 是只带主键的 UPDATE，按删除处理
+        String operation = commandType == SqlCommandType.UPDATE && entities.isEmpty() && !ids.isEmpty()
+                ? SqlCommandType.DELETE.name()
+                : commandType.name();
+        Pending pending = new Pending(tableInfo, accessor, operation, entities);
+        if (commandType == SqlCommandType.INSERT) {
+            return pending;
+        }
+
+        for (Object entity : entities) {
+            Object id = accessor.get(entity, tableInfo.getKeyProperty());
+            if (id != null) {
+                ids.add(id);
+            }
+        }
+        if (ids.isEmpty()) {
+            return pending;
+        }
+        if (ids.size() > properties.getMaxRows()) {
+            log.debug("变更行数 {} 超过上限 {}，跳过变更前数据采集: {}", ids.size(), properties.getMaxRows(), tableInfo.getTableName());
+            return pending;
+        }
+
+        List<TableFieldInfo> columns = entities.isEmpty() ? tableInfo.getFieldList() : nonNullFields(pending);
+        pending.ids = ids;
+        pending.properties = new HashSet<>(columns.size() * 2);
+        for (TableFieldInfo column : columns) {
+            pending.properties.add(column.getProperty());
+        }
+        pending.before = selectBefore(executor.getTransaction().getConnection(), tableInfo, columns, ids);
+        return pending;
+    }
+
+    private DataChange complete(MappedStatement ms, Object parameter, Pending pending) {
+        TableInfo tableInfo = pending.tableInfo;
+        EntityAccessor accessor = pending.accessor;
+        List<RowChange> rows = new ArrayList<>();
+
+        if (!pending.entities.isEmpty()) {
+            for (Object entity : pending.entities) {
+                Object id = accessor.get(entity, tableInfo.getKeyProperty());
+                if (id == null && SqlCommandType.UPDATE.name().equals(pending.operation)) {
+                    // update(entity, wrapper) 的实体不带主键，无法对应到行，只记录 SQL
+                    continue;
+                }
+                Map<String, Object> after = values(entity, accessor, tableInfo);
+                Map<String, Object> before = id == null ? null : pending.before.get(String.valueOf(id));
+                if (before == null) {
+                    rows.add(new RowChange(id, null, after));
+                    continue;
+                }
+                Map<String, Object> changedBefore = new LinkedHashMap<>();
+                Map<String, Object> changedAfter = new LinkedHashMap<>();
+                for (Map.Entry<String, Object> entry : after.entrySet()) {
+                    // 只比较执行前实体已设置的列；执行时由填充处理器写入的列（更新时间、操作人等）不计入差异
+                    if (!pending.properties.contains(entry.getKey())) {
+                        continue;
+                    }
+                    Object old = before.get(entry.getKey());
+                    if (!valueEquals(old, entry.getValue())) {
+                        changedBefore.put(entry.getKey(), old);
+                        changedAfter.put(entry.getKey(), entry.getValue());
+                    }
+                }
+                RowChange row = new RowChange(id, changedBefore, changedAfter);
+                if (!row.isEmpty()) {
+                    rows.add(row);
+                }
+            }
+        } else {
+            for (Object id : pending.ids) {
+                Map<String, Object> before = pending.before.get(String.valueOf(id));
+                if (before != null) {
+                    rows.add(new RowChange(id, before, null));
+                }
+            }
+        }
+
+        String sql = null;
+        Map<String, Object> parameters = null;
+        if (properties.isRecordSql()) {
+            BoundSql boundSql = ms.getBoundSql(parameter);
+            sql = boundSql.getSql().replaceAll("\\s+", " ").trim();
+            parameters = parameterValues(ms.getConfiguration(), boundSql, parameter);
+        }
+        return new DataChange(tableInfo.getTableName(), pending.operation, sql, parameters, rows);
+    }
+
+    /**
+     * 从语句参数中收集实体与主键：实体本身、MyBatis-Plus 的 et 参数、集合参数（实体或主键）以及单个主键
+     */
+    private void collect(Object parameter, TableInfo tableInfo, List<Object> entities, List<Object> ids) {
+        if (parameter == null) {
+            return;
+        }
+        Class<?> entityType = tableInfo.getEntityType();
+        if (entityType.isInstance(parameter)) {
+            entities.add(parameter);
+        } else if (parameter instanceof Map<?, ?> map) {
+            if (map.containsKey(PARAM_ENTITY) && entityType.isInstance(map.get(PARAM_ENTITY))) {
+                entities.add(map.get(PARAM_ENTITY));
+                return;
+            }
+            for (String name : PARAM_COLLECTIONS) {
+                if (map.containsKey(name)) {
+                    collectAll(map.get(name), entityType, entities, ids);
+                    return;
+                }
+            }
+        } else if (parameter instanceof Collection<?> || parameter.getClass().isArray()) {
+            collectAll(parameter, entityType, entities, ids);
+        } else if (tableInfo.getKeyType() != null && tableInfo.getKeyType().isInstance(parameter)) {
+            ids.add(parameter);
+        }
+    }
+
+    private void collectAll(Object values, Class<?> entityType, List<Object> entities, List<Object> ids) {
+        Iterable<?> iterable = values instanceof Object[] array ? Arrays.asList(array) : (Iterable<?>) values;
+        for (Object value : iterable) {
+            if (entityType.isInstance(value)) {
+                entities.add(value);
+            } else if (value != null) {
+                ids.add(value);
+            }
+        }
+    }
+
+    private List<TableFieldInfo> nonNullFields(Pending pending) {
+        List<TableFieldInfo> fields = new ArrayList<>();
+        for (TableFieldInfo field : pending.tableInfo.getFieldList()) {
+            for (Object entity : pending.entities) {
+                if (pending.accessor.get(entity, field.getProperty()) != null) {
+                    fields.add(field);
+                    break;
+                }
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * 一次查询加载全部变更前数据，结果按主键字符串索引
+     */
+    private Map<String, Map<String, Object>> selectBefore(
+            Connection connection, TableInfo tableInfo, List<TableFieldInfo> fields, List<Object> ids)
+            throws SQLException {
+        StringBuilder sql = new StringBuilder("SELECT ").append(tableInfo.getKeyColumn());
+        for (TableFieldInfo field : fields) {
+            sql.append(", ").append(field.getColumn());
+        }
+        sql.append(" FROM ").append(tableInfo.getTableName()).append(" WHERE ").append(tableInfo.getKeyColumn());
+        sql.append(" IN (").append(String.join(", ", Collections.nCopies(ids.size(), "?"))).append(')');
+
+        Map<String, Map<String, Object>> rows = new HashMap<>(ids.size() * 2);
+        try (PreparedStatement ps = connection.prepareStatement(sql.toString())) {
+            for (int i = 0; i < ids.size(); i++) {
+                ps.setObject(i + 1, ids.get(i));
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    for (int i = 0; i < fields.size(); i++) {
+                        TableFieldInfo field = fields.get(i);
+                        Object value = readColumn(rs, i + 2, field.getPropertyType());
+                        if (value != null) {
+                            row.put(field.getProperty(), value);
+                        }
+                    }
+                    rows.put(String.valueOf(readColumn(rs, 1, tableInfo.getKeyType())), row);
+                }
+            }
+        }
+        return rows;
+    }
+
+    private Object readColumn(ResultSet rs, int index, Class<?> type) throws SQLException {
+        if (type != null && type != Object.class && !type.isPrimitive()) {
+            try {
+                return rs.getObject(index, type);
+            } catch (SQLException | RuntimeException e) {
+                // 驱动不支持目标类型转换时退回默认映射
+            }
+        }
+        return rs.getObject(index);
+    }
+
+    private Map<String, Object> values(Object entity, EntityAccessor accessor, TableInfo tableInfo) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (TableFieldInfo field : tableInfo.getFieldList()) {
+            Object value = accessor.get(entity, field.getProperty());
+            if (value != null) {
+                values.put(field.getProperty(), value);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * 按 {@link ParameterMapping#getProperty()} 记录绑定值，审计时据此按属性名脱敏
+     */
+    private Map<String, Object> parameterValues(Configuration configuration, BoundSql boundSql, Object parameter) {
+        List<ParameterMapping> mappings = boundSql.getParameterMappings();
+        Map<String, Object> values = new LinkedHashMap<>(mappings.size() * 2);
+        MetaObject metaObject = null;
+        for (ParameterMapping mapping : mappings) {
+            if (mapping.getMode() == ParameterMode.OUT) {
+                continue;
+            }
+            String name = mapping.getProperty();
+            if (boundSql.hasAdditionalParameter(name)) {
+                values.put(name, boundSql.getAdditionalParameter(name));
+            } else if (parameter == null) {
+                values.put(name, null);
+            } else if (configuration.getTypeHandlerRegistry().hasTypeHandler(parameter.getClass())) {
+                values.put(name, parameter);
+            } else {
+                if (metaObject == null) {
+                    metaObject = configuration.newMetaObject(parameter);
+                }
+                values.put(name, metaObject.getValue(name));
+            }
+        }
+        return values;
+    }
+
+    private static boolean valueEquals(Object before, Object after) {
+        if (before instanceof BigDecimal b && after instanceof BigDecimal a) {
+            return b.compareTo(a) == 0;
+        }
+        return Objects.equals(before, after);
+    }
+
+    private TableInfo resolveTableInfo(MappedStatement ms) {
+        String namespace = ms.getId().substring(0, ms.getId().lastIndexOf('.'));
+        return tableInfoCache
+                .computeIfAbsent(namespace, key -> TableInfoHelper.getTableInfos().stream()
+                        .filter(info -> key.equals(info.getCurrentNamespace()))
+                        .findFirst())
+                .orElse(null);
+    }
+
+    private static final class Pending {
+        private final TableInfo tableInfo;
+        private final EntityAccessor accessor;
+        private final String operation;
+        private final List<Object> entities;
+        private List<Object> ids = Collections.emptyList();
+        private Set<String> properties = Collections.emptySet();
+        private Map<String, Map<String, Object>> before = Collections.emptyMap();
+
+        private Pending(TableInfo tableInfo, EntityAccessor accessor, String operation, List<Object> entities) {
+            this.tableInfo = tableInfo;
+            this.accessor = accessor;
+            this.operation = operation;
+            this.entities = entities;
+        }
+    }
+}
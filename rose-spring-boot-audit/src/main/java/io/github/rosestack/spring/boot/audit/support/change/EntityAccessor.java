@@ -0,0 +1,108 @@
+package io.github.rosestack.spring.boot.audit.support.change;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.ClassUtils;
+
+/**
+ * 实体属性读取器
+ *
+ * <p>每个实体类只解析一次（{@link ClassValue} 缓存），getter 通过 {@link LambdaMetafactory} 生成 {@link Function}，
+ * 读取开销与直接调用接近；无法生成时（如实体与本类不在同一模块/类加载器）退化为 {@link MethodHandle} 调用。
+ *
+ * @author chensoul
+ * @since 1.0.0
+ */
+@Slf4j
+public final class EntityAccessor {
+    private static final ClassValue<EntityAccessor> CACHE = new ClassValue<>() {
+        @Override
+        protected EntityAccessor computeValue(Class<?> type) {
+            return new EntityAccessor(type);
+        }
+    };
+
+    private final Map<String, Function<Object, Object>> getters;
+
+    private EntityAccessor(Class<?> type) {
+        Map<String, Function<Object, Object>> map = new HashMap<>();
+        MethodHandles.Lookup lookup = lookup(type);
+        for (PropertyDescriptor descriptor : BeanUtils.getPropertyDescriptors(type)) {
+            Method readMethod = descriptor.getReadMethod();
+            if (readMethod == null || readMethod.getDeclaringClass() == Object.class) {
+                continue;
+            }
+            Function<Object, Object> getter = createGetter(lookup, type, readMethod);
+            if (getter != null) {
+                map.put(descriptor.getName(), getter);
+            }
+        }
+        this.getters = Collections.unmodifiableMap(map);
+    }
+
+    public static EntityAccessor of(Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    /**
+     * 读取属性值，属性不存在时返回 null
+     *
+     * @param entity   实体
+     * @param property 属性名
+     * @return 属性值
+     */
+    public Object get(Object entity, String property) {
+        Function<Object, Object> getter = getters.get(property);
+        return getter == null ? null : getter.apply(entity);
+    }
+
+    private static MethodHandles.Lookup lookup(Class<?> type) {
+        try {
+            return MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+        } catch (IllegalAccessException e) {
+            return MethodHandles.publicLookup();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> createGetter(MethodHandles.Lookup lookup, Class<?> type, Method method) {
+        MethodHandle handle;
+        try {
+            handle = lookup.unreflect(method);
+        } catch (IllegalAccessException e) {
+            log.debug("无法访问属性读取方法: {}.{}", type.getName(), method.getName());
+            return null;
+        }
+
+        try {
+            CallSite site = LambdaMetafactory.metafactory(
+                    lookup,
+                    "apply",
+                    MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class),
+                    handle,
+                    MethodType.methodType(ClassUtils.resolvePrimitiveIfNecessary(method.getReturnType()), type));
+            return (Function<Object, Object>) site.getTarget().invokeExact();
+        } catch (Throwable e) {
+            MethodHandle generic = handle.asType(MethodType.methodType(Object.class, Object.class));
+            return entity -> {
+                try {
+                    return generic.invokeExact(entity);
+                } catch (Throwable ex) {
+                    throw new IllegalStateException("读取属性失败: " + method.getName(), ex);
+                }
+            };
+        }
+    }
+}
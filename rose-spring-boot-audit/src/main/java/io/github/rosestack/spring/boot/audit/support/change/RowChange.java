@@ -0,0 +1,62 @@
+package io.github.rosestack.spring.boot.audit.support.change;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+
+/**
+ * 单行数据变更
+ *
+ * <p>更新操作只保存发生变化的字段；新增只有变更后数据，删除只有变更前数据。
+ *
+ * @author chensoul
+ * @since 1.0.0
+ */
+@Getter
+public class RowChange {
+
+    /**
+     * 主键值
+     */
+    private final Object id;
+
+    /**
+     * 变更前数据（属性名 -> 值）
+     */
+    private final Map<String, Object> before;
+
+    /**
+     * 变更后数据（属性名 -> 值）
+     */
+    private final Map<String, Object> after;
+
+    public RowChange(Object id, Map<String, Object> before, Map<String, Object> after) {
+        this.id = id;
+        this.before = before == null ? Collections.emptyMap() : before;
+        this.after = after == null ? Collections.emptyMap() : after;
+    }
+
+    /**
+     * 字段级差异（属性名 -> {before, after}），仅对同时存在变更前后数据的字段有意义
+     */
+    public Map<String, Object> diff() {
+        Map<String, Object> diff = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : after.entrySet()) {
+            if (before.containsKey(entry.getKey())) {
+                Map<String, Object> pair = new LinkedHashMap<>(4);
+                pair.put("before", before.get(entry.getKey()));
+                pair.put("after", entry.getValue());
+                diff.put(entry.getKey(), pair);
+            }
+        }
+        return diff;
+    }
+
+    /**
+     * 是否没有任何字段变化
+     */
+    public boolean isEmpty() {
+        return before.isEmpty() && after.isEmpty();
+    }
+}
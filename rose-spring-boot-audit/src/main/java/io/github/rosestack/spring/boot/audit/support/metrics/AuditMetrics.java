@@ -0,0 +1,55 @@
+package io.github.rosestack.spring.boot.audit.support.metrics;
+
+/**
+ * 审计管道指标
+ *
+ * <p>审计各阶段通过此接口上报耗时与计数，未引入 Micrometer 时使用 {@link #NOOP}。
+ *
+ * @author chensoul
+ * @since 1.0.0
+ */
+public interface AuditMetrics {
+
+    /**
+     * 不记录任何指标
+     */
+    AuditMetrics NOOP = new AuditMetrics() {};
+
+    /**
+     * 记录阶段耗时
+     *
+     * @param stage 阶段
+     * @param nanos 耗时（纳秒）
+     */
+    default void recordStage(AuditStage stage, long nanos) {}
+
+    /**
+     * 记录一次批量写入的批大小
+     *
+     * @param size 批大小
+     */
+    default void recordBatch(int size) {}
+
+    /**
+     * 记录数据库写入耗时
+     *
+     * @param nanos   耗时（纳秒）
+     * @param success 是否成功
+     */
+    default void recordWrite(long nanos, boolean success) {}
+
+    /**
+     * 记录丢弃的事件
+     *
+     * @param reason 丢弃原因
+     * @param count  事件数
+     */
+    default void recordDropped(String reason, int count) {}
+
+    /**
+     * 记录重试
+     *
+     * @param reason 重试原因
+     */
+    default void recordRetried(String reason) {}
+}
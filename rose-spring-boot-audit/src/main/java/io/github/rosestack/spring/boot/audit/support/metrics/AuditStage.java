@@ -0,0 +1,47 @@
+package io.github.rosestack.spring.boot.audit.support.metrics;
+
+import lombok.Getter;
+
+/**
+ * 审计处理阶段
+ *
+ * @author chensoul
+ * @since 1.0.0
+ */
+@Getter
+public enum AuditStage {
+
+    /**
+     * 请求线程上的审计总开销（条件评估 + 构建 + 发布）
+     */
+    CAPTURE("capture"),
+
+    /**
+     * 构建审计事件（主记录 + 详情）
+     */
+    BUILD("build"),
+
+    /**
+     * 详情值脱敏与 JSON 序列化
+     */
+    SERIALIZE("serialize"),
+
+    /**
+     * 详情值加密
+     */
+    ENCRYPT("encrypt"),
+
+    /**
+     * 批量持久化（含重试）
+     */
+    PERSIST("persist");
+
+    /**
+     * 指标标签值
+     */
+    private final String tag;
+
+    AuditStage(String tag) {
+        this.tag = tag;
+    }
+}
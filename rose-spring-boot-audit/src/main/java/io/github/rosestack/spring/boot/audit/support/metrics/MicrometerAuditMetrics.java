@@ -0,0 +1,102 @@
+package io.github.rosestack.spring.boot.audit.support.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基于 Micrometer 的审计管道指标
+ *
+ * <ul>
+ *   <li>{@code rose.audit.stage}：各阶段耗时，标签 stage
+ *   <li>{@code rose.audit.batch.size}：批量写入批大小分布
+ *   <li>{@code rose.audit.storage.write}：数据库写入耗时直方图，标签 outcome
+ *   <li>{@code rose.audit.events.dropped}：丢弃事件数，标签 reason
+ *   <li>{@code rose.audit.events.retried}：重试次数，标签 reason
+ * </ul>
+ *
+ * @author chensoul
+ * @since 1.0.0
+ */
+public class MicrometerAuditMetrics implements AuditMetrics {
+    private static final String METRIC_BASE = "rose.audit";
+
+    private final MeterRegistry registry;
+    private final Map<AuditStage, Timer> stageTimers = new EnumMap<>(AuditStage.class);
+    private final DistributionSummary batchSize;
+    private final Timer writeSuccess;
+    private final Timer writeFailure;
+    /**
+     * 按 reason 缓存的计数器，避免每次记录都经过注册表查找
+     */
+    private final Map<String, Counter> droppedCounters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> retriedCounters = new ConcurrentHashMap<>();
+
+    public MicrometerAuditMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        for (AuditStage stage : AuditStage.values()) {
+            Timer.Builder builder = Timer.builder(METRIC_BASE + ".stage")
+                    .description("Audit pipeline stage duration")
+                    .tag("stage", stage.getTag());
+            if (stage == AuditStage.PERSIST) {
+                builder.publishPercentileHistogram();
+            }
+            stageTimers.put(stage, builder.register(registry));
+        }
+        this.batchSize = DistributionSummary.builder(METRIC_BASE + ".batch.size")
+                .description("Audit events persisted per batch")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.writeSuccess = writeTimer("success");
+        this.writeFailure = writeTimer("failure");
+    }
+
+    @Override
+    public void recordStage(AuditStage stage, long nanos) {
+        stageTimers.get(stage).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordBatch(int size) {
+        batchSize.record(size);
+    }
+
+    @Override
+    public void recordWrite(long nanos, boolean success) {
+        (success ? writeSuccess : writeFailure).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordDropped(String reason, int count) {
+        counter(droppedCounters, reason, ".events.dropped", "Audit events dropped").increment(count);
+    }
+
+    @Override
+    public void recordRetried(String reason) {
+        counter(retriedCounters, reason, ".events.retried", "Audit batch write retries").increment();
+    }
+
+    private Counter counter(Map<String, Counter> counters, String reason, String name, String description) {
+        Counter counter = counters.get(reason);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(reason, key -> Counter.builder(METRIC_BASE + name)
+                    .description(description)
+                    .tag("reason", key)
+                    .register(registry));
+        }
+        return counter;
+    }
+
+    private Timer writeTimer(String outcome) {
+        return Timer.builder(METRIC_BASE + ".storage.write")
+                .description("Audit storage write latency")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
@@ -0,0 +1,355 @@
+package io.github.rosestack.spring.boot.audit.support.pipeline;
+
+import io.github.rosestack.spring.boot.audit.config.AuditProperties;
+import io.github.rosestack.spring.boot.audit.listener.AuditEvent;
+import io.github.rosestack.spring.boot.audit.support.metrics.AuditMetrics;
+import io.github.rosestack.spring.boot.audit.support.metrics.AuditStage;
+import io.github.rosestack.spring.boot.audit.support.storage.AuditStorage;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * 审计事件写入管道
+ *
+ * <p>请求线程只负责把 {@link AuditEvent} 放入有界队列；单个后台线程按批大小或批次等待时间攒批，调用
+ * {@link AuditStorage#saveAuditLogs(List)} 写入。写入失败按配置重试，重试耗尽后逐条写入以隔离问题事件，仍失败的事件被丢弃并计数。
+ * 队列满时新事件直接丢弃，不阻塞业务线程。
+ *
+ * <p>支持运行时暂停/恢复写入（事件继续入队，直到队列满），停机时在超时时间内排空队列。
+ *
+ * @author chensoul
+ * @since 1.0.0
+ */
+@Slf4j
+public class AuditPipeline implements SmartLifecycle {
+    public static final String REASON_QUEUE_FULL = "queue_full";
+    public static final String REASON_STORAGE_ERROR = "storage_error";
+    public static final String REASON_SHUTDOWN = "shutdown";
+
+    private final AuditStorage auditStorage;
+    private final AuditMetrics auditMetrics;
+    private final AuditProperties.Pipeline properties;
+    private final BlockingQueue<Entry> queue;
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder persisted = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+
+    private volatile boolean running;
+    private volatile boolean paused;
+    private volatile long lastFlushTime;
+    private volatile String lastError;
+    private Thread drainer;
+
+    public AuditPipeline(AuditStorage auditStorage, AuditMetrics auditMetrics, AuditProperties.Pipeline properties) {
+        this.auditStorage = auditStorage;
+        this.auditMetrics = auditMetrics;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+    }
+
+    /**
+     * 提交审计事件，不阻塞
+     *
+     * @param auditEvent 审计事件
+     * @return 是否入队成功
+     */
+    public boolean offer(AuditEvent auditEvent) {
+        if (!queue.offer(new Entry(auditEvent, System.nanoTime()))) {
+            drop(REASON_QUEUE_FULL, 1);
+            return false;
+        }
+        accepted.increment();
+        return true;
+    }
+
+    /**
+     * 提交审计事件，队列满时最多等待指定时间，用于批量审计等可接受背压的场景
+     *
+     * @param auditEvent 审计事件
+     * @param timeout    最长等待时间
+     * @return 是否入队成功
+     */
+    public boolean offer(AuditEvent auditEvent, Duration timeout) {
+        try {
+            if (!queue.offer(new Entry(auditEvent, System.nanoTime()), timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                drop(REASON_QUEUE_FULL, 1);
+                return false;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            drop(REASON_QUEUE_FULL, 1);
+            return false;
+        }
+        accepted.increment();
+        return true;
+    }
+
+    /**
+     * 暂停写入存储，事件继续入队
+     */
+    public void pause() {
+        paused = true;
+        log.warn("审计写入管道已暂停，队列深度: {}", queue.size());
+    }
+
+    /**
+     * 恢复写入存储
+     */
+    public void resume() {
+        paused = false;
+        LockSupport.unpark(drainer);
+        log.info("审计写入管道已恢复，队列深度: {}", queue.size());
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * 当前队列深度
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * 队首（最早入队）事件的等待时长（毫秒），队列为空时为 0
+     */
+    public long getOldestEventAgeMillis() {
+        Entry head = queue.peek();
+        return head == null ? 0 : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - head.enqueueNanos);
+    }
+
+    /**
+     * 已入队的事件数
+     */
+    public long getAcceptedCount() {
+        return accepted.sum();
+    }
+
+    /**
+     * 已处理完成（写入成功或写入失败后丢弃）的入队事件数，与 {@link #getAcceptedCount()} 相等时表示入队事件均已处理
+     */
+    public long getProcessedCount() {
+        return processed.sum();
+    }
+
+    /**
+     * 管道运行状态快照
+     */
+    public Map<String, Object> getState() {
+        Map<String, Object> state = new LinkedHashMap<>();
+        state.put("running", running);
+        state.put("paused", paused);
+        state.put("queueDepth", queue.size());
+        state.put("queueCapacity", properties.getQueueCapacity());
+        state.put("oldestEventAgeMs", getOldestEventAgeMillis());
+        state.put("batchSize", properties.getBatchSize());
+        state.put("flushInterval", properties.getFlushInterval().toString());
+        state.put("accepted", accepted.sum());
+        state.put("processed", processed.sum());
+        state.put("persisted", persisted.sum());
+        state.put("dropped", dropped.sum());
+        state.put("retried", retried.sum());
+        state.put("batches", batches.sum());
+        state.put("lastFlushTime", lastFlushTime == 0 ? null : Instant.ofEpochMilli(lastFlushTime).toString());
+        state.put("lastError", lastError);
+        return state;
+    }
+
+    @Override
+    public void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        drainer = new Thread(this::drainLoop, "rose-audit-pipeline");
+        drainer.setDaemon(true);
+        drainer.start();
+        log.info(
+                "审计写入管道已启动，队列容量: {}，批大小: {}，批次等待时间: {}",
+                properties.getQueueCapacity(),
+                properties.getBatchSize(),
+                properties.getFlushInterval());
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(drainer);
+        try {
+            drainer.join(properties.getShutdownTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<Entry> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            drop(REASON_SHUTDOWN, remaining.size());
+            processed.add(remaining.size());
+            log.warn("审计写入管道停机超时，丢弃未写入事件: {}", remaining.size());
+        }
+        log.info("审计写入管道已停止");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void drainLoop() {
+        List<Entry> batch = new ArrayList<>(properties.getBatchSize());
+        while (running || !queue.isEmpty()) {
+            if (paused && running) {
+                LockSupport.parkNanos(properties.getFlushInterval().toNanos());
+                continue;
+            }
+            try {
+                fill(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 攒批：攒满批大小，或自第一个事件起超过批次等待时间
+     */
+    private void fill(List<Entry> batch) throws InterruptedException {
+        int batchSize = properties.getBatchSize();
+        long flushNanos = properties.getFlushInterval().toNanos();
+
+        Entry first = queue.poll(flushNanos, TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + flushNanos;
+        while (batch.size() < batchSize && running) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                break;
+            }
+            Entry next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        if (!running) {
+            queue.drainTo(batch, batchSize - batch.size());
+        }
+    }
+
+    private void flush(List<Entry> batch) {
+        List<AuditEvent> events = new ArrayList<>(batch.size());
+        for (Entry entry : batch) {
+            events.add(entry.auditEvent);
+        }
+
+        long start = System.nanoTime();
+        auditMetrics.recordBatch(events.size());
+        batches.increment();
+        try {
+            if (writeWithRetry(events)) {
+                persisted.add(events.size());
+            } else if (events.size() > 1) {
+                writeOneByOne(events);
+            } else {
+                drop(REASON_STORAGE_ERROR, 1);
+            }
+        } finally {
+            lastFlushTime = System.currentTimeMillis();
+            auditMetrics.recordStage(AuditStage.PERSIST, System.nanoTime() - start);
+            // 在写入与丢弃计数之后累加，processed 追上 accepted 时各计数均已完整
+            processed.add(events.size());
+        }
+    }
+
+    private boolean writeWithRetry(List<AuditEvent> events) {
+        int attempts = properties.getMaxRetries() + 1;
+        for (int attempt = 1; attempt <= attempts; attempt++) {
+            if (write(events)) {
+                return true;
+            }
+            if (attempt < attempts) {
+                retried.increment();
+                auditMetrics.recordRetried(REASON_STORAGE_ERROR);
+                LockSupport.parkNanos(properties.getRetryBackoff().toNanos());
+            }
+        }
+        return false;
+    }
+
+    private void writeOneByOne(List<AuditEvent> events) {
+        int failed = 0;
+        for (AuditEvent event : events) {
+            if (write(Collections.singletonList(event))) {
+                persisted.increment();
+            } else {
+                failed++;
+            }
+        }
+        if (failed > 0) {
+            drop(REASON_STORAGE_ERROR, failed);
+        }
+    }
+
+    private boolean write(List<AuditEvent> events) {
+        long start = System.nanoTime();
+        try {
+            auditStorage.saveAuditLogs(events);
+            auditMetrics.recordWrite(System.nanoTime() - start, true);
+            return true;
+        } catch (Exception e) {
+            auditMetrics.recordWrite(System.nanoTime() - start, false);
+            lastError = e.getClass().getSimpleName() + ": " + e.getMessage();
+            log.error("审计事件写入失败，批大小: {}，错误: {}", events.size(), e.getMessage(), e);
+            return false;
+        }
+    }
+
+    private void drop(String reason, int count) {
+        dropped.add(count);
+        auditMetrics.recordDropped(reason, count);
+        // 队列满时可能高频触发，只输出 debug 日志，以指标为准
+        log.debug("丢弃审计事件: 原因={}，数量={}", reason, count);
+    }
+
+    private static final class Entry {
+        private final AuditEvent auditEvent;
+        private final long enqueueNanos;
+
+        private Entry(AuditEvent auditEvent, long enqueueNanos) {
+            this.auditEvent = auditEvent;
+            this.enqueueNanos = enqueueNanos;
+        }
+    }
+}
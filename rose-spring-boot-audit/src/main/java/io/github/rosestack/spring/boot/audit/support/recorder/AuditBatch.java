@@ -0,0 +1,182 @@
+package io.github.rosestack.spring.boot.audit.support.recorder;
+
+import com.baomidou.mybatisplus.core.toolkit.IdWorker;
+import io.github.rosestack.spring.boot.audit.config.AuditProperties;
+import io.github.rosestack.spring.boot.audit.entity.AuditLog;
+import io.github.rosestack.spring.boot.audit.entity.AuditLogDetail;
+import io.github.rosestack.spring.boot.audit.enums.AuditDetailKey;
+import io.github.rosestack.spring.boot.audit.enums.AuditEventType;
+import io.github.rosestack.spring.boot.audit.enums.AuditRiskLevel;
+import io.github.rosestack.spring.boot.audit.enums.AuditStatus;
+import io.github.rosestack.spring.boot.audit.listener.AuditEvent;
+import io.github.rosestack.spring.boot.audit.support.AuditEventBuilder;
+import io.github.rosestack.spring.boot.audit.support.pipeline.AuditPipeline;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 批量审计会话
+ *
+ * <p>创建时预先分配主记录ID并立即提交主记录（操作名称、事件类型、HTTP 信息等共享上下文只计算一次）；之后每个条目只生成一条详情，
+ * 攒满一个分片后作为详情分片事件提交到写入管道。管道按先进先出顺序写入，主记录总是先于其详情落库。关闭时提交剩余条目和一条汇总详情 （条目数、失败数、耗时等）。
+ *
+ * <p>主记录一经提交不再更新，整批的最终结果以汇总详情为准。若主记录因队列满未能提交，后续详情也不再提交，只计入丢弃数。
+ *
+ * <p>非线程安全，一个会话只应在一个线程中使用。
+ *
+ * @author chensoul
+ * @since 1.0.0
+ */
+@Slf4j
+public class AuditBatch implements AutoCloseable {
+    private final AuditPipeline auditPipeline;
+    private final AuditEventBuilder auditEventBuilder;
+    private final AuditProperties.Recorder properties;
+    private final AuditLog auditLog;
+    private final long startNanos;
+    private final boolean headerAccepted;
+
+    private List<AuditLogDetail> buffer;
+    private int chunk;
+    private long recorded;
+    private long failed;
+    private long dropped;
+    private boolean closed;
+
+    AuditBatch(
+            AuditPipeline auditPipeline,
+            AuditEventBuilder auditEventBuilder,
+            AuditProperties.Recorder properties,
+            String operationName,
+            AuditEventType eventType,
+            AuditRiskLevel riskLevel) {
+        this.auditPipeline = auditPipeline;
+        this.auditEventBuilder = auditEventBuilder;
+        this.properties = properties;
+        this.startNanos = System.nanoTime();
+        this.buffer = new ArrayList<>(properties.getChunkSize());
+
+        this.auditLog = AuditLog.builder()
+                .id(IdWorker.getId())
+                .eventTime(LocalDateTime.now())
+                .operationName(operationName)
+                .build();
+        auditLog.setEventType(eventType);
+        auditLog.setRiskLevel(riskLevel);
+        auditLog.setStatus(AuditStatus.SUCCESS);
+        auditEventBuilder.setHttpInfo(auditLog);
+
+        this.headerAccepted =
+                auditPipeline.offer(new AuditEvent(auditLog, Collections.emptyList()), properties.getOfferTimeout());
+        if (!headerAccepted) {
+            log.warn("批量审计主记录提交失败，本批详情将被丢弃: {}", operationName);
+        }
+    }
+
+    /**
+     * 批量审计的主记录ID
+     */
+    public Long getAuditLogId() {
+        return auditLog.getId();
+    }
+
+    /**
+     * 记录一个条目，作为业务数据快照
+     *
+     * @param item 条目
+     */
+    public void record(Object item) {
+        record(AuditDetailKey.BUSINESS_DATA, item);
+    }
+
+    /**
+     * 记录一个条目
+     *
+     * @param detailKey 详情键
+     * @param value     详情值
+     */
+    public void record(AuditDetailKey detailKey, Object value) {
+        ensureOpen();
+        recorded++;
+        append(detailKey, value);
+    }
+
+    /**
+     * 记录一个处理失败的条目
+     *
+     * @param item      条目
+     * @param exception 失败原因
+     */
+    public void recordFailure(Object item, Throwable exception) {
+        ensureOpen();
+        failed++;
+        Map<String, Object> error = new LinkedHashMap<>(4);
+        error.put("item", item);
+        error.put("type", exception.getClass().getName());
+        error.put("message", exception.getMessage());
+        append(AuditDetailKey.ERROR_DETAIL, error);
+    }
+
+    /**
+     * 提交剩余条目和汇总详情
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        Map<String, Object> summary = new LinkedHashMap<>(8);
+        summary.put("recorded", recorded);
+        summary.put("failed", failed);
+        summary.put("chunks", chunk + 1);
+        summary.put("dropped", dropped);
+        summary.put("elapsedMs", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        append(AuditDetailKey.PERFORMANCE_METRICS, summary);
+        flush();
+
+        log.debug(
+                "批量审计结束: {}，审计日志ID: {}，条目数: {}，失败数: {}，丢弃数: {}",
+                auditLog.getOperationName(),
+                auditLog.getId(),
+                recorded,
+                failed,
+                dropped);
+    }
+
+    private void append(AuditDetailKey detailKey, Object value) {
+        if (!headerAccepted) {
+            dropped++;
+            return;
+        }
+        buffer.add(auditEventBuilder.createDetail(auditLog.getId(), detailKey, value));
+        if (buffer.size() >= properties.getChunkSize()) {
+            flush();
+        }
+    }
+
+    private void flush() {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        List<AuditLogDetail> details = buffer;
+        buffer = new ArrayList<>(properties.getChunkSize());
+        chunk++;
+        if (!auditPipeline.offer(AuditEvent.detailChunk(auditLog, details, chunk), properties.getOfferTimeout())) {
+            dropped += details.size();
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("批量审计会话已关闭");
+        }
+    }
+}
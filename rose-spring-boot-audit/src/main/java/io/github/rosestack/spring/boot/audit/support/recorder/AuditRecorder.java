@@ -0,0 +1,80 @@
+package io.github.rosestack.spring.boot.audit.support.recorder;
+
+import io.github.rosestack.encrypt.FieldEncryptor;
+import io.github.rosestack.spring.boot.audit.config.AuditProperties;
+import io.github.rosestack.spring.boot.audit.enums.AuditEventType;
+import io.github.rosestack.spring.boot.audit.enums.AuditRiskLevel;
+import io.github.rosestack.spring.boot.audit.support.AuditEventBuilder;
+import io.github.rosestack.spring.boot.audit.support.metrics.AuditMetrics;
+import io.github.rosestack.spring.boot.audit.support.pipeline.AuditPipeline;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 编程式审计记录器
+ *
+ * <p>面向批量导入、批量更新等场景：整批操作共享一条审计主记录，每个条目只生成一条详情，详情按分片直接提交到写入管道， 不再为每个条目构建完整的审计事件和 HTTP 详情。
+ *
+ * <pre>{@code
+ * try (AuditBatch batch = auditRecorder.batch("导入用户")) {
+ *     for (User user : users) {
+ *         batch.record(user);
+ *     }
+ * }
+ * }</pre>
+ *
+ * @author chensoul
+ * @since 1.0.0
+ */
+@RequiredArgsConstructor
+public class AuditRecorder {
+    private final AuditPipeline auditPipeline;
+    private final FieldEncryptor fieldEncryptor;
+    private final AuditMetrics auditMetrics;
+    private final AuditProperties auditProperties;
+
+    /**
+     * 开启批量操作审计
+     *
+     * @param operationName 操作名称
+     * @return 批量审计会话
+     */
+    public AuditBatch batch(String operationName) {
+        return batch(operationName, AuditEventType.DATA_BATCH_OPERATION);
+    }
+
+    /**
+     * 开启批量审计
+     *
+     * @param operationName 操作名称
+     * @param eventType     事件类型，如 {@link AuditEventType#DATA_IMPORT}
+     * @return 批量审计会话
+     */
+    public AuditBatch batch(String operationName, AuditEventType eventType) {
+        return batch(operationName, eventType, AuditRiskLevel.fromEventType(eventType));
+    }
+
+    /**
+     * 开启批量审计
+     *
+     * @param operationName 操作名称
+     * @param eventType     事件类型
+     * @param riskLevel     风险等级
+     * @return 批量审计会话
+     */
+    public AuditBatch batch(String operationName, AuditEventType eventType, AuditRiskLevel riskLevel) {
+        List<String> maskFields = auditProperties.getMaskFields();
+        AuditEventBuilder auditEventBuilder = new AuditEventBuilder(
+                maskFields == null ? new String[0] : maskFields.toArray(new String[0]),
+                auditProperties.getEncryptType(),
+                fieldEncryptor,
+                auditMetrics);
+        return new AuditBatch(
+                auditPipeline,
+                auditEventBuilder,
+                auditProperties.getRecorder(),
+                operationName,
+                eventType,
+                riskLevel);
+    }
+}
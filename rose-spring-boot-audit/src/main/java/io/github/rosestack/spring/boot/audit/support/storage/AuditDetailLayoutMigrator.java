@@ -0,0 +1,110 @@
+package io.github.rosestack.spring.boot.audit.support.storage;
+
+import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import io.github.rosestack.spring.boot.audit.entity.AuditLogDetail;
+import io.github.rosestack.spring.boot.audit.entity.AuditLogDetailDoc;
+import io.github.rosestack.spring.boot.audit.mapper.AuditLogDetailDocMapper;
+import io.github.rosestack.spring.boot.audit.mapper.AuditLogDetailMapper;
+import java.util.*;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 审计详情存储布局迁移工具
+ *
+ * <p>将 audit_log_detail（逐行布局）中的存量数据迁移到 audit_log_detail_doc（文档布局）。 按 audit_log_id 键集分页，每批读取一组审计事件的全部详情，
+ * 合并后写入文档表；已存在文档的事件会被跳过，因此可以中断后重复执行。迁移不删除源表数据，确认无误后可自行清理。
+ *
+ * <pre>{@code
+ * AuditDetailLayoutMigrator migrator = new AuditDetailLayoutMigrator(detailMapper, docMapper);
+ * long migrated = migrator.migrate(500);
+ * }</pre>
+ *
+ * @author chensoul
+ * @since 1.0.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class AuditDetailLayoutMigrator {
+    private final AuditLogDetailMapper auditLogDetailMapper;
+    private final AuditLogDetailDocMapper auditLogDetailDocMapper;
+
+    /**
+     * 迁移全部存量详情
+     *
+     * @param batchSize 每批处理的审计事件数
+     * @return 本次新写入的文档数
+     */
+    public long migrate(int batchSize) {
+        return migrate(0L, batchSize);
+    }
+
+    /**
+     * 从指定审计日志ID之后开始迁移
+     *
+     * @param fromAuditLogId 起始审计日志ID（不含）
+     * @param batchSize      每批处理的审计事件数
+     * @return 本次新写入的文档数
+     */
+    public long migrate(long fromAuditLogId, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize 必须大于 0");
+        }
+
+        long lastId = fromAuditLogId;
+        long migrated = 0;
+        while (true) {
+            List<Long> auditLogIds = nextAuditLogIds(lastId, batchSize);
+            if (auditLogIds.isEmpty()) {
+                break;
+            }
+            migrated += migrateBatch(auditLogIds);
+            lastId = auditLogIds.get(auditLogIds.size() - 1);
+            log.info("审计详情迁移进度: 已迁移 {} 个事件，当前审计日志ID: {}", migrated, lastId);
+        }
+
+        log.info("审计详情迁移完成: 共迁移 {} 个事件", migrated);
+        return migrated;
+    }
+
+    private List<Long> nextAuditLogIds(long lastId, int batchSize) {
+        QueryWrapper<AuditLogDetail> wrapper = new QueryWrapper<AuditLogDetail>()
+                .select("DISTINCT audit_log_id")
+                .gt("audit_log_id", lastId)
+                .orderByAsc("audit_log_id")
+                .last("LIMIT " + batchSize);
+        return auditLogDetailMapper.selectObjs(wrapper).stream()
+                .map(id -> ((Number) id).longValue())
+                .collect(Collectors.toList());
+    }
+
+    private int migrateBatch(List<Long> auditLogIds) {
+        Set<Long> existing = auditLogDetailDocMapper
+                .selectObjs(new QueryWrapper<AuditLogDetailDoc>()
+                        .select("audit_log_id")
+                        .in("audit_log_id", auditLogIds))
+                .stream()
+                .map(id -> ((Number) id).longValue())
+                .collect(Collectors.toSet());
+
+        List<Long> pending =
+                auditLogIds.stream().filter(id -> !existing.contains(id)).collect(Collectors.toList());
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, List<AuditLogDetail>> grouped = auditLogDetailMapper
+                .selectList(Wrappers.<AuditLogDetail>lambdaQuery()
+                        .in(AuditLogDetail::getAuditLogId, pending)
+                        .orderByAsc(AuditLogDetail::getAuditLogId, AuditLogDetail::getId))
+                .stream()
+                .collect(Collectors.groupingBy(AuditLogDetail::getAuditLogId, LinkedHashMap::new, Collectors.toList()));
+
+        for (Map.Entry<Long, List<AuditLogDetail>> entry : grouped.entrySet()) {
+            auditLogDetailDocMapper.insert(AuditLogDetailDoc.of(entry.getKey(), entry.getValue()));
+        }
+        return grouped.size();
+    }
+}
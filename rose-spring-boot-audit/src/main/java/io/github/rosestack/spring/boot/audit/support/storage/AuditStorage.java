@@ -2,8 +2,33 @@ package io.github.rosestack.spring.boot.audit.support.storage;
 
 import io.github.rosestack.spring.boot.audit.entity.AuditLog;
 import io.github.rosestack.spring.boot.audit.entity.AuditLogDetail;
+import io.github.rosestack.spring.boot.audit.listener.AuditEvent;
 import java.util.List;
 
 public interface AuditStorage {
     AuditLog saveAuditLog(AuditLog auditLog, List<AuditLogDetail> auditLogDetails);
+
+    /**
+     * 批量保存审计事件，默认逐条保存，存储实现可覆盖为单事务/批量写入
+     *
+     * @param auditEvents 审计事件列表
+     */
+    default void saveAuditLogs(List<AuditEvent> auditEvents) {
+        for (AuditEvent auditEvent : auditEvents) {
+            if (auditEvent.isDetailChunk()) {
+                appendAuditLogDetails(auditEvent.getAuditLog(), auditEvent.getAuditLogDetails(), auditEvent.getChunk());
+            } else {
+                saveAuditLog(auditEvent.getAuditLog(), auditEvent.getAuditLogDetails());
+            }
+        }
+    }
+
+    /**
+     * 向已保存的审计日志追加一个详情分片（批量审计使用），默认不支持追加的存储直接忽略
+     *
+     * @param auditLog        已保存的审计日志
+     * @param auditLogDetails 详情列表
+     * @param chunk           分片序号，从 1 开始
+     */
+    default void appendAuditLogDetails(AuditLog auditLog, List<AuditLogDetail> auditLogDetails, int chunk) {}
 }
@@ -0,0 +1,108 @@
+-- =====================================================
+-- 审计日志详情文档表创建脚本 (MySQL) - 高吞吐写入布局
+-- =====================================================
+-- 与 audit_log_detail 的区别：
+--   1. 一个审计事件的全部详情合并为一行 JSON 文档，单次事件只产生一次 INSERT
+--   2. 只追加写入（append-only），不做 UPDATE，不建外键
+--   3. 按 created_time 按月分区，过期数据直接 DROP PARTITION 清理
+--   4. 只保留主键索引，避免低基数字段（is_sensitive/is_encrypted）二级索引带来的写放大
+-- 启用方式：rose.audit.storage.layout=document
+-- 存量数据迁移：AuditDetailLayoutMigrator
+-- =====================================================
+
+-- 删除已存在的表（谨慎使用）
+-- DROP TABLE IF EXISTS audit_log_detail_doc;
+
+-- 创建审计日志详情文档表
+CREATE TABLE audit_log_detail_doc (
+    -- 审计日志ID（与 audit_log.id 对应，不建外键）
+    audit_log_id BIGINT NOT NULL COMMENT '审计日志ID',
+    chunk_no INT NOT NULL DEFAULT 0 COMMENT '详情分片序号（普通事件为0，批量审计按分片递增）',
+
+    -- ==================== 详情内容 ====================
+    details JSON NOT NULL COMMENT '详情文档（JSON数组，每个元素对应一条详情，值可能加密脱敏）',
+    detail_count INT NOT NULL DEFAULT 0 COMMENT '详情条数',
+    has_sensitive TINYINT(1) NOT NULL DEFAULT 0 COMMENT '是否包含敏感数据（0-否，1-是）',
+
+    -- ==================== 多租户支持 ====================
+    tenant_id VARCHAR(50) COMMENT '租户ID（多租户支持）',
+
+    -- ==================== 系统字段 ====================
+    created_time DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
+
+    -- 主键约束（分区键必须包含在主键中）
+    PRIMARY KEY (audit_log_id, chunk_no, created_time)
+) ENGINE=InnoDB
+  DEFAULT CHARSET=utf8mb4
+  COLLATE=utf8mb4_unicode_ci
+  COMMENT='审计日志详情文档表（只追加写入）'
+  -- 按月分区，过期数据按分区整体删除
+  PARTITION BY RANGE (YEAR(created_time) * 100 + MONTH(created_time)) (
+    PARTITION p202501 VALUES LESS THAN (202502) COMMENT '2025年1月',
+    PARTITION p202502 VALUES LESS THAN (202503) COMMENT '2025年2月',
+    PARTITION p202503 VALUES LESS THAN (202504) COMMENT '2025年3月',
+    PARTITION p202504 VALUES LESS THAN (202505) COMMENT '2025年4月',
+    PARTITION p202505 VALUES LESS THAN (202506) COMMENT '2025年5月',
+    PARTITION p202506 VALUES LESS THAN (202507) COMMENT '2025年6月',
+    PARTITION p202507 VALUES LESS THAN (202508) COMMENT '2025年7月',
+    PARTITION p202508 VALUES LESS THAN (202509) COMMENT '2025年8月',
+    PARTITION p202509 VALUES LESS THAN (202510) COMMENT '2025年9月',
+    PARTITION p202510 VALUES LESS THAN (202511) COMMENT '2025年10月',
+    PARTITION p202511 VALUES LESS THAN (202512) COMMENT '2025年11月',
+    PARTITION p202512 VALUES LESS THAN (202513) COMMENT '2025年12月',
+    PARTITION p_future VALUES LESS THAN MAXVALUE COMMENT '未来分区'
+  );
+
+-- =====================================================
+-- 分区维护
+-- =====================================================
+
+DELIMITER $$
+
+-- 拆分 p_future，新增指定月份分区
+CREATE PROCEDURE CreateAuditDetailDocPartition(IN partition_year INT, IN partition_month INT)
+BEGIN
+    DECLARE partition_name VARCHAR(20);
+    DECLARE partition_value INT;
+    DECLARE next_partition_value INT;
+
+    SET partition_name = CONCAT('p', partition_year, LPAD(partition_month, 2, '0'));
+    SET partition_value = partition_year * 100 + partition_month;
+    SET next_partition_value = IF(partition_month = 12,
+                                  (partition_year + 1) * 100 + 1,
+                                  partition_value + 1);
+
+    SET @sql = CONCAT(
+        'ALTER TABLE audit_log_detail_doc REORGANIZE PARTITION p_future INTO (',
+        'PARTITION ', partition_name, ' VALUES LESS THAN (', next_partition_value, '), ',
+        'PARTITION p_future VALUES LESS THAN MAXVALUE)'
+    );
+
+    PREPARE stmt FROM @sql;
+    EXECUTE stmt;
+    DEALLOCATE PREPARE stmt;
+END$$
+
+DELIMITER ;
+
+-- 清理过期数据：直接删除分区，不产生逐行 DELETE
+-- ALTER TABLE audit_log_detail_doc DROP PARTITION p202501;
+
+-- =====================================================
+-- 常用查询
+-- =====================================================
+
+-- 按审计日志ID查询详情（主键前缀命中）
+-- SELECT details FROM audit_log_detail_doc WHERE audit_log_id = ?;
+
+-- 展开为行（MySQL 8.0+）
+-- SELECT d.audit_log_id, jt.*
+-- FROM audit_log_detail_doc d,
+--      JSON_TABLE(d.details, '$[*]' COLUMNS (
+--          detail_type VARCHAR(50) PATH '$.detail_type',
+--          detail_key VARCHAR(50) PATH '$.detail_key',
+--          detail_value LONGTEXT PATH '$.detail_value',
+--          is_sensitive TINYINT(1) PATH '$.is_sensitive',
+--          is_encrypted TINYINT(1) PATH '$.is_encrypted'
+--      )) jt
+-- WHERE d.audit_log_id = ?;
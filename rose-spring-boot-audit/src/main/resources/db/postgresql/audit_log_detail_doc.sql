@@ -0,0 +1,96 @@
+-- =====================================================
+-- 审计日志详情文档表创建脚本 (PostgreSQL) - 高吞吐写入布局
+-- =====================================================
+-- 与 audit_log_detail 的区别：
+--   1. 一个审计事件的全部详情合并为一行 JSONB 文档，单次事件只产生一次 INSERT
+--   2. 只追加写入（append-only），不做 UPDATE，不建外键
+--   3. 按 created_time 按月分区，过期数据直接 DROP 分区表清理
+--   4. 只保留主键索引，避免低基数字段二级索引带来的写放大
+-- 启用方式：rose.audit.storage.layout=document
+-- 存量数据迁移：AuditDetailLayoutMigrator
+-- 注意：details 以字符串参数写入 JSONB，JDBC URL 需追加 stringtype=unspecified
+-- =====================================================
+
+-- 删除已存在的表（谨慎使用）
+-- DROP TABLE IF EXISTS audit_log_detail_doc CASCADE;
+
+-- 创建审计日志详情文档表
+CREATE TABLE audit_log_detail_doc (
+    -- 审计日志ID（与 audit_log.id 对应，不建外键）
+    audit_log_id BIGINT NOT NULL,
+    chunk_no INTEGER NOT NULL DEFAULT 0,
+
+    -- ==================== 详情内容 ====================
+    details JSONB NOT NULL,
+    detail_count INTEGER NOT NULL DEFAULT 0,
+    has_sensitive BOOLEAN NOT NULL DEFAULT FALSE,
+
+    -- ==================== 多租户支持 ====================
+    tenant_id VARCHAR(50),
+
+    -- ==================== 系统字段 ====================
+    created_time TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    -- 主键约束（分区键必须包含在主键中）
+    PRIMARY KEY (audit_log_id, chunk_no, created_time)
+) PARTITION BY RANGE (created_time);
+
+-- 添加表注释
+COMMENT ON TABLE audit_log_detail_doc IS '审计日志详情文档表 - 只追加写入，按月分区，每个审计事件一行';
+
+-- 添加列注释
+COMMENT ON COLUMN audit_log_detail_doc.audit_log_id IS '审计日志ID';
+COMMENT ON COLUMN audit_log_detail_doc.chunk_no IS '详情分片序号（普通事件为0，批量审计按分片递增）';
+COMMENT ON COLUMN audit_log_detail_doc.details IS '详情文档（JSONB数组，每个元素对应一条详情，值可能加密脱敏）';
+COMMENT ON COLUMN audit_log_detail_doc.detail_count IS '详情条数';
+COMMENT ON COLUMN audit_log_detail_doc.has_sensitive IS '是否包含敏感数据';
+COMMENT ON COLUMN audit_log_detail_doc.tenant_id IS '租户ID（多租户支持）';
+COMMENT ON COLUMN audit_log_detail_doc.created_time IS '创建时间';
+
+-- =====================================================
+-- 分区维护
+-- =====================================================
+
+-- 创建指定月份分区
+CREATE OR REPLACE FUNCTION create_audit_detail_doc_partition(partition_date DATE)
+RETURNS TEXT AS $$
+DECLARE
+    partition_name TEXT;
+    start_date DATE;
+    end_date DATE;
+BEGIN
+    start_date := DATE_TRUNC('month', partition_date);
+    end_date := start_date + INTERVAL '1 month';
+    partition_name := 'audit_log_detail_doc_' || TO_CHAR(start_date, 'YYYYMM');
+
+    EXECUTE format(
+        'CREATE TABLE IF NOT EXISTS %I PARTITION OF audit_log_detail_doc FOR VALUES FROM (%L) TO (%L)',
+        partition_name, start_date, end_date
+    );
+
+    RETURN partition_name;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 兜底分区，避免未提前建分区时写入失败
+CREATE TABLE IF NOT EXISTS audit_log_detail_doc_default PARTITION OF audit_log_detail_doc DEFAULT;
+
+-- 预建当前月及未来两个月分区
+SELECT create_audit_detail_doc_partition(CURRENT_DATE);
+SELECT create_audit_detail_doc_partition((CURRENT_DATE + INTERVAL '1 month')::DATE);
+SELECT create_audit_detail_doc_partition((CURRENT_DATE + INTERVAL '2 month')::DATE);
+
+-- 清理过期数据：直接删除分区表，不产生逐行 DELETE
+-- DROP TABLE IF EXISTS audit_log_detail_doc_202501;
+
+-- =====================================================
+-- 常用查询
+-- =====================================================
+
+-- 按审计日志ID查询详情（主键前缀命中）
+-- SELECT details FROM audit_log_detail_doc WHERE audit_log_id = ?;
+
+-- 展开为行
+-- SELECT d.audit_log_id, e->>'detail_type' AS detail_type, e->>'detail_key' AS detail_key, e->>'detail_value' AS detail_value
+-- FROM audit_log_detail_doc d, jsonb_array_elements(d.details) e
+-- WHERE d.audit_log_id = ?;
@@ -0,0 +1,89 @@
+package io.github.rosestack.spring.boot.benchmark.syslog;
+
+import io.github.rosestack.spring.boot.syslog.annotation.SysLog;
+import io.github.rosestack.spring.boot.syslog.support.SysLogMetadata;
+import io.github.rosestack.spring.boot.syslog.support.SysLogMetadataRegistry;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.web.bind.annotation.PathVariable;
+
+/**
+ * {@code @SysLog} 名称求值与参数过滤基准
+ *
+ * <p>{@code cached*} 从已预热的 {@link SysLogMetadataRegistry} 取元数据后求值；{@code uncached*} 每次使用新的注册表，
+ * 包含表达式解析、参数名发现与参数过滤规则的构建，即未命中缓存时的开销。
+ *
+ * @author chensoul
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SysLogMetadataBenchmark {
+    private final SysLogMetadataRegistry registry = new SysLogMetadataRegistry();
+
+    private Method method;
+    private SysLog sysLog;
+    private Object[] args;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        method = SampleController.class.getMethod("update", Long.class, UserForm.class, String.class);
+        sysLog = method.getAnnotation(SysLog.class);
+        UserForm form = new UserForm();
+        form.name = "rose";
+        form.email = "rose@example.com";
+        args = new Object[] {42L, form, "remark"};
+        registry.get(method, sysLog);
+    }
+
+    @Benchmark
+    public String cachedName() {
+        return registry.get(method, sysLog).getName(args);
+    }
+
+    @Benchmark
+    public List<Object> cachedArgs() {
+        return registry.get(method, sysLog).getLoggableArgs(args);
+    }
+
+    @Benchmark
+    public void cachedBoth(Blackhole blackhole) {
+        SysLogMetadata metadata = registry.get(method, sysLog);
+        blackhole.consume(metadata.getName(args));
+        blackhole.consume(metadata.getLoggableArgs(args));
+    }
+
+    @Benchmark
+    public void uncachedBoth(Blackhole blackhole) {
+        SysLogMetadata metadata = new SysLogMetadataRegistry().get(method, sysLog);
+        blackhole.consume(metadata.getName(args));
+        blackhole.consume(metadata.getLoggableArgs(args));
+    }
+
+    // ==================== 被测方法 ====================
+
+    public static class SampleController {
+        @SysLog(value = "更新用户", expression = "'更新用户:' + #form.name + '(' + #id + ')'")
+        public void update(@PathVariable Long id, UserForm form, String remark) {}
+    }
+
+    public static class UserForm {
+        public String name;
+        public String email;
+
+        public String getName() {
+            return name;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package io.github.rosestack.spring.boot.benchmark.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.rosestack.core.util.ApiResponse;
+import io.github.rosestack.spring.boot.web.advice.ApiResponseBodyAdvice;
+import io.github.rosestack.spring.boot.web.config.WebProperties;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+/**
+ * {@link ApiResponseBodyAdvice} 每次响应的开销基准
+ *
+ * <p>{@code advice*} 调用真实的 {@link ApiResponseBodyAdvice#supports} 与
+ * {@link ApiResponseBodyAdvice#beforeBodyWrite}，并序列化其返回值；{@code apiResponseWrite} 直接序列化
+ * {@link ApiResponse#ok(Object)}，{@code bodyWrite} 只序列化响应体，作为包装开销的对照。
+ *
+ * @author chensoul
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiResponseBodyAdviceBenchmark {
+    private static final Class<? extends HttpMessageConverter<?>> CONVERTER = MappingJackson2HttpMessageConverter.class;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ApiResponseBodyAdvice advice;
+    private MethodParameter returnType;
+    private ServerHttpRequest request;
+    private ServerHttpResponse response;
+    private UserView body;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        advice = new ApiResponseBodyAdvice(
+                new StaticListableBeanFactory().getBeanProvider(RequestMappingHandlerMapping.class),
+                new WebProperties());
+
+        Method method = SampleController.class.getMethod("get", Long.class);
+        returnType = new MethodParameter(method, -1);
+
+        request = new ServletServerHttpRequest(new MockHttpServletRequest("GET", "/api/users/42"));
+        response = new ServletServerHttpResponse(new MockHttpServletResponse());
+
+        body = new UserView();
+        body.id = 42L;
+        body.name = "rose";
+        body.roles = List.of("admin", "user");
+    }
+
+    @Benchmark
+    public Object adviceDecision() {
+        return advice.supports(returnType, CONVERTER)
+                ? advice.beforeBodyWrite(body, returnType, MediaType.APPLICATION_JSON, CONVERTER, request, response)
+                : body;
+    }
+
+    @Benchmark
+    public byte[] adviceWrite() throws Exception {
+        return objectMapper.writeValueAsBytes(adviceDecision());
+    }
+
+    @Benchmark
+    public byte[] apiResponseWrite() throws Exception {
+        return objectMapper.writeValueAsBytes(ApiResponse.ok(body));
+    }
+
+    @Benchmark
+    public byte[] bodyWrite() throws Exception {
+        return objectMapper.writeValueAsBytes(body);
+    }
+
+    // ==================== 被测方法 ====================
+
+    public static class SampleController {
+        public UserView get(Long id) {
+            return null;
+        }
+    }
+
+    public static class UserView {
+        public Long id;
+        public String name;
+        public List<String> roles;
+    }
+}
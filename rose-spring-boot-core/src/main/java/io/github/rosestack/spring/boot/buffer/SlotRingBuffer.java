@@ -0,0 +1,141 @@
+package io.github.rosestack.spring.boot.buffer;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * Bounded lock-free multi-producer single-consumer ring of preallocated slots.
+ * <p>
+ * Every slot is created once up front and reused. A producer {@link #claim() claims} a sequence, fills the slot
+ * returned by {@link #get(long)} in place and {@link #publish(long) publishes} it. The single consumer reads
+ * sequences in order starting at {@link #getConsumerIndex()}, checks them with {@link #isPublished(long)}, and
+ * {@link #release(long, int) releases} them once it is done with their slots. The capacity is rounded up to a power
+ * of two.
+ * <p>
+ * Each slot carries the sequence it is ready for: the producer sequence that may claim it while free, that
+ * sequence plus one once published. Releasing advances it by the capacity, handing the slot to the producer one
+ * lap ahead.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * long sequence = ring.claim();
+ * if (sequence >= 0) {
+ *     ring.get(sequence).fill(...);
+ *     ring.publish(sequence);
+ * }
+ *
+ * // consumer thread
+ * long next = ring.getConsumerIndex();
+ * if (ring.isPublished(next)) {
+ *     handle(ring.get(next));
+ *     ring.release(next, 1);
+ * }
+ * }</pre>
+ *
+ * @param <E> the slot type
+ * @author chensoul
+ * @since 1.0.0
+ */
+public final class SlotRingBuffer<E> {
+    private final Object[] slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final int capacity;
+    private final AtomicLong producerIndex = new AtomicLong();
+    private volatile long consumerIndex;
+
+    /**
+     * @param capacity    the minimum number of slots
+     * @param slotFactory creates each slot once
+     */
+    public SlotRingBuffer(int capacity, Supplier<? extends E> slotFactory) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be greater than 0");
+        }
+        int size = 1 << (32 - Integer.numberOfLeadingZeros(capacity - 1));
+        this.slots = new Object[size];
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            slots[i] = slotFactory.get();
+            sequences.set(i, i);
+        }
+        this.mask = size - 1;
+        this.capacity = size;
+    }
+
+    /**
+     * Claim the next free slot
+     *
+     * @return the claimed sequence, or {@code -1} if the ring is full
+     */
+    public long claim() {
+        while (true) {
+            long producer = producerIndex.get();
+            long available = sequences.get((int) producer & mask) - producer;
+            if (available < 0) {
+                return -1;
+            }
+            if (available == 0 && producerIndex.compareAndSet(producer, producer + 1)) {
+                return producer;
+            }
+        }
+    }
+
+    /**
+     * The slot of a sequence. Producers may only fill it between {@link #claim()} and {@link #publish(long)}, the
+     * consumer may only read it between {@link #isPublished(long)} and {@link #release(long, int)}.
+     */
+    @SuppressWarnings("unchecked")
+    public E get(long sequence) {
+        return (E) slots[(int) sequence & mask];
+    }
+
+    /**
+     * Make a claimed slot visible to the consumer
+     */
+    public void publish(long sequence) {
+        sequences.set((int) sequence & mask, sequence + 1);
+    }
+
+    /**
+     * Whether the slot of a sequence has been published and not yet released
+     */
+    public boolean isPublished(long sequence) {
+        return sequences.get((int) sequence & mask) == sequence + 1;
+    }
+
+    /**
+     * The next sequence the consumer has to read
+     */
+    public long getConsumerIndex() {
+        return consumerIndex;
+    }
+
+    /**
+     * Hand consumed slots back to the producers. Must be called by the consumer, in sequence order, starting at
+     * {@link #getConsumerIndex()}.
+     *
+     * @param sequence the first sequence to release
+     * @param count    the number of consecutive sequences to release
+     */
+    public void release(long sequence, int count) {
+        for (int i = 0; i < count; i++) {
+            long next = sequence + i;
+            sequences.set((int) next & mask, next + capacity);
+        }
+        consumerIndex = sequence + count;
+    }
+
+    /**
+     * The number of claimed slots not yet released, including claimed slots that are still being filled
+     */
+    public int size() {
+        long size = producerIndex.get() - consumerIndex;
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
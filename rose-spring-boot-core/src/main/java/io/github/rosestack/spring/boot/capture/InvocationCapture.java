@@ -0,0 +1,223 @@
+package io.github.rosestack.spring.boot.capture;
+
+import java.lang.reflect.Method;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-invocation capture shared by the interceptors that observe the same method call.
+ * <p>
+ * The outermost interceptor {@link #enter(Method, Object, Object[]) enters} a new capture; any further interceptor
+ * entering for the same method, target and arguments before the call returns joins that capture instead of
+ * creating its own. The start time, {@link RequestSnapshot request snapshot} and outcome are therefore
+ * captured once per invocation no matter how many of {@code @SysLog}, {@code @Audit} etc. are present.
+ * <p>
+ * Every {@link #enter(Method, Object, Object[]) enter} must be paired with an {@link #exit()} in a
+ * {@code finally} block on the same thread.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * InvocationCapture capture = InvocationCapture.enter(method, target, args);
+ * try {
+ *     Object result = joinPoint.proceed();
+ *     capture.complete(result, null);
+ *     return result;
+ * } catch (Throwable e) {
+ *     capture.complete(null, e);
+ *     throw e;
+ * } finally {
+ *     capture.exit();
+ * }
+ * }</pre>
+ *
+ * @author chensoul
+ * @since 1.0.0
+ */
+public final class InvocationCapture {
+
+    private static final ThreadLocal<Deque<InvocationCapture>> STACK = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private final Method method;
+
+    private final Object target;
+
+    private final Object[] args;
+
+    private final long startMillis;
+
+    private final long startNanos;
+
+    private int participants;
+
+    private boolean requestResolved;
+
+    private RequestSnapshot request;
+
+    private boolean completed;
+
+    private Object result;
+
+    private Throwable throwable;
+
+    private long costNanos;
+
+    private InvocationCapture(Method method, Object target, Object[] args) {
+        this.method = method;
+        this.target = target;
+        this.args = args;
+        this.startMillis = System.currentTimeMillis();
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Enter the capture of the given invocation, joining the current capture if it belongs to the same invocation
+     *
+     * @param method the invoked method
+     * @param target the target object
+     * @param args   the invocation arguments
+     * @return the capture of the invocation
+     */
+    public static InvocationCapture enter(Method method, Object target, Object[] args) {
+        Deque<InvocationCapture> stack = STACK.get();
+        InvocationCapture current = stack.peek();
+        if (current != null && current.isSameInvocation(method, target, args)) {
+            current.participants++;
+            return current;
+        }
+        InvocationCapture capture = new InvocationCapture(method, target, args);
+        capture.participants = 1;
+        stack.push(capture);
+        return capture;
+    }
+
+    /**
+     * The innermost capture of the current thread
+     *
+     * @return the capture, or {@code null} if no interceptor is active
+     */
+    public static InvocationCapture current() {
+        Deque<InvocationCapture> stack = STACK.get();
+        InvocationCapture current = stack.peek();
+        if (current == null) {
+            STACK.remove();
+        }
+        return current;
+    }
+
+    /**
+     * Leave the capture; the last participant removes it from the current thread
+     */
+    public void exit() {
+        if (--participants > 0) {
+            return;
+        }
+        Deque<InvocationCapture> stack = STACK.get();
+        stack.remove(this);
+        if (stack.isEmpty()) {
+            STACK.remove();
+        }
+    }
+
+    /**
+     * Record the outcome of the invocation. The innermost participant observes the call first, so later
+     * calls are ignored.
+     *
+     * @param result    the return value
+     * @param throwable the thrown exception, or {@code null}
+     */
+    public void complete(Object result, Throwable throwable) {
+        if (completed) {
+            return;
+        }
+        this.completed = true;
+        this.result = result;
+        this.throwable = throwable;
+        this.costNanos = System.nanoTime() - startNanos;
+    }
+
+    private boolean isSameInvocation(Method method, Object target, Object[] args) {
+        if (completed || !this.method.equals(method) || this.target != target) {
+            return false;
+        }
+        if (this.args == args) {
+            return true;
+        }
+        if (this.args == null || args == null || this.args.length != args.length) {
+            return false;
+        }
+        for (int i = 0; i < args.length; i++) {
+            if (this.args[i] != args[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    public Object getTarget() {
+        return target;
+    }
+
+    public Object[] getArgs() {
+        return args;
+    }
+
+    /**
+     * The start time, derived from {@link #getStartMillis()} on demand
+     *
+     * @return the start time in the system default zone
+     */
+    public LocalDateTime getStartTime() {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(startMillis), ZoneId.systemDefault());
+    }
+
+    public long getStartMillis() {
+        return startMillis;
+    }
+
+    /**
+     * The snapshot of the current HTTP request, resolved at most once per invocation
+     *
+     * @return the snapshot, or {@code null} outside of a servlet request
+     */
+    public RequestSnapshot getRequest() {
+        if (!requestResolved) {
+            request = RequestSnapshot.current();
+            requestResolved = true;
+        }
+        return request;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    public Object getResult() {
+        return result;
+    }
+
+    public Throwable getThrowable() {
+        return throwable;
+    }
+
+    public boolean isSuccess() {
+        return throwable == null;
+    }
+
+    /**
+     * The elapsed time in milliseconds, up to {@link #complete(Object, Throwable) completion} or now
+     *
+     * @return the elapsed milliseconds
+     */
+    public long getCostMillis() {
+        long nanos = completed ? costNanos : System.nanoTime() - startNanos;
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
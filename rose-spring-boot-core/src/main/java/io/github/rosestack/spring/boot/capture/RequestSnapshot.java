@@ -0,0 +1,176 @@
+package io.github.rosestack.spring.boot.capture;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.security.Principal;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.springframework.util.StringUtils.hasText;
+
+/**
+ * Snapshot of the HTTP request taken on the request thread.
+ * <p>
+ * Servlet containers recycle request objects once the request completes, so everything that asynchronous
+ * consumers need is copied here. The parameter map is only copied when {@link #getParameters()} is first called,
+ * which must happen on the request thread; snapshots whose parameters are never logged skip the copy.
+ *
+ * @author chensoul
+ * @since 1.0.0
+ */
+public final class RequestSnapshot {
+
+    private static final boolean SERVLET_PRESENT =
+            ClassUtils.isPresent("jakarta.servlet.http.HttpServletRequest", RequestSnapshot.class.getClassLoader())
+                    && ClassUtils.isPresent(
+                            "org.springframework.web.context.request.RequestContextHolder",
+                            RequestSnapshot.class.getClassLoader());
+
+    private static final String[] CLIENT_IP_HEADERS = {
+        "X-Forwarded-For", "X-Real-IP", "Proxy-Client-IP", "WL-Proxy-Client-IP", "HTTP_CLIENT_IP"
+    };
+
+    private static final String UNKNOWN = "unknown";
+
+    private final String method;
+
+    private final String requestUri;
+
+    private final String requestUrl;
+
+    private final String queryString;
+
+    private final String clientIp;
+
+    private final String userAgent;
+
+    private final String sessionId;
+
+    private final String remoteUser;
+
+    private final String username;
+
+    private HttpServletRequest request;
+
+    private Map<String, String[]> parameters;
+
+    private RequestSnapshot(HttpServletRequest request) {
+        this.method = request.getMethod();
+        this.requestUri = request.getRequestURI();
+        this.queryString = request.getQueryString();
+        this.requestUrl = queryString == null
+                ? request.getRequestURL().toString()
+                : request.getRequestURL().append('?').append(queryString).toString();
+        this.clientIp = resolveClientIp(request);
+        this.userAgent = request.getHeader("User-Agent");
+        HttpSession session = request.getSession(false);
+        this.sessionId = session == null ? null : session.getId();
+        Principal principal = request.getUserPrincipal();
+        this.remoteUser = principal == null ? request.getRemoteUser() : principal.getName();
+        this.username = UsernameResolver.resolve(request);
+        this.request = request;
+    }
+
+    /**
+     * Take a snapshot of the given request
+     *
+     * @param request the request
+     * @return the snapshot
+     */
+    public static RequestSnapshot of(HttpServletRequest request) {
+        return new RequestSnapshot(request);
+    }
+
+    /**
+     * Take a snapshot of the request bound to the current thread
+     *
+     * @return the snapshot, or {@code null} if there is none
+     */
+    public static RequestSnapshot current() {
+        if (!SERVLET_PRESENT) {
+            return null;
+        }
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes) {
+            return new RequestSnapshot(((ServletRequestAttributes) attributes).getRequest());
+        }
+        return null;
+    }
+
+    /**
+     * Resolve the client IP, honouring the first hop of the proxy headers
+     *
+     * @param request the request
+     * @return the client IP
+     */
+    public static String resolveClientIp(HttpServletRequest request) {
+        for (String header : CLIENT_IP_HEADERS) {
+            String ip = request.getHeader(header);
+            if (hasText(ip) && !UNKNOWN.equalsIgnoreCase(ip)) {
+                int comma = ip.indexOf(',');
+                return comma > 0 ? ip.substring(0, comma).trim() : ip.trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getRequestUri() {
+        return requestUri;
+    }
+
+    public String getRequestUrl() {
+        return requestUrl;
+    }
+
+    public String getQueryString() {
+        return queryString;
+    }
+
+    public String getClientIp() {
+        return clientIp;
+    }
+
+    public String getUserAgent() {
+        return userAgent;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public String getRemoteUser() {
+        return remoteUser;
+    }
+
+    /**
+     * The user name as resolved by {@link UsernameResolver}, preferring the Spring Security principal
+     *
+     * @return the user name, or {@code null} if not authenticated
+     */
+    public String getUsername() {
+        return username;
+    }
+
+    /**
+     * The request parameters, copied on first access; the first call must happen on the request thread
+     *
+     * @return the parameter map
+     */
+    public synchronized Map<String, String[]> getParameters() {
+        if (parameters == null) {
+            parameters = Collections.unmodifiableMap(new LinkedHashMap<>(request.getParameterMap()));
+            request = null;
+        }
+        return parameters;
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.rosestack.spring.boot.capture;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.security.Principal;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Resolves the name of the current user.
+ * <p>
+ * The authenticated Spring Security principal wins when Spring Security is on the classpath, so applications that
+ * authenticate with tokens and never populate the container principal are still attributed. Otherwise the
+ * request's {@link HttpServletRequest#getUserPrincipal() principal} or {@link HttpServletRequest#getRemoteUser()
+ * remote user} is used.
+ *
+ * @author chensoul
+ * @since 1.0.0
+ */
+public final class UsernameResolver {
+
+    private static final boolean SECURITY_PRESENT = ClassUtils.isPresent(
+            "org.springframework.security.core.context.SecurityContextHolder", UsernameResolver.class.getClassLoader());
+
+    private UsernameResolver() {}
+
+    /**
+     * Resolve the user from the security context of the current thread
+     *
+     * @return the user name, or {@code null} if not authenticated
+     */
+    public static String current() {
+        return SECURITY_PRESENT ? SecurityUsername.get() : null;
+    }
+
+    /**
+     * Resolve the user from the security context, falling back to the request
+     *
+     * @param request the current request
+     * @return the user name, or {@code null} if not authenticated
+     */
+    public static String resolve(HttpServletRequest request) {
+        String username = current();
+        if (username != null) {
+            return username;
+        }
+        Principal principal = request.getUserPrincipal();
+        return principal == null ? request.getRemoteUser() : principal.getName();
+    }
+
+    /**
+     * Isolates the Spring Security types so they are only loaded when present
+     */
+    private static final class SecurityUsername {
+
+        static String get() {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication == null
+                    || !authentication.isAuthenticated()
+                    || authentication instanceof AnonymousAuthenticationToken) {
+                return null;
+            }
+            return authentication.getName();
+        }
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rosestack.spring.boot.syslog;
+
+import io.github.rosestack.spring.boot.syslog.actuate.SysLogEndpoint;
+import io.github.rosestack.spring.boot.syslog.aspect.SysLogAspect;
+import io.github.rosestack.spring.boot.syslog.event.ApplicationEventSysLogPublisher;
+import io.github.rosestack.spring.boot.syslog.event.SysLogInfo;
+import io.github.rosestack.spring.boot.syslog.event.SysLogListener;
+import io.github.rosestack.spring.boot.syslog.event.SysLogPublisher;
+import io.github.rosestack.spring.boot.syslog.sink.BatchSysLogConsumer;
+import io.github.rosestack.spring.boot.syslog.sink.FileSysLogConsumer;
+import io.github.rosestack.spring.boot.syslog.sink.JdbcSysLogConsumer;
+import io.github.rosestack.spring.boot.syslog.sink.SysLogBatchDrainer;
+import io.github.rosestack.spring.boot.syslog.sink.SysLogEventBus;
+import io.github.rosestack.spring.boot.syslog.support.MicrometerSysLogTraceResolver;
+import io.github.rosestack.spring.boot.syslog.support.SysLogMetadataRegistry;
+import io.github.rosestack.spring.boot.syslog.support.SysLogSampleSummarizer;
+import io.github.rosestack.spring.boot.syslog.support.SysLogStaticContext;
+import io.github.rosestack.spring.boot.syslog.support.SysLogSwitch;
+import io.github.rosestack.spring.boot.syslog.support.SysLogTraceResolver;
+import io.micrometer.tracing.Tracer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 日志自动配置
+ */
+@AutoConfiguration(afterName = "org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration")
+@ConditionalOnWebApplication
+@ConditionalOnProperty(prefix = "rose.syslog", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(SysLogProperties.class)
+public class SysLogConfiguration {
+    public static final Logger log = LoggerFactory.getLogger(SysLogConfiguration.class);
+
+    @Bean
+    @ConditionalOnMissingBean
+    public BatchSysLogConsumer batchSysLogConsumer() {
+        return batch -> {
+            for (SysLogInfo sysLogInfo : batch) {
+                log.info("sysLogInfo: {}", sysLogInfo);
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public SysLogMetadataRegistry sysLogMetadataRegistry() {
+        return new SysLogMetadataRegistry();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public SysLogSwitch sysLogSwitch(SysLogProperties sysLogProperties) {
+        return new SysLogSwitch(true, sysLogProperties.getPackages());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public SysLogStaticContext sysLogStaticContext(Environment environment, SysLogProperties sysLogProperties) {
+        return new SysLogStaticContext(
+                environment.getProperty("spring.application.name"),
+                sysLogProperties.getContext().getRefreshInterval(),
+                sysLogProperties.getContext().getClockResolution());
+    }
+
+    @Bean
+    public SysLogAspect sysLogAspect(
+            SysLogPublisher sysLogPublisher,
+            SysLogMetadataRegistry sysLogMetadataRegistry,
+            SysLogSwitch sysLogSwitch,
+            SysLogStaticContext sysLogStaticContext,
+            ObjectProvider<SysLogTraceResolver> sysLogTraceResolver,
+            SysLogProperties sysLogProperties) {
+        log.info("Initializing SysLogAspect");
+        return new SysLogAspect(
+                sysLogPublisher,
+                sysLogMetadataRegistry,
+                sysLogSwitch,
+                sysLogStaticContext,
+                sysLogTraceResolver.getIfAvailable(() -> SysLogTraceResolver.MDC_RESOLVER),
+                sysLogProperties.getRequestParamsMaxBytes());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public SysLogSampleSummarizer sysLogSampleSummarizer(
+            SysLogMetadataRegistry sysLogMetadataRegistry,
+            SysLogPublisher sysLogPublisher,
+            SysLogStaticContext sysLogStaticContext,
+            SysLogProperties sysLogProperties) {
+        return new SysLogSampleSummarizer(
+                sysLogMetadataRegistry,
+                sysLogPublisher,
+                sysLogStaticContext,
+                sysLogProperties.getSampling().getSummaryInterval());
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "rose.syslog", name = "dispatch", havingValue = "event", matchIfMissing = true)
+    static class EventDispatchConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public SysLogBatchDrainer sysLogBatchDrainer(
+                BatchSysLogConsumer batchSysLogConsumer, SysLogProperties sysLogProperties) {
+            return new SysLogBatchDrainer(batchSysLogConsumer, sysLogProperties.getSink());
+        }
+
+        @Bean
+        @ConditionalOnMissingBean
+        public SysLogListener sysLogListener(SysLogBatchDrainer sysLogBatchDrainer) {
+            return new SysLogListener(sysLogBatchDrainer::offer);
+        }
+
+        @Bean
+        @ConditionalOnMissingBean
+        public SysLogPublisher sysLogPublisher(
+                ApplicationEventPublisher applicationEventPublisher, SysLogBatchDrainer sysLogBatchDrainer) {
+            return new ApplicationEventSysLogPublisher(applicationEventPublisher, sysLogBatchDrainer::getLoad);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "rose.syslog", name = "dispatch", havingValue = "direct")
+    static class DirectDispatchConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(SysLogPublisher.class)
+        public SysLogEventBus sysLogEventBus(
+                BatchSysLogConsumer batchSysLogConsumer, SysLogProperties sysLogProperties) {
+            return new SysLogEventBus(batchSysLogConsumer, sysLogProperties.getSink());
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(Tracer.class)
+    static class MicrometerTracingConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public SysLogTraceResolver sysLogTraceResolver(ObjectProvider<Tracer> tracer) {
+            return new MicrometerSysLogTraceResolver(tracer);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(Endpoint.class)
+    static class SysLogEndpointConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        @ConditionalOnAvailableEndpoint
+        public SysLogEndpoint sysLogEndpoint(SysLogSwitch sysLogSwitch, SysLogPublisher sysLogPublisher) {
+            return new SysLogEndpoint(sysLogSwitch, sysLogPublisher);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "rose.syslog.file", name = "enabled", havingValue = "true")
+    static class FileSysLogConsumerConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public BatchSysLogConsumer fileSysLogConsumer(SysLogProperties sysLogProperties) {
+            return new FileSysLogConsumer(sysLogProperties.getFile());
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(JdbcTemplate.class)
+    @ConditionalOnProperty(prefix = "rose.syslog.jdbc", name = "enabled", havingValue = "true")
+    static class JdbcSysLogConsumerConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        @ConditionalOnBean(JdbcTemplate.class)
+        public BatchSysLogConsumer jdbcSysLogConsumer(JdbcTemplate jdbcTemplate, SysLogProperties sysLogProperties) {
+            return new JdbcSysLogConsumer(jdbcTemplate, sysLogProperties.getJdbc().getTableName());
+        }
+    }
+}
@@ -0,0 +1,386 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rosestack.spring.boot.syslog;
+
+import io.github.rosestack.spring.boot.syslog.event.DispatchMode;
+import io.github.rosestack.spring.boot.syslog.sink.OverflowPolicy;
+import io.github.rosestack.spring.boot.syslog.sink.SysLogFileFormat;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 系统日志配置
+ */
+@ConfigurationProperties(prefix = "rose.syslog")
+public class SysLogProperties {
+
+    /**
+     * 是否启用系统日志，关闭后不注册切面
+     */
+    private boolean enabled = true;
+
+    /**
+     * 按包（或类全名）开关，最长前缀优先，未匹配的包跟随全局开关；可通过 syslog 端点在运行时修改
+     */
+    private Map<String, Boolean> packages = new LinkedHashMap<>();
+
+    /**
+     * 日志分发方式，DIRECT 时不经过 Spring 事件，直接写入预分配槽位的直连总线
+     */
+    private DispatchMode dispatch = DispatchMode.EVENT;
+
+    /**
+     * 日志缓冲与批量写入配置
+     */
+    private final Sink sink = new Sink();
+
+    /**
+     * JDBC 批量写入配置
+     */
+    private final Jdbc jdbc = new Jdbc();
+
+    /**
+     * 滚动文件写入配置
+     */
+    private final File file = new File();
+
+    /**
+     * 进程级上下文配置
+     */
+    private final Context context = new Context();
+
+    /**
+     * 采样配置
+     */
+    private final Sampling sampling = new Sampling();
+
+    /**
+     * 请求参数序列化最大字节数，超出截断，小于等于 0 表示不限制
+     */
+    private int requestParamsMaxBytes = 4096;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Map<String, Boolean> getPackages() {
+        return packages;
+    }
+
+    public void setPackages(Map<String, Boolean> packages) {
+        this.packages = packages;
+    }
+
+    public DispatchMode getDispatch() {
+        return dispatch;
+    }
+
+    public void setDispatch(DispatchMode dispatch) {
+        this.dispatch = dispatch;
+    }
+
+    public Sink getSink() {
+        return sink;
+    }
+
+    public Jdbc getJdbc() {
+        return jdbc;
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    public Context getContext() {
+        return context;
+    }
+
+    public Sampling getSampling() {
+        return sampling;
+    }
+
+    public int getRequestParamsMaxBytes() {
+        return requestParamsMaxBytes;
+    }
+
+    public void setRequestParamsMaxBytes(int requestParamsMaxBytes) {
+        this.requestParamsMaxBytes = requestParamsMaxBytes;
+    }
+
+    public static class Sink {
+        /**
+         * 缓冲区容量（直连总线的槽位数），向上取整为 2 的幂
+         */
+        private int capacity = 8192;
+
+        /**
+         * 单批最大条数，攒满即写入
+         */
+        private int batchSize = 256;
+
+        /**
+         * 批次最长等待时间，未攒满时到时即写入
+         */
+        private Duration flushInterval = Duration.ofSeconds(1);
+
+        /**
+         * 缓冲区满时的处理策略
+         */
+        private OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+
+        /**
+         * BLOCK 策略下的最长等待时间
+         */
+        private Duration blockTimeout = Duration.ofMillis(100);
+
+        /**
+         * 停机时等待缓冲区排空的最长时间
+         */
+        private Duration shutdownTimeout = Duration.ofSeconds(10);
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(int capacity) {
+            this.capacity = capacity;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public Duration getFlushInterval() {
+            return flushInterval;
+        }
+
+        public void setFlushInterval(Duration flushInterval) {
+            this.flushInterval = flushInterval;
+        }
+
+        public OverflowPolicy getOverflowPolicy() {
+            return overflowPolicy;
+        }
+
+        public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+            this.overflowPolicy = overflowPolicy;
+        }
+
+        public Duration getBlockTimeout() {
+            return blockTimeout;
+        }
+
+        public void setBlockTimeout(Duration blockTimeout) {
+            this.blockTimeout = blockTimeout;
+        }
+
+        public Duration getShutdownTimeout() {
+            return shutdownTimeout;
+        }
+
+        public void setShutdownTimeout(Duration shutdownTimeout) {
+            this.shutdownTimeout = shutdownTimeout;
+        }
+    }
+
+    public static class Jdbc {
+        /**
+         * 是否启用 JDBC 批量写入
+         */
+        private boolean enabled = false;
+
+        /**
+         * 日志表名
+         */
+        private String tableName = "sys_log";
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getTableName() {
+            return tableName;
+        }
+
+        public void setTableName(String tableName) {
+            this.tableName = tableName;
+        }
+    }
+
+    public static class File {
+        /**
+         * 是否启用滚动文件写入
+         */
+        private boolean enabled = false;
+
+        /**
+         * 日志目录
+         */
+        private String directory = "logs/syslog";
+
+        /**
+         * 文件名前缀
+         */
+        private String filePrefix = "syslog";
+
+        /**
+         * 文件格式
+         */
+        private SysLogFileFormat format = SysLogFileFormat.NDJSON;
+
+        /**
+         * 单个文件最大大小，超过后滚动
+         */
+        private DataSize maxFileSize = DataSize.ofMegabytes(128);
+
+        /**
+         * 单个文件最长写入时间，超过后滚动
+         */
+        private Duration rollInterval = Duration.ofHours(1);
+
+        /**
+         * 刷盘间隔，为 0 时每批刷盘
+         */
+        private Duration forceInterval = Duration.ofSeconds(1);
+
+        /**
+         * 编码缓冲区初始大小
+         */
+        private DataSize bufferSize = DataSize.ofKilobytes(256);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getDirectory() {
+            return directory;
+        }
+
+        public void setDirectory(String directory) {
+            this.directory = directory;
+        }
+
+        public String getFilePrefix() {
+            return filePrefix;
+        }
+
+        public void setFilePrefix(String filePrefix) {
+            this.filePrefix = filePrefix;
+        }
+
+        public SysLogFileFormat getFormat() {
+            return format;
+        }
+
+        public void setFormat(SysLogFileFormat format) {
+            this.format = format;
+        }
+
+        public DataSize getMaxFileSize() {
+            return maxFileSize;
+        }
+
+        public void setMaxFileSize(DataSize maxFileSize) {
+            this.maxFileSize = maxFileSize;
+        }
+
+        public Duration getRollInterval() {
+            return rollInterval;
+        }
+
+        public void setRollInterval(Duration rollInterval) {
+            this.rollInterval = rollInterval;
+        }
+
+        public Duration getForceInterval() {
+            return forceInterval;
+        }
+
+        public void setForceInterval(Duration forceInterval) {
+            this.forceInterval = forceInterval;
+        }
+
+        public DataSize getBufferSize() {
+            return bufferSize;
+        }
+
+        public void setBufferSize(DataSize bufferSize) {
+            this.bufferSize = bufferSize;
+        }
+    }
+
+    public static class Context {
+        /**
+         * 服务器 IP、主机名等进程级信息的刷新间隔
+         */
+        private Duration refreshInterval = Duration.ofMinutes(5);
+
+        /**
+         * 日志时间的时钟精度
+         */
+        private Duration clockResolution = Duration.ofMillis(10);
+
+        public Duration getRefreshInterval() {
+            return refreshInterval;
+        }
+
+        public void setRefreshInterval(Duration refreshInterval) {
+            this.refreshInterval = refreshInterval;
+        }
+
+        public Duration getClockResolution() {
+            return clockResolution;
+        }
+
+        public void setClockResolution(Duration clockResolution) {
+            this.clockResolution = clockResolution;
+        }
+    }
+
+    public static class Sampling {
+        /**
+         * 采样跳过条数的汇总输出间隔
+         */
+        private Duration summaryInterval = Duration.ofMinutes(1);
+
+        public Duration getSummaryInterval() {
+            return summaryInterval;
+        }
+
+        public void setSummaryInterval(Duration summaryInterval) {
+            this.summaryInterval = summaryInterval;
+        }
+    }
+}
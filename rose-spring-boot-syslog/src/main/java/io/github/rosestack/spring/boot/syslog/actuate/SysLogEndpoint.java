@@ -0,0 +1,73 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rosestack.spring.boot.syslog.actuate;
+
+import io.github.rosestack.spring.boot.syslog.event.SysLogPublisher;
+import io.github.rosestack.spring.boot.syslog.support.SysLogSwitch;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+/**
+ * 系统日志端点（{@code /actuator/syslog}）
+ *
+ * <ul>
+ *   <li>GET：查看全局开关、按包开关与缓冲区使用率
+ *   <li>POST {@code {"enabled": false}}：关闭全局开关；{@code {"enabled": false, "packageName": "com.example.report"}}
+ *       设置按包开关
+ *   <li>DELETE {@code /actuator/syslog/{packageName}}：移除按包开关
+ * </ul>
+ */
+@Endpoint(id = "syslog")
+public class SysLogEndpoint {
+    private final SysLogSwitch sysLogSwitch;
+    private final SysLogPublisher sysLogPublisher;
+
+    public SysLogEndpoint(SysLogSwitch sysLogSwitch, SysLogPublisher sysLogPublisher) {
+        this.sysLogSwitch = sysLogSwitch;
+        this.sysLogPublisher = sysLogPublisher;
+    }
+
+    @ReadOperation
+    public Map<String, Object> state() {
+        Map<String, Object> state = new LinkedHashMap<>();
+        state.put("enabled", sysLogSwitch.isEnabled());
+        state.put("packages", sysLogSwitch.getPackages());
+        state.put("load", sysLogPublisher.getLoad());
+        return state;
+    }
+
+    @WriteOperation
+    public Map<String, Object> toggle(boolean enabled, @Nullable String packageName) {
+        if (packageName == null || packageName.isBlank()) {
+            sysLogSwitch.setEnabled(enabled);
+        } else {
+            sysLogSwitch.setPackage(packageName, enabled);
+        }
+        return state();
+    }
+
+    @DeleteOperation
+    public Map<String, Object> remove(@Selector String packageName) {
+        sysLogSwitch.setPackage(packageName, null);
+        return state();
+    }
+}
@@ -13,7 +13,7 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package io.github.rose.syslog.annotation;
+package io.github.rosestack.spring.boot.syslog.annotation;
 
 import java.lang.annotation.*;
 
@@ -27,4 +27,19 @@ public @interface SysLog {
     String value();
 
     String expression() default "";
+
+    /**
+     * 采样率，取值 (0, 1]，默认全部记录；失败的调用总是记录
+     */
+    double sample() default 1.0;
+
+    /**
+     * 每秒最多记录条数（令牌桶），小于等于 0 表示不限制
+     */
+    int maxPerSecond() default 0;
+
+    /**
+     * 自适应采样：日志缓冲区使用率越高，实际采样率越低
+     */
+    boolean adaptive() default false;
 }
@@ -13,11 +13,14 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package io.github.rose.syslog.annotation;
+package io.github.rosestack.spring.boot.syslog.annotation;
 
 import java.lang.annotation.*;
 
-@Target(ElementType.METHOD)
+/**
+ * 忽略日志参数记录：标注在方法上时不记录任何参数，标注在参数或参数类型上时不记录该参数
+ */
+@Target({ElementType.METHOD, ElementType.PARAMETER, ElementType.TYPE})
 @Retention(RetentionPolicy.RUNTIME)
 @Documented
 public @interface SysLogIgnore {}
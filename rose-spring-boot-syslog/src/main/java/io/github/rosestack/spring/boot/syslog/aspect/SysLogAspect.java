@@ -0,0 +1,122 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rosestack.spring.boot.syslog.aspect;
+
+import io.github.rosestack.spring.boot.capture.InvocationCapture;
+import io.github.rosestack.spring.boot.syslog.annotation.SysLog;
+import io.github.rosestack.spring.boot.syslog.event.SysLogInfo;
+import io.github.rosestack.spring.boot.syslog.event.SysLogPublisher;
+import io.github.rosestack.spring.boot.syslog.support.SysLogMetadata;
+import io.github.rosestack.spring.boot.syslog.support.SysLogMetadataRegistry;
+import io.github.rosestack.spring.boot.syslog.support.SysLogSampler;
+import io.github.rosestack.spring.boot.syslog.support.SysLogStaticContext;
+import io.github.rosestack.spring.boot.syslog.support.SysLogSwitch;
+import io.github.rosestack.spring.boot.syslog.support.SysLogTraceResolver;
+import io.github.rosestack.spring.boot.syslog.util.SysLogUtils;
+import java.lang.reflect.Method;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 操作日志切面，日志通过 {@link SysLogPublisher} 发布（默认为 Spring 事件）
+ */
+@Aspect
+public class SysLogAspect {
+    private static final Logger log = LoggerFactory.getLogger(SysLogAspect.class);
+
+    private final SysLogPublisher publisher;
+
+    private final SysLogMetadataRegistry metadataRegistry;
+
+    private final SysLogSwitch sysLogSwitch;
+
+    private final SysLogStaticContext staticContext;
+
+    private final SysLogTraceResolver traceResolver;
+
+    private final int requestParamsMaxBytes;
+
+    public SysLogAspect(
+            SysLogPublisher publisher,
+            SysLogMetadataRegistry metadataRegistry,
+            SysLogSwitch sysLogSwitch,
+            SysLogStaticContext staticContext,
+            SysLogTraceResolver traceResolver,
+            int requestParamsMaxBytes) {
+        this.publisher = publisher;
+        this.metadataRegistry = metadataRegistry;
+        this.sysLogSwitch = sysLogSwitch;
+        this.staticContext = staticContext;
+        this.traceResolver = traceResolver;
+        this.requestParamsMaxBytes = requestParamsMaxBytes;
+    }
+
+    @Around("@annotation(sysLog)")
+    public Object around(ProceedingJoinPoint joinPoint, SysLog sysLog) throws Throwable {
+        // 关闭时直接放行，不构建任何日志对象
+        if (!sysLogSwitch.isEnabled(joinPoint.getTarget().getClass())) {
+            return joinPoint.proceed();
+        }
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        log.debug("[类名]:{},[方法]:{}", method.getDeclaringClass().getName(), method.getName());
+
+        // 采样在构建日志、序列化参数之前决定
+        SysLogMetadata metadata = metadataRegistry.get(method, sysLog);
+        SysLogSampler sampler = metadata.getSampler();
+        boolean sampled = sampler.sample(publisher.getLoad());
+
+        // 与同一调用上的其他切面（如 @Audit）共用一次采集
+        InvocationCapture capture = InvocationCapture.enter(method, joinPoint.getTarget(), joinPoint.getArgs());
+        try {
+            SysLogInfo sysLogInfo = sampled ? buildSysLog(capture, metadata) : null;
+            Object result;
+            try {
+                result = joinPoint.proceed();
+                capture.complete(result, null);
+            } catch (Throwable e) {
+                capture.complete(null, e);
+                if (sysLogInfo == null) {
+                    // 失败的调用总是记录
+                    sysLogInfo = buildSysLog(capture, metadata);
+                }
+                sysLogInfo.setException(e.getMessage());
+                sysLogInfo.setSuccess(false);
+                throw e;
+            } finally {
+                if (sysLogInfo != null) {
+                    sysLogInfo.setCostTime(capture.getCostMillis());
+                    publisher.publish(sysLogInfo);
+                } else {
+                    sampler.skip(metadata.getName(capture.getArgs()));
+                }
+            }
+            return result;
+        } finally {
+            capture.exit();
+        }
+    }
+
+    private SysLogInfo buildSysLog(InvocationCapture capture, SysLogMetadata metadata) {
+        SysLogInfo sysLogInfo =
+                SysLogUtils.getSysLog(publisher.create(), capture, metadata, staticContext, requestParamsMaxBytes);
+        traceResolver.resolve(sysLogInfo);
+        return sysLogInfo;
+    }
+}
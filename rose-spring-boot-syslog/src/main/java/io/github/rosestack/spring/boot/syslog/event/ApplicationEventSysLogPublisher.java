@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rosestack.spring.boot.syslog.event;
+
+import java.util.function.DoubleSupplier;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * 通过 Spring 事件发布日志，由 {@link SysLogListener} 监听
+ */
+public class ApplicationEventSysLogPublisher implements SysLogPublisher {
+    private final ApplicationEventPublisher eventPublisher;
+    private final DoubleSupplier load;
+
+    public ApplicationEventSysLogPublisher(ApplicationEventPublisher eventPublisher) {
+        this(eventPublisher, () -> 0);
+    }
+
+    /**
+     * @param load 监听端缓冲区使用率
+     */
+    public ApplicationEventSysLogPublisher(ApplicationEventPublisher eventPublisher, DoubleSupplier load) {
+        this.eventPublisher = eventPublisher;
+        this.load = load;
+    }
+
+    @Override
+    public void publish(SysLogInfo sysLogInfo) {
+        eventPublisher.publishEvent(new SysLogEvent(sysLogInfo));
+    }
+
+    @Override
+    public double getLoad() {
+        return load.getAsDouble();
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rosestack.spring.boot.syslog.event;
+
+/**
+ * 日志分发方式
+ */
+public enum DispatchMode {
+    /**
+     * 发布 Spring 事件，由 {@link SysLogListener} 放入批量写入器
+     */
+    EVENT,
+
+    /**
+     * 直接写入 {@link io.github.rosestack.spring.boot.syslog.sink.SysLogEventBus} 的预分配槽位，不经过 Spring 事件
+     */
+    DIRECT
+}
@@ -13,7 +13,7 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package io.github.rose.syslog.event;
+package io.github.rosestack.spring.boot.syslog.event;
 
 import org.springframework.context.ApplicationEvent;
 
@@ -0,0 +1,294 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rosestack.spring.boot.syslog.event;
+
+import io.github.rosestack.spring.boot.syslog.support.RequestParamsWriter;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+public class SysLogInfo implements Serializable {
+
+    private static final long serialVersionUID = 1129753896999673095L;
+
+    private String name;
+
+    private String serverIp;
+
+    private String hostName;
+
+    private String appName;
+
+    private String clientIp;
+
+    private String userAgent;
+
+    private String requestUrl;
+
+    private String requestParams;
+
+    private String requestMethod;
+
+    private Long costTime;
+
+    private boolean success;
+
+    private String exception;
+
+    private String traceId;
+
+    private String spanId;
+
+    private String createdBy;
+
+    private LocalDateTime createTime;
+
+    private String tenantId;
+
+    /**
+     * 采样汇总记录：统计周期内因采样被跳过的调用数，普通记录为 0
+     */
+    private long skippedCount;
+
+    /**
+     * 待序列化的请求参数，首次读取 {@link #getRequestParams()} 时才序列化
+     */
+    private transient Object requestParamsSource;
+
+    private transient int requestParamsMaxBytes;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getServerIp() {
+        return serverIp;
+    }
+
+    public void setServerIp(String serverIp) {
+        this.serverIp = serverIp;
+    }
+
+    public String getHostName() {
+        return hostName;
+    }
+
+    public void setHostName(String hostName) {
+        this.hostName = hostName;
+    }
+
+    public String getAppName() {
+        return appName;
+    }
+
+    public void setAppName(String appName) {
+        this.appName = appName;
+    }
+
+    public String getClientIp() {
+        return clientIp;
+    }
+
+    public void setClientIp(String clientIp) {
+        this.clientIp = clientIp;
+    }
+
+    public String getUserAgent() {
+        return userAgent;
+    }
+
+    public void setUserAgent(String userAgent) {
+        this.userAgent = userAgent;
+    }
+
+    public String getRequestUrl() {
+        return requestUrl;
+    }
+
+    public void setRequestUrl(String requestUrl) {
+        this.requestUrl = requestUrl;
+    }
+
+    public String getRequestParams() {
+        if (requestParams == null && requestParamsSource != null) {
+            requestParams = RequestParamsWriter.write(requestParamsSource, requestParamsMaxBytes);
+            requestParamsSource = null;
+        }
+        return requestParams;
+    }
+
+    public void setRequestParams(String requestParams) {
+        this.requestParams = requestParams;
+        this.requestParamsSource = null;
+    }
+
+    /**
+     * 延迟序列化请求参数，只保存参数引用，由消费端读取时序列化
+     *
+     * @param source   参数列表或参数 Map
+     * @param maxBytes 序列化结果最大字节数，超出截断
+     */
+    public void deferRequestParams(Object source, int maxBytes) {
+        this.requestParams = null;
+        this.requestParamsSource = source;
+        this.requestParamsMaxBytes = maxBytes;
+    }
+
+    public String getRequestMethod() {
+        return requestMethod;
+    }
+
+    public void setRequestMethod(String requestMethod) {
+        this.requestMethod = requestMethod;
+    }
+
+    public Long getCostTime() {
+        return costTime;
+    }
+
+    public void setCostTime(Long costTime) {
+        this.costTime = costTime;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+
+    public String getException() {
+        return exception;
+    }
+
+    public void setException(String exception) {
+        this.exception = exception;
+    }
+
+    public String getTraceId() {
+        return traceId;
+    }
+
+    public void setTraceId(String traceId) {
+        this.traceId = traceId;
+    }
+
+    public String getSpanId() {
+        return spanId;
+    }
+
+    public void setSpanId(String spanId) {
+        this.spanId = spanId;
+    }
+
+    public String getCreatedBy() {
+        return createdBy;
+    }
+
+    public void setCreatedBy(String createdBy) {
+        this.createdBy = createdBy;
+    }
+
+    public LocalDateTime getCreateTime() {
+        return createTime;
+    }
+
+    public void setCreateTime(LocalDateTime createTime) {
+        this.createTime = createTime;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    /**
+     * 复制另一条日志的全部字段（包括尚未序列化的请求参数），用于可复用的日志槽位
+     *
+     * @param source 源日志
+     */
+    public void copyFrom(SysLogInfo source) {
+        this.name = source.name;
+        this.serverIp = source.serverIp;
+        this.hostName = source.hostName;
+        this.appName = source.appName;
+        this.clientIp = source.clientIp;
+        this.userAgent = source.userAgent;
+        this.requestUrl = source.requestUrl;
+        this.requestParams = source.requestParams;
+        this.requestParamsSource = source.requestParamsSource;
+        this.requestParamsMaxBytes = source.requestParamsMaxBytes;
+        this.requestMethod = source.requestMethod;
+        this.costTime = source.costTime;
+        this.success = source.success;
+        this.exception = source.exception;
+        this.traceId = source.traceId;
+        this.spanId = source.spanId;
+        this.createdBy = source.createdBy;
+        this.createTime = source.createTime;
+        this.tenantId = source.tenantId;
+        this.skippedCount = source.skippedCount;
+    }
+
+    /**
+     * 清空全部字段，释放对参数等对象的引用
+     */
+    public void clear() {
+        this.name = null;
+        this.serverIp = null;
+        this.hostName = null;
+        this.appName = null;
+        this.clientIp = null;
+        this.userAgent = null;
+        this.requestUrl = null;
+        this.requestParams = null;
+        this.requestParamsSource = null;
+        this.requestParamsMaxBytes = 0;
+        this.requestMethod = null;
+        this.costTime = null;
+        this.success = false;
+        this.exception = null;
+        this.traceId = null;
+        this.spanId = null;
+        this.createdBy = null;
+        this.createTime = null;
+        this.tenantId = null;
+        this.skippedCount = 0;
+    }
+
+    public long getSkippedCount() {
+        return skippedCount;
+    }
+
+    public void setSkippedCount(long skippedCount) {
+        this.skippedCount = skippedCount;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        // 序列化前先解析延迟的请求参数，避免 transient 字段丢失
+        getRequestParams();
+        out.defaultWriteObject();
+    }
+}
@@ -13,28 +13,30 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package io.github.rose.syslog.event;
+package io.github.rosestack.spring.boot.syslog.event;
 
-import io.github.rose.core.function.CheckedConsumer;
+import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.event.EventListener;
 import org.springframework.core.annotation.Order;
-import org.springframework.scheduling.annotation.Async;
 
 /**
- * 异步监听日志事件
+ * 监听日志事件
+ *
+ * <p>默认消费者只把日志放入 {@link io.github.rosestack.spring.boot.syslog.sink.SysLogBatchDrainer} 的无锁缓冲区，
+ * 由后台线程批量写入，因此不再经过 {@code @Async} 线程池。耗时的逐条消费者请改为实现
+ * {@link io.github.rosestack.spring.boot.syslog.sink.BatchSysLogConsumer}。
  */
 public class SysLogListener {
     private static final Logger log = LoggerFactory.getLogger(SysLogListener.class);
 
-    private final CheckedConsumer<SysLogInfo> consumer;
+    private final Consumer<SysLogInfo> consumer;
 
-    public SysLogListener(CheckedConsumer<SysLogInfo> consumer) {
+    public SysLogListener(Consumer<SysLogInfo> consumer) {
         this.consumer = consumer;
     }
 
-    @Async
     @Order
     @EventListener(SysLogEvent.class)
     public void saveLog(SysLogEvent sysLogEvent) {
@@ -0,0 +1,48 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rosestack.spring.boot.syslog.event;
+
+/**
+ * 日志发布器
+ *
+ * <p>切面通过 {@link #create()} 获取日志对象，方法执行完成后调用 {@link #publish(SysLogInfo)}。
+ * 发布后调用方不得再访问该日志对象，实现可以回收复用。
+ */
+public interface SysLogPublisher {
+
+    /**
+     * 获取一个空白日志对象
+     */
+    default SysLogInfo create() {
+        return new SysLogInfo();
+    }
+
+    /**
+     * 发布日志
+     *
+     * @param sysLogInfo 由 {@link #create()} 获取的日志
+     */
+    void publish(SysLogInfo sysLogInfo);
+
+    /**
+     * 日志缓冲区使用率，供自适应采样使用
+     *
+     * @return 取值 [0, 1]，未知时为 0
+     */
+    default double getLoad() {
+        return 0;
+    }
+}
@@ -13,7 +13,7 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package io.github.rose.syslog.init;
+package io.github.rosestack.spring.boot.syslog.init;
 
 import java.util.Locale;
 import org.springframework.boot.SpringApplication;
@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rosestack.spring.boot.syslog.sink;
+
+import io.github.rosestack.spring.boot.syslog.event.SysLogInfo;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 批量日志消费者 SPI
+ *
+ * <p>由 {@link SysLogBatchDrainer} 在后台线程中调用，每次传入按数量或时间攒好的一批日志。溢出策略为
+ * {@link OverflowPolicy#CALLER_RUNS} 时也可能在业务线程上调用，但调用之间总是串行的，实现无需自行同步。
+ * 实现不应在 {@link #accept(List)} 返回后继续持有列表或其中的元素。
+ */
+@FunctionalInterface
+public interface BatchSysLogConsumer {
+
+    /**
+     * 消费一批日志
+     *
+     * @param batch 日志列表，非空
+     * @throws Exception 消费失败，本批日志被丢弃并计数
+     */
+    void accept(List<SysLogInfo> batch) throws Exception;
+
+    /**
+     * 将逐条消费者适配为批量消费者
+     *
+     * @param consumer 逐条消费者
+     * @return 批量消费者
+     */
+    static BatchSysLogConsumer of(Consumer<SysLogInfo> consumer) {
+        return batch -> {
+            for (SysLogInfo sysLogInfo : batch) {
+                consumer.accept(sysLogInfo);
+            }
+        };
+    }
+}
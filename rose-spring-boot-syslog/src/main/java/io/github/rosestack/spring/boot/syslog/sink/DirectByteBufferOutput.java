@@ -0,0 +1,117 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rosestack.spring.boot.syslog.sink;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 可扩容的堆外缓冲区，批次编码后一次写入通道；只在单个线程中使用
+ */
+final class DirectByteBufferOutput extends OutputStream {
+    private ByteBuffer buffer;
+
+    DirectByteBufferOutput(int initialCapacity) {
+        this.buffer = ByteBuffer.allocateDirect(Math.max(initialCapacity, 1024));
+    }
+
+    @Override
+    public void write(int b) {
+        ensureRemaining(1);
+        buffer.put((byte) b);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        ensureRemaining(length);
+        buffer.put(bytes, offset, length);
+    }
+
+    void writeByte(int b) {
+        write(b);
+    }
+
+    void writeInt(int value) {
+        ensureRemaining(Integer.BYTES);
+        buffer.putInt(value);
+    }
+
+    void writeLong(long value) {
+        ensureRemaining(Long.BYTES);
+        buffer.putLong(value);
+    }
+
+    void putInt(int position, int value) {
+        buffer.putInt(position, value);
+    }
+
+    /**
+     * 写入长度前缀（-1 表示 null）的 UTF-8 字符串
+     */
+    void writeString(String value) {
+        if (value == null) {
+            writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeInt(bytes.length);
+        write(bytes, 0, bytes.length);
+    }
+
+    int position() {
+        return buffer.position();
+    }
+
+    /**
+     * 将已写入内容全部写入通道并清空缓冲区
+     *
+     * @return 写入的字节数
+     */
+    long drainTo(WritableByteChannel channel) throws IOException {
+        buffer.flip();
+        long written = 0;
+        while (buffer.hasRemaining()) {
+            written += channel.write(buffer);
+        }
+        buffer.clear();
+        return written;
+    }
+
+    /**
+     * 丢弃已写入内容
+     */
+    void clear() {
+        buffer.clear();
+    }
+
+    private void ensureRemaining(int length) {
+        if (buffer.remaining() >= length) {
+            return;
+        }
+        int required = buffer.position() + length;
+        int capacity = buffer.capacity();
+        while (capacity < required) {
+            capacity = capacity << 1;
+        }
+        ByteBuffer expanded = ByteBuffer.allocateDirect(capacity);
+        buffer.flip();
+        expanded.put(buffer);
+        buffer = expanded;
+    }
+}
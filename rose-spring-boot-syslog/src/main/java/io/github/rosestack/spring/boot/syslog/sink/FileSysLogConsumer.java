@@ -0,0 +1,181 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rosestack.spring.boot.syslog.sink;
+
+import io.github.rosestack.spring.boot.syslog.SysLogProperties;
+import io.github.rosestack.spring.boot.syslog.event.SysLogInfo;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 滚动文件写入日志
+ *
+ * <p>在 {@link SysLogBatchDrainer} 的后台线程中运行，不经过 SLF4J，不与应用日志争用 appender：
+ * 整批日志按 {@link SysLogFileFormat} 编码到堆外缓冲区，一次 {@link FileChannel#write(ByteBuffer)} 写入（组提交），
+ * 距上次刷盘超过刷盘间隔时执行一次 {@link FileChannel#force(boolean)}。文件超过最大大小或滚动间隔后切换到新文件。
+ *
+ * <p>每个数据文件有同名 {@code .idx} 索引文件，每批一条 20 字节记录：
+ * {@code long 批次起始偏移 + long 批内首条日志时间（毫秒） + int 条数}，用于按时间定位。
+ */
+public class FileSysLogConsumer implements BatchSysLogConsumer, Closeable {
+    private static final Logger log = LoggerFactory.getLogger(FileSysLogConsumer.class);
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final int INDEX_ENTRY_BYTES = Long.BYTES + Long.BYTES + Integer.BYTES;
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final Path directory;
+    private final String filePrefix;
+    private final SysLogFileFormat format;
+    private final long maxFileSize;
+    private final long rollIntervalMillis;
+    private final long forceIntervalNanos;
+
+    private final DirectByteBufferOutput buffer;
+    private final ByteBuffer indexEntry = ByteBuffer.allocateDirect(INDEX_ENTRY_BYTES);
+
+    private FileChannel dataChannel;
+    private FileChannel indexChannel;
+    private long fileSize;
+    private long fileOpenedMillis;
+    private long lastForceNanos;
+    private int sequence;
+
+    public FileSysLogConsumer(SysLogProperties.File properties) {
+        this.directory = Path.of(properties.getDirectory());
+        this.filePrefix = properties.getFilePrefix();
+        this.format = properties.getFormat();
+        this.maxFileSize = properties.getMaxFileSize().toBytes();
+        this.rollIntervalMillis = properties.getRollInterval().toMillis();
+        this.forceIntervalNanos = properties.getForceInterval().toNanos();
+        this.buffer = new DirectByteBufferOutput((int) properties.getBufferSize().toBytes());
+    }
+
+    @Override
+    public synchronized void accept(List<SysLogInfo> batch) throws IOException {
+        try {
+            rollIfNecessary();
+            format.encode(batch, buffer);
+            long offset = fileSize;
+            fileSize += buffer.drainTo(dataChannel);
+
+            SysLogInfo first = batch.get(0);
+            indexEntry.clear();
+            indexEntry.putLong(offset);
+            indexEntry.putLong(
+                    first.getCreateTime() == null
+                            ? System.currentTimeMillis()
+                            : first.getCreateTime().atZone(ZONE).toInstant().toEpochMilli());
+            indexEntry.putInt(batch.size());
+            indexEntry.flip();
+            while (indexEntry.hasRemaining()) {
+                indexChannel.write(indexEntry);
+            }
+        } catch (IOException | RuntimeException e) {
+            // 滚动失败，或缓冲区残留半批数据、文件与索引只写入了一部分：丢弃缓冲与当前文件，下一批重新打开新文件
+            buffer.clear();
+            abandonChannels();
+            throw e;
+        }
+
+        long now = System.nanoTime();
+        if (now - lastForceNanos >= forceIntervalNanos) {
+            force();
+            lastForceNanos = now;
+        }
+    }
+
+    private void rollIfNecessary() throws IOException {
+        long now = System.currentTimeMillis();
+        if (dataChannel != null && fileSize < maxFileSize && now - fileOpenedMillis < rollIntervalMillis) {
+            return;
+        }
+        closeChannels();
+        Files.createDirectories(directory);
+        String baseName = filePrefix + "-" + LocalDateTime.now().format(FILE_TIME) + "-" + (sequence++);
+        Path dataFile = directory.resolve(baseName + "." + format.getExtension());
+        // 数据文件与索引文件成对打开，任何一个失败都不保留另一个
+        FileChannel data = open(dataFile);
+        FileChannel index = null;
+        long size;
+        try {
+            index = open(directory.resolve(baseName + ".idx"));
+            size = data.size();
+        } catch (IOException | RuntimeException e) {
+            closeQuietly(index);
+            closeQuietly(data);
+            throw e;
+        }
+        dataChannel = data;
+        indexChannel = index;
+        fileSize = size;
+        fileOpenedMillis = now;
+        log.info("系统日志文件切换: {}", dataFile);
+    }
+
+    private static FileChannel open(Path file) throws IOException {
+        return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private void force() throws IOException {
+        dataChannel.force(false);
+        indexChannel.force(false);
+    }
+
+    private void closeChannels() throws IOException {
+        if (dataChannel == null) {
+            return;
+        }
+        try {
+            force();
+        } finally {
+            abandonChannels();
+        }
+    }
+
+    private void abandonChannels() {
+        closeQuietly(dataChannel);
+        closeQuietly(indexChannel);
+        dataChannel = null;
+        indexChannel = null;
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("关闭系统日志文件失败", e);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        closeChannels();
+    }
+}
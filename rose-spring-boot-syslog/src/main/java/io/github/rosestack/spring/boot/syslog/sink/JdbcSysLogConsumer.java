@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rosestack.spring.boot.syslog.sink;
+
+import io.github.rosestack.spring.boot.syslog.event.SysLogInfo;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+import java.util.regex.Pattern;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * JDBC 批量写入日志，每批执行一次 {@link JdbcTemplate#batchUpdate(String, BatchPreparedStatementSetter)}
+ *
+ * <p>表结构见 {@code db/mysql/sys_log.sql}、{@code db/postgresql/sys_log.sql}。
+ */
+public class JdbcSysLogConsumer implements BatchSysLogConsumer {
+    private static final Pattern TABLE_NAME = Pattern.compile("[A-Za-z_][A-Za-z0-9_.]*");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String insertSql;
+
+    public JdbcSysLogConsumer(JdbcTemplate jdbcTemplate, String tableName) {
+        if (!TABLE_NAME.matcher(tableName).matches()) {
+            throw new IllegalArgumentException("非法的日志表名: " + tableName);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.insertSql = "INSERT INTO " + tableName
+                + " (name, server_ip, host_name, app_name, client_ip, user_agent, request_url, request_params,"
+                + " request_method, cost_time, success, exception, trace_id, span_id, created_by, create_time,"
+                + " tenant_id, skipped_count)"
+                + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    }
+
+    @Override
+    public void accept(List<SysLogInfo> batch) {
+        jdbcTemplate.batchUpdate(insertSql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                SysLogInfo info = batch.get(i);
+                ps.setString(1, info.getName());
+                ps.setString(2, info.getServerIp());
+                ps.setString(3, info.getHostName());
+                ps.setString(4, info.getAppName());
+                ps.setString(5, info.getClientIp());
+                ps.setString(6, info.getUserAgent());
+                ps.setString(7, info.getRequestUrl());
+                ps.setString(8, info.getRequestParams());
+                ps.setString(9, info.getRequestMethod());
+                if (info.getCostTime() == null) {
+                    ps.setNull(10, Types.BIGINT);
+                } else {
+                    ps.setLong(10, info.getCostTime());
+                }
+                ps.setBoolean(11, info.isSuccess());
+                ps.setString(12, info.getException());
+                ps.setString(13, info.getTraceId());
+                ps.setString(14, info.getSpanId());
+                ps.setString(15, info.getCreatedBy());
+                ps.setTimestamp(16, info.getCreateTime() == null ? null : Timestamp.valueOf(info.getCreateTime()));
+                ps.setString(17, info.getTenantId());
+                ps.setLong(18, info.getSkippedCount());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return batch.size();
+            }
+        });
+    }
+}
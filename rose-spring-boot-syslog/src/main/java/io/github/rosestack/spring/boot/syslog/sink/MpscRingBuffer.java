@@ -0,0 +1,113 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rosestack.spring.boot.syslog.sink;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 有界无锁多生产者单消费者环形队列
+ *
+ * <p>生产者通过 CAS 抢占序号后写入槽位，消费者按序号顺序读取并清空槽位。容量向上取整为 2 的幂。
+ * 只允许一个线程调用 {@link #poll()}/{@link #drainTo(List, int)}。
+ *
+ * @param <E> 元素类型
+ */
+public class MpscRingBuffer<E> {
+    private final AtomicReferenceArray<E> slots;
+    private final int mask;
+    private final int capacity;
+    private final AtomicLong producerIndex = new AtomicLong();
+    private final AtomicLong consumerIndex = new AtomicLong();
+
+    public MpscRingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity 必须大于 0");
+        }
+        int size = 1 << (32 - Integer.numberOfLeadingZeros(capacity - 1));
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.capacity = size;
+    }
+
+    /**
+     * 入队，队列满时立即返回 false
+     */
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new NullPointerException("element");
+        }
+        while (true) {
+            long producer = producerIndex.get();
+            if (producer - consumerIndex.get() >= capacity) {
+                return false;
+            }
+            if (producerIndex.compareAndSet(producer, producer + 1)) {
+                slots.lazySet((int) producer & mask, element);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 出队，队列为空或队首生产者尚未完成写入时返回 null
+     */
+    public E poll() {
+        long consumer = consumerIndex.get();
+        int index = (int) consumer & mask;
+        E element = slots.get(index);
+        if (element == null) {
+            return null;
+        }
+        slots.lazySet(index, null);
+        consumerIndex.lazySet(consumer + 1);
+        return element;
+    }
+
+    /**
+     * 批量出队
+     *
+     * @param target 目标列表
+     * @param limit  最多出队数量
+     * @return 实际出队数量
+     */
+    public int drainTo(List<? super E> target, int limit) {
+        int count = 0;
+        while (count < limit) {
+            E element = poll();
+            if (element == null) {
+                break;
+            }
+            target.add(element);
+            count++;
+        }
+        return count;
+    }
+
+    public int size() {
+        long size = producerIndex.get() - consumerIndex.get();
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rosestack.spring.boot.syslog.sink;
+
+/**
+ * 日志缓冲区满时的处理策略
+ */
+public enum OverflowPolicy {
+    /**
+     * 丢弃新日志，不阻塞业务线程
+     */
+    DROP,
+
+    /**
+     * 在阻塞超时时间内等待空位，超时后丢弃
+     */
+    BLOCK,
+
+    /**
+     * 由调用线程直接交给消费者处理，与后台线程的消费串行执行，可能需要等待正在写入的批次
+     */
+    CALLER_RUNS
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rosestack.spring.boot.syslog.sink;
+
+import io.github.rosestack.spring.boot.syslog.SysLogProperties;
+import io.github.rosestack.spring.boot.syslog.event.SysLogInfo;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * 日志批量写入器
+ *
+ * <p>业务线程把日志放入 {@link MpscRingBuffer}（无锁，不阻塞）；单个后台线程按批大小或批次等待时间攒批后交给
+ * {@link BatchSysLogConsumer}。缓冲区满时按 {@link OverflowPolicy} 处理。停机时在超时时间内排空缓冲区。
+ *
+ * <p>{@link OverflowPolicy#CALLER_RUNS} 会在业务线程上调用消费者，所有调用经同一把锁串行，消费者不会被并发调用。
+ */
+public class SysLogBatchDrainer implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(SysLogBatchDrainer.class);
+    private static final long MAX_IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final BatchSysLogConsumer consumer;
+    private final SysLogProperties.Sink properties;
+    private final MpscRingBuffer<SysLogInfo> buffer;
+    private final Lock consumeLock = new ReentrantLock();
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder consumed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    private volatile boolean running;
+    private volatile Thread drainer;
+
+    public SysLogBatchDrainer(BatchSysLogConsumer consumer, SysLogProperties.Sink properties) {
+        this.consumer = consumer;
+        this.properties = properties;
+        this.buffer = new MpscRingBuffer<>(properties.getCapacity());
+    }
+
+    /**
+     * 提交日志
+     *
+     * @param sysLogInfo 日志
+     * @return 是否被接收（进入缓冲区或由调用线程直接消费）
+     */
+    public boolean offer(SysLogInfo sysLogInfo) {
+        if (buffer.offer(sysLogInfo)) {
+            accepted.increment();
+            if (buffer.size() >= properties.getBatchSize()) {
+                LockSupport.unpark(drainer);
+            }
+            return true;
+        }
+        return overflow(sysLogInfo);
+    }
+
+    private boolean overflow(SysLogInfo sysLogInfo) {
+        switch (properties.getOverflowPolicy()) {
+            case BLOCK:
+                long deadline = System.nanoTime() + properties.getBlockTimeout().toNanos();
+                LockSupport.unpark(drainer);
+                while (System.nanoTime() < deadline) {
+                    LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                    if (buffer.offer(sysLogInfo)) {
+                        accepted.increment();
+                        return true;
+                    }
+                }
+                break;
+            case CALLER_RUNS:
+                accepted.increment();
+                consume(Collections.singletonList(sysLogInfo));
+                return true;
+            default:
+                break;
+        }
+        dropped.increment();
+        return false;
+    }
+
+    public int getBufferSize() {
+        return buffer.size();
+    }
+
+    /**
+     * 缓冲区使用率
+     */
+    public double getLoad() {
+        return (double) buffer.size() / buffer.capacity();
+    }
+
+    public int getCapacity() {
+        return buffer.capacity();
+    }
+
+    public long getAccepted() {
+        return accepted.sum();
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    public long getConsumed() {
+        return consumed.sum();
+    }
+
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    @Override
+    public void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        Thread thread = new Thread(this::drainLoop, "rose-syslog-drainer");
+        thread.setDaemon(true);
+        drainer = thread;
+        thread.start();
+        log.info(
+                "系统日志批量写入器已启动，缓冲区容量: {}，批大小: {}，批次等待时间: {}，溢出策略: {}",
+                buffer.capacity(),
+                properties.getBatchSize(),
+                properties.getFlushInterval(),
+                properties.getOverflowPolicy());
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        Thread thread = drainer;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(properties.getShutdownTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        int remaining = buffer.size();
+        if (remaining > 0) {
+            dropped.add(remaining);
+            log.warn("系统日志批量写入器停机超时，丢弃未写入日志: {}", remaining);
+        }
+        log.info("系统日志批量写入器已停止");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 晚于日志生产方（如采样汇总）停止
+     */
+    @Override
+    public int getPhase() {
+        return DEFAULT_PHASE - 1;
+    }
+
+    private void drainLoop() {
+        int batchSize = properties.getBatchSize();
+        long flushNanos = properties.getFlushInterval().toNanos();
+        long idleParkNanos = Math.min(flushNanos, MAX_IDLE_PARK_NANOS);
+        List<SysLogInfo> batch = new ArrayList<>(batchSize);
+        long batchStart = 0;
+
+        while (running || !buffer.isEmpty()) {
+            int drained = buffer.drainTo(batch, batchSize - batch.size());
+            if (!batch.isEmpty() && batchStart == 0) {
+                batchStart = System.nanoTime();
+            }
+
+            boolean full = batch.size() >= batchSize;
+            boolean expired = !batch.isEmpty() && System.nanoTime() - batchStart >= flushNanos;
+            if (full || expired || (!running && !batch.isEmpty())) {
+                consume(batch);
+                batch = new ArrayList<>(batchSize);
+                batchStart = 0;
+            } else if (drained == 0) {
+                LockSupport.parkNanos(idleParkNanos);
+            }
+        }
+        if (!batch.isEmpty()) {
+            consume(batch);
+        }
+    }
+
+    private void consume(List<SysLogInfo> batch) {
+        consumeLock.lock();
+        try {
+            consumer.accept(batch);
+            consumed.add(batch.size());
+        } catch (Throwable e) {
+            failed.add(batch.size());
+            log.error("系统日志批量写入失败，批大小: {}", batch.size(), e);
+        } finally {
+            consumeLock.unlock();
+        }
+    }
+}
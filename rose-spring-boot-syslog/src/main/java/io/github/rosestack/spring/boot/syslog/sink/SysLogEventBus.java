@@ -0,0 +1,286 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rosestack.spring.boot.syslog.sink;
+
+import io.github.rosestack.spring.boot.buffer.SlotRingBuffer;
+import io.github.rosestack.spring.boot.syslog.SysLogProperties;
+import io.github.rosestack.spring.boot.syslog.event.SysLogInfo;
+import io.github.rosestack.spring.boot.syslog.event.SysLogPublisher;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * 日志直连总线
+ *
+ * <p>启动时在 {@link SlotRingBuffer} 中预分配全部 {@link SysLogInfo} 槽位。业务线程抢占序号后把日志字段复制进槽位并发布序号，
+ * 单个后台线程按序号顺序把已发布的槽位攒批交给 {@link BatchSysLogConsumer}，消费完成后清空槽位并归还给生产者。
+ * 切面使用的日志对象来自线程本地的暂存栈，发布后清空放回，因此稳定状态下不为日志对象分配内存，
+ * 也不经过 Spring 事件广播。
+ *
+ * <p>消费者拿到的是槽位本身，{@link BatchSysLogConsumer#accept(List)} 返回后槽位即被复用，不得继续持有。
+ * {@link OverflowPolicy#CALLER_RUNS} 在业务线程上消费暂存对象，与后台线程的消费经同一把锁串行。
+ */
+public class SysLogEventBus implements SysLogPublisher, SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(SysLogEventBus.class);
+    private static final long MAX_IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final int MAX_SCRATCH_DEPTH = 8;
+
+    private final BatchSysLogConsumer consumer;
+    private final SysLogProperties.Sink properties;
+    private final Lock consumeLock = new ReentrantLock();
+
+    private final SlotRingBuffer<SysLogInfo> ring;
+
+    private final ThreadLocal<ArrayDeque<SysLogInfo>> scratch = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder consumed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    private volatile boolean running;
+    private volatile Thread drainer;
+
+    public SysLogEventBus(BatchSysLogConsumer consumer, SysLogProperties.Sink properties) {
+        if (properties.getCapacity() <= 0) {
+            throw new IllegalArgumentException("capacity 必须大于 0");
+        }
+        this.consumer = consumer;
+        this.properties = properties;
+        this.ring = new SlotRingBuffer<>(properties.getCapacity(), SysLogInfo::new);
+    }
+
+    @Override
+    public SysLogInfo create() {
+        SysLogInfo sysLogInfo = scratch.get().pollFirst();
+        return sysLogInfo != null ? sysLogInfo : new SysLogInfo();
+    }
+
+    @Override
+    public void publish(SysLogInfo sysLogInfo) {
+        try {
+            if (tryPublish(sysLogInfo)) {
+                accepted.increment();
+                if (size() >= properties.getBatchSize()) {
+                    LockSupport.unpark(drainer);
+                }
+            } else {
+                overflow(sysLogInfo);
+            }
+        } finally {
+            sysLogInfo.clear();
+            ArrayDeque<SysLogInfo> stack = scratch.get();
+            if (stack.size() < MAX_SCRATCH_DEPTH) {
+                stack.addFirst(sysLogInfo);
+            }
+        }
+    }
+
+    private boolean tryPublish(SysLogInfo sysLogInfo) {
+        long sequence = ring.claim();
+        if (sequence < 0) {
+            return false;
+        }
+        ring.get(sequence).copyFrom(sysLogInfo);
+        ring.publish(sequence);
+        return true;
+    }
+
+    private void overflow(SysLogInfo sysLogInfo) {
+        switch (properties.getOverflowPolicy()) {
+            case BLOCK:
+                long deadline = System.nanoTime() + properties.getBlockTimeout().toNanos();
+                LockSupport.unpark(drainer);
+                while (System.nanoTime() < deadline) {
+                    LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                    if (tryPublish(sysLogInfo)) {
+                        accepted.increment();
+                        return;
+                    }
+                }
+                break;
+            case CALLER_RUNS:
+                accepted.increment();
+                consume(Collections.singletonList(sysLogInfo));
+                return;
+            default:
+                break;
+        }
+        dropped.increment();
+    }
+
+    public int size() {
+        return ring.size();
+    }
+
+    @Override
+    public double getLoad() {
+        return (double) size() / ring.capacity();
+    }
+
+    public int getCapacity() {
+        return ring.capacity();
+    }
+
+    public long getAccepted() {
+        return accepted.sum();
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    public long getConsumed() {
+        return consumed.sum();
+    }
+
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    @Override
+    public void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        Thread thread = new Thread(this::drainLoop, "rose-syslog-bus");
+        thread.setDaemon(true);
+        drainer = thread;
+        thread.start();
+        log.info(
+                "系统日志直连总线已启动，槽位数: {}，批大小: {}，批次等待时间: {}，溢出策略: {}",
+                ring.capacity(),
+                properties.getBatchSize(),
+                properties.getFlushInterval(),
+                properties.getOverflowPolicy());
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        Thread thread = drainer;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(properties.getShutdownTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        int remaining = size();
+        if (remaining > 0) {
+            dropped.add(remaining);
+            log.warn("系统日志直连总线停机超时，丢弃未写入日志: {}", remaining);
+        }
+        log.info("系统日志直连总线已停止");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 晚于日志生产方（如采样汇总）停止
+     */
+    @Override
+    public int getPhase() {
+        return DEFAULT_PHASE - 1;
+    }
+
+    private void drainLoop() {
+        int batchSize = Math.min(properties.getBatchSize(), ring.capacity());
+        long flushNanos = properties.getFlushInterval().toNanos();
+        long idleParkNanos = Math.min(flushNanos, MAX_IDLE_PARK_NANOS);
+        // 批次列表复用，元素为槽位本身
+        List<SysLogInfo> batch = new ArrayList<>(batchSize);
+        long batchStart = 0;
+
+        while (running || size() > 0) {
+            int drained = collect(batch, batchSize);
+            if (!batch.isEmpty() && batchStart == 0) {
+                batchStart = System.nanoTime();
+            }
+
+            boolean full = batch.size() >= batchSize;
+            boolean expired = !batch.isEmpty() && System.nanoTime() - batchStart >= flushNanos;
+            if (full || expired || (!running && !batch.isEmpty())) {
+                consume(batch);
+                release(batch.size());
+                batch.clear();
+                batchStart = 0;
+            } else if (drained == 0) {
+                LockSupport.parkNanos(idleParkNanos);
+            }
+        }
+        if (!batch.isEmpty()) {
+            consume(batch);
+            release(batch.size());
+            batch.clear();
+        }
+    }
+
+    /**
+     * 把紧随当前批次之后、已发布的槽位加入批次，槽位在 {@link #release(int)} 之前不会被生产者覆盖
+     */
+    private int collect(List<SysLogInfo> batch, int batchSize) {
+        int count = 0;
+        long next = ring.getConsumerIndex() + batch.size();
+        while (batch.size() < batchSize) {
+            if (!ring.isPublished(next)) {
+                break;
+            }
+            batch.add(ring.get(next));
+            next++;
+            count++;
+        }
+        return count;
+    }
+
+    private void release(int count) {
+        long consumer = ring.getConsumerIndex();
+        for (int i = 0; i < count; i++) {
+            ring.get(consumer + i).clear();
+        }
+        ring.release(consumer, count);
+    }
+
+    private void consume(List<SysLogInfo> batch) {
+        consumeLock.lock();
+        try {
+            consumer.accept(batch);
+            consumed.add(batch.size());
+        } catch (Throwable e) {
+            failed.add(batch.size());
+            log.error("系统日志批量写入失败，批大小: {}", batch.size(), e);
+        } finally {
+            consumeLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rosestack.spring.boot.syslog.sink;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import io.github.rosestack.spring.boot.syslog.event.SysLogInfo;
+import java.io.IOException;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 日志文件格式
+ */
+public enum SysLogFileFormat {
+    /**
+     * 每行一个 JSON 对象
+     */
+    NDJSON("ndjson") {
+        @Override
+        void encode(List<SysLogInfo> batch, DirectByteBufferOutput out) throws IOException {
+            try (JsonGenerator generator = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8)) {
+                generator.setRootValueSeparator(null);
+                for (SysLogInfo info : batch) {
+                    generator.writeStartObject();
+                    writeField(generator, "name", info.getName());
+                    writeField(generator, "serverIp", info.getServerIp());
+                    writeField(generator, "hostName", info.getHostName());
+                    writeField(generator, "appName", info.getAppName());
+                    writeField(generator, "clientIp", info.getClientIp());
+                    writeField(generator, "userAgent", info.getUserAgent());
+                    writeField(generator, "requestUrl", info.getRequestUrl());
+                    writeField(generator, "requestMethod", info.getRequestMethod());
+                    // 请求参数可能被截断，按字符串写入
+                    writeField(generator, "requestParams", info.getRequestParams());
+                    if (info.getCostTime() != null) {
+                        generator.writeNumberField("costTime", info.getCostTime());
+                    }
+                    generator.writeBooleanField("success", info.isSuccess());
+                    writeField(generator, "exception", info.getException());
+                    writeField(generator, "traceId", info.getTraceId());
+                    writeField(generator, "spanId", info.getSpanId());
+                    writeField(generator, "createdBy", info.getCreatedBy());
+                    if (info.getCreateTime() != null) {
+                        generator.writeStringField("createTime", info.getCreateTime().toString());
+                    }
+                    writeField(generator, "tenantId", info.getTenantId());
+                    if (info.getSkippedCount() > 0) {
+                        generator.writeNumberField("skippedCount", info.getSkippedCount());
+                    }
+                    generator.writeEndObject();
+                    generator.writeRaw('\n');
+                }
+            }
+        }
+    },
+
+    /**
+     * 长度前缀二进制：每条记录为 {@code int 长度 + 字段}，字符串为 {@code int 字节数 + UTF-8}（-1 表示 null），
+     * 耗时与时间为 long（null 为 -1，时间为毫秒时间戳），成功标记为 1 字节
+     */
+    BINARY("bin") {
+        @Override
+        void encode(List<SysLogInfo> batch, DirectByteBufferOutput out) {
+            for (SysLogInfo info : batch) {
+                int start = out.position();
+                out.writeInt(0);
+                out.writeString(info.getName());
+                out.writeString(info.getServerIp());
+                out.writeString(info.getHostName());
+                out.writeString(info.getAppName());
+                out.writeString(info.getClientIp());
+                out.writeString(info.getUserAgent());
+                out.writeString(info.getRequestUrl());
+                out.writeString(info.getRequestParams());
+                out.writeString(info.getRequestMethod());
+                out.writeLong(info.getCostTime() == null ? -1 : info.getCostTime());
+                out.writeByte(info.isSuccess() ? 1 : 0);
+                out.writeString(info.getException());
+                out.writeString(info.getTraceId());
+                out.writeString(info.getSpanId());
+                out.writeString(info.getCreatedBy());
+                out.writeLong(
+                        info.getCreateTime() == null
+                                ? -1
+                                : info.getCreateTime().atZone(ZONE).toInstant().toEpochMilli());
+                out.writeString(info.getTenantId());
+                out.writeLong(info.getSkippedCount());
+                out.putInt(start, out.position() - start - Integer.BYTES);
+            }
+        }
+    };
+
+    private static final JsonFactory JSON_FACTORY =
+            JsonFactory.builder().disable(StreamWriteFeature.AUTO_CLOSE_TARGET).build();
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final String extension;
+
+    SysLogFileFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * 将一批日志编码到缓冲区
+     */
+    abstract void encode(List<SysLogInfo> batch, DirectByteBufferOutput out) throws IOException;
+
+    private static void writeField(JsonGenerator generator, String name, String value) throws IOException {
+        if (value != null) {
+            generator.writeStringField(name, value);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rosestack.spring.boot.syslog.support;
+
+import io.github.rosestack.spring.boot.syslog.event.SysLogInfo;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.TraceContext;
+import io.micrometer.tracing.Tracer;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * 从 Micrometer {@link Tracer} 的当前 Span 读取 traceId、spanId；容器中没有 Tracer 或当前没有 Span 时退化为
+ * {@link SysLogTraceResolver#MDC_RESOLVER}
+ */
+public class MicrometerSysLogTraceResolver implements SysLogTraceResolver {
+    private final ObjectProvider<Tracer> tracerProvider;
+    private volatile Tracer tracer;
+
+    public MicrometerSysLogTraceResolver(ObjectProvider<Tracer> tracerProvider) {
+        this.tracerProvider = tracerProvider;
+    }
+
+    @Override
+    public void resolve(SysLogInfo sysLogInfo) {
+        Tracer current = tracer;
+        if (current == null) {
+            current = tracerProvider.getIfAvailable(() -> Tracer.NOOP);
+            tracer = current;
+        }
+        Span span = current.currentSpan();
+        if (span == null) {
+            MDC_RESOLVER.resolve(sysLogInfo);
+            return;
+        }
+        TraceContext context = span.context();
+        sysLogInfo.setTraceId(context.traceId());
+        sysLogInfo.setSpanId(context.spanId());
+    }
+}
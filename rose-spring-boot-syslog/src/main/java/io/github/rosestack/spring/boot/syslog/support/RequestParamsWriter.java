@@ -0,0 +1,128 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rosestack.spring.boot.syslog.support;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * 请求参数序列化
+ *
+ * <p>使用 Jackson 流式写入有字节上限的输出流，超过上限立即中止序列化并截断，大请求体不会被完整序列化。
+ * 截断位置对齐到 UTF-8 字符边界，末尾追加 {@link #TRUNCATED_SUFFIX}。
+ */
+public final class RequestParamsWriter {
+    private static final Logger log = LoggerFactory.getLogger(RequestParamsWriter.class);
+
+    public static final String TRUNCATED_SUFFIX = "...(truncated)";
+
+    private static final ObjectMapper OBJECT_MAPPER = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+            .build();
+
+    private RequestParamsWriter() {}
+
+    /**
+     * 序列化为 JSON
+     *
+     * @param source   参数（参数列表或参数 Map）
+     * @param maxBytes 最大字节数，小于等于 0 表示不限制
+     * @return JSON 字符串，超出上限时被截断
+     */
+    public static String write(Object source, int maxBytes) {
+        BoundedOutputStream out = new BoundedOutputStream(maxBytes <= 0 ? Integer.MAX_VALUE : maxBytes);
+        try (JsonGenerator generator = OBJECT_MAPPER.getFactory().createGenerator(out)) {
+            OBJECT_MAPPER.writeValue(generator, source);
+        } catch (IOException | RuntimeException e) {
+            if (!out.exceeded) {
+                log.debug("请求参数序列化失败: {}", e.getMessage());
+                return "\"<unserializable: " + e.getClass().getSimpleName() + ">\"";
+            }
+        }
+        return out.exceeded ? out.toTruncatedString() + TRUNCATED_SUFFIX : out.toString();
+    }
+
+    /**
+     * 写满上限后抛出异常以中止序列化的输出流
+     */
+    private static final class BoundedOutputStream extends OutputStream {
+        private final int limit;
+        private byte[] buffer = new byte[256];
+        private int count;
+        private boolean exceeded;
+
+        private BoundedOutputStream(int limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            if (exceeded) {
+                throw new IOException("请求参数超过字节上限");
+            }
+            int writable = Math.min(length, limit - count);
+            ensureCapacity(count + writable);
+            System.arraycopy(bytes, offset, buffer, count, writable);
+            count += writable;
+            if (writable < length) {
+                exceeded = true;
+                throw new IOException("请求参数超过字节上限");
+            }
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > buffer.length) {
+                byte[] expanded = new byte[Math.max(capacity, Math.min(limit, buffer.length * 2))];
+                System.arraycopy(buffer, 0, expanded, 0, count);
+                buffer = expanded;
+            }
+        }
+
+        private String toTruncatedString() {
+            // 丢弃末尾不完整的 UTF-8 多字节字符
+            int length = count;
+            int lead = length - 1;
+            while (lead >= 0 && (buffer[lead] & 0xC0) == 0x80) {
+                lead--;
+            }
+            if (lead >= 0) {
+                int b = buffer[lead] & 0xFF;
+                int expected = b >= 0xF0 ? 4 : b >= 0xE0 ? 3 : b >= 0xC0 ? 2 : 1;
+                if (length - lead < expected) {
+                    length = lead;
+                }
+            }
+            return new String(buffer, 0, length, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String toString() {
+            return new String(buffer, 0, count, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rosestack.spring.boot.syslog.support;
+
+import io.github.rosestack.spring.boot.syslog.annotation.SysLog;
+import io.github.rosestack.spring.boot.syslog.annotation.SysLogIgnore;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.StandardReflectionParameterNameDiscoverer;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.validation.BindingResult;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 方法级 @SysLog 元数据
+ *
+ * <p>在方法第一次被调用时解析一次：编译 SpEL 表达式、读取参数名、按参数声明计算哪些参数需要记录。
+ * 声明类型无法确定是否需要过滤的参数（Object、集合、Map、数组）在调用时再按实际值判断。
+ */
+public class SysLogMetadata {
+    private static final Logger log = LoggerFactory.getLogger(SysLogMetadata.class);
+
+    private static final SpelExpressionParser PARSER = new SpelExpressionParser(
+            new SpelParserConfiguration(SpelCompilerMode.MIXED, SysLogMetadata.class.getClassLoader()));
+
+    private static final Class<?>[] FILTERED_TYPES = {
+        MultipartFile.class, HttpServletRequest.class, HttpServletResponse.class, BindingResult.class
+    };
+
+    private final String value;
+    private final String expressionString;
+    private final Expression expression;
+    private final String[] parameterNames;
+    private final ArgumentMode[] argumentModes;
+    private final int loggableCount;
+    private final SysLogSampler sampler;
+
+    SysLogMetadata(Method method, SysLog sysLog) {
+        this.value = sysLog.value();
+        this.expressionString = sysLog.expression();
+        this.expression = parse(expressionString);
+        this.parameterNames = new StandardReflectionParameterNameDiscoverer().getParameterNames(method);
+
+        boolean ignoreAll = method.isAnnotationPresent(SysLogIgnore.class);
+        Parameter[] parameters = method.getParameters();
+        this.argumentModes = new ArgumentMode[parameters.length];
+        int count = 0;
+        for (int i = 0; i < parameters.length; i++) {
+            argumentModes[i] = ignoreAll ? ArgumentMode.SKIP : resolveMode(parameters[i]);
+            if (argumentModes[i] != ArgumentMode.SKIP) {
+                count++;
+            }
+        }
+        this.loggableCount = count;
+        this.sampler = new SysLogSampler(sysLog);
+    }
+
+    /**
+     * 注解上配置的日志名称
+     */
+    public String getValue() {
+        return value;
+    }
+
+    public SysLogSampler getSampler() {
+        return sampler;
+    }
+
+    /**
+     * 日志名称：配置了表达式时以方法参数为变量求值，求值失败时回退为 value
+     */
+    public String getName(Object[] args) {
+        if (expression == null) {
+            return value;
+        }
+        try {
+            return expression.getValue(createContext(args), String.class);
+        } catch (Exception e) {
+            log.error("@SysLog 解析 spel {} 异常", expressionString);
+            return value;
+        }
+    }
+
+    /**
+     * 需要记录的参数
+     */
+    public List<Object> getLoggableArgs(Object[] args) {
+        if (args == null || loggableCount == 0) {
+            return new ArrayList<>();
+        }
+        List<Object> result = new ArrayList<>(loggableCount);
+        for (int i = 0; i < args.length; i++) {
+            Object arg = args[i];
+            ArgumentMode mode = i < argumentModes.length ? argumentModes[i] : ArgumentMode.CHECK;
+            if (arg == null || mode == ArgumentMode.SKIP) {
+                continue;
+            }
+            if (mode == ArgumentMode.LOG || !isFilterObject(arg)) {
+                result.add(arg);
+            }
+        }
+        return result;
+    }
+
+    public String[] getParameterNames() {
+        return parameterNames;
+    }
+
+    private EvaluationContext createContext(Object[] args) {
+        StandardEvaluationContext context = new StandardEvaluationContext();
+        if (parameterNames == null || args == null) {
+            return context;
+        }
+        for (int i = 0; i < args.length && i < parameterNames.length; i++) {
+            context.setVariable(parameterNames[i], args[i]);
+        }
+        return context;
+    }
+
+    private static Expression parse(String expression) {
+        if (expression == null || expression.isBlank()) {
+            return null;
+        }
+        try {
+            return PARSER.parseExpression(expression);
+        } catch (Exception e) {
+            log.error("@SysLog 解析 spel {} 异常", expression);
+            return null;
+        }
+    }
+
+    private static ArgumentMode resolveMode(Parameter parameter) {
+        Class<?> type = parameter.getType();
+        if (parameter.isAnnotationPresent(SysLogIgnore.class)
+                || parameter.isAnnotationPresent(PathVariable.class)
+                || type.isAnnotationPresent(SysLogIgnore.class)
+                || isFilteredType(type)
+                || (type.isArray() && isFilteredType(type.getComponentType()))) {
+            return ArgumentMode.SKIP;
+        }
+        if (type == Object.class
+                || type.isInterface()
+                || type.isArray()
+                || Collection.class.isAssignableFrom(type)
+                || Map.class.isAssignableFrom(type)) {
+            return ArgumentMode.CHECK;
+        }
+        return ArgumentMode.LOG;
+    }
+
+    private static boolean isFilteredType(Class<?> type) {
+        for (Class<?> filtered : FILTERED_TYPES) {
+            if (filtered.isAssignableFrom(type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 按实际值判断是否过滤，只用于声明类型不足以判断的参数
+     */
+    @SuppressWarnings("rawtypes")
+    static boolean isFilterObject(Object o) {
+        Class<?> clazz = o.getClass();
+        if (clazz.isAnnotationPresent(SysLogIgnore.class)) {
+            return true;
+        }
+        if (clazz.isArray()) {
+            return MultipartFile.class.isAssignableFrom(clazz.getComponentType());
+        } else if (o instanceof Collection collection) {
+            for (Object value : collection) {
+                return value instanceof MultipartFile;
+            }
+        } else if (o instanceof Map map) {
+            for (Object value : map.values()) {
+                return value instanceof MultipartFile;
+            }
+        }
+        return isFilteredType(clazz);
+    }
+
+    private enum ArgumentMode {
+        /**
+         * 总是记录
+         */
+        LOG,
+        /**
+         * 总是跳过
+         */
+        SKIP,
+        /**
+         * 调用时按实际值判断
+         */
+        CHECK
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rosestack.spring.boot.syslog.support;
+
+import io.github.rosestack.spring.boot.syslog.annotation.SysLog;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link SysLog} 方法元数据注册表，按 {@link Method} 缓存 {@link SysLogMetadata}
+ */
+public class SysLogMetadataRegistry {
+    private final Map<Method, SysLogMetadata> cache = new ConcurrentHashMap<>();
+
+    /**
+     * 获取方法元数据，首次调用时解析
+     *
+     * @param method 被执行的方法
+     * @param sysLog 方法上的注解
+     * @return 方法元数据
+     */
+    public SysLogMetadata get(Method method, SysLog sysLog) {
+        SysLogMetadata metadata = cache.get(method);
+        if (metadata == null) {
+            metadata = cache.computeIfAbsent(method, key -> new SysLogMetadata(key, sysLog));
+        }
+        return metadata;
+    }
+
+    /**
+     * 已缓存的全部方法元数据
+     */
+    public Collection<SysLogMetadata> values() {
+        return cache.values();
+    }
+
+    /**
+     * 已缓存的方法数
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+}
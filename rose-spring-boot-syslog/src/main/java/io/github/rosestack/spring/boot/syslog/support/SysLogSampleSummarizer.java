@@ -0,0 +1,124 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rosestack.spring.boot.syslog.support;
+
+import io.github.rosestack.spring.boot.syslog.event.SysLogInfo;
+import io.github.rosestack.spring.boot.syslog.event.SysLogPublisher;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * 采样汇总
+ *
+ * <p>定期取出各方法 {@link SysLogSampler} 跳过的调用数，按跳过时求值的日志名称各输出一条
+ * {@link SysLogInfo#getSkippedCount()} 大于 0 的汇总记录，与被采样记录同名，使按名称统计的调用总数仍然准确。停机时先输出最后一次汇总，再停止日志写入。
+ */
+public class SysLogSampleSummarizer implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(SysLogSampleSummarizer.class);
+
+    private final SysLogMetadataRegistry metadataRegistry;
+    private final SysLogPublisher publisher;
+    private final SysLogStaticContext staticContext;
+    private final Duration interval;
+
+    private volatile ScheduledExecutorService scheduler;
+
+    public SysLogSampleSummarizer(
+            SysLogMetadataRegistry metadataRegistry,
+            SysLogPublisher publisher,
+            SysLogStaticContext staticContext,
+            Duration interval) {
+        this.metadataRegistry = metadataRegistry;
+        this.publisher = publisher;
+        this.staticContext = staticContext;
+        this.interval = interval;
+    }
+
+    /**
+     * 输出一次汇总
+     */
+    public void summarize() {
+        for (SysLogMetadata metadata : metadataRegistry.values()) {
+            SysLogSampler sampler = metadata.getSampler();
+            if (sampler.isUnlimited()) {
+                continue;
+            }
+            sampler.drainSkipped().forEach((name, skipped) -> {
+                SysLogInfo sysLogInfo = publisher.create();
+                sysLogInfo.setName(name);
+                sysLogInfo.setSuccess(true);
+                sysLogInfo.setServerIp(staticContext.getServerIp());
+                sysLogInfo.setHostName(staticContext.getHostName());
+                sysLogInfo.setAppName(staticContext.getAppName());
+                sysLogInfo.setCreateTime(staticContext.now());
+                sysLogInfo.setSkippedCount(skipped);
+                publisher.publish(sysLogInfo);
+            });
+        }
+    }
+
+    @Override
+    public void start() {
+        if (scheduler != null) {
+            return;
+        }
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rose-syslog-sample-summary");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = interval.toMillis();
+        executor.scheduleWithFixedDelay(this::safeSummarize, millis, millis, TimeUnit.MILLISECONDS);
+        scheduler = executor;
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService executor = scheduler;
+        if (executor == null) {
+            return;
+        }
+        scheduler = null;
+        executor.shutdownNow();
+        safeSummarize();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+
+    /**
+     * 先于日志写入器停止，保证最后一次汇总能被写入
+     */
+    @Override
+    public int getPhase() {
+        return DEFAULT_PHASE;
+    }
+
+    private void safeSummarize() {
+        try {
+            summarize();
+        } catch (Throwable e) {
+            log.warn("输出采样汇总失败", e);
+        }
+    }
+}
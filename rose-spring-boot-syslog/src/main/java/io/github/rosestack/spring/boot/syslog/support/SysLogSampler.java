@@ -0,0 +1,144 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rosestack.spring.boot.syslog.support;
+
+import io.github.rosestack.spring.boot.syslog.annotation.SysLog;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 方法级采样器
+ *
+ * <p>依次应用 {@link SysLog#sample()} 概率采样、{@link SysLog#adaptive()} 按缓冲区使用率降低采样率、
+ * {@link SysLog#maxPerSecond()} 令牌桶限流（GCRA，单个 CAS，突发上限为一秒的配额）。被跳过的调用按求值后的日志名称
+ * 计数，由 {@link SysLogSampleSummarizer} 定期取出并以同一名称输出汇总记录；不同名称超过 {@value #MAX_NAMES} 个后，
+ * 新名称计入注解上配置的名称。
+ */
+public class SysLogSampler {
+    /**
+     * 缓冲区使用率超过该值后开始降低采样率
+     */
+    static final double ADAPTIVE_THRESHOLD = 0.5;
+
+    /**
+     * 自适应采样的最低采样系数
+     */
+    static final double ADAPTIVE_MIN_FACTOR = 0.01;
+
+    /**
+     * 单个方法分别计数的日志名称上限
+     */
+    static final int MAX_NAMES = 256;
+
+    private final double sample;
+    private final boolean adaptive;
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final boolean unlimited;
+
+    private final AtomicLong theoreticalArrival;
+    private final String defaultName;
+    private final Map<String, LongAdder> skipped = new ConcurrentHashMap<>();
+
+    SysLogSampler(SysLog sysLog) {
+        this.defaultName = sysLog.value();
+        this.sample = Math.min(1.0, Math.max(0.0, sysLog.sample()));
+        this.adaptive = sysLog.adaptive();
+        int maxPerSecond = sysLog.maxPerSecond();
+        this.intervalNanos = maxPerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / maxPerSecond : 0;
+        this.burstNanos = TimeUnit.SECONDS.toNanos(1);
+        // 初始即有一秒的突发配额
+        this.theoreticalArrival = new AtomicLong(System.nanoTime() - burstNanos);
+        this.unlimited = sample >= 1.0 && !adaptive && intervalNanos == 0;
+    }
+
+    /**
+     * 是否记录本次调用，在构建日志和序列化参数之前调用
+     *
+     * @param load 日志缓冲区使用率，取值 [0, 1]
+     * @return 是否记录
+     */
+    public boolean sample(double load) {
+        if (unlimited) {
+            return true;
+        }
+        double rate = sample;
+        if (adaptive && load > ADAPTIVE_THRESHOLD) {
+            double factor = (1.0 - load) / (1.0 - ADAPTIVE_THRESHOLD);
+            rate *= Math.max(ADAPTIVE_MIN_FACTOR, factor);
+        }
+        if (rate < 1.0 && ThreadLocalRandom.current().nextDouble() >= rate) {
+            return false;
+        }
+        return intervalNanos == 0 || acquire();
+    }
+
+    private boolean acquire() {
+        long now = System.nanoTime();
+        while (true) {
+            long arrival = theoreticalArrival.get();
+            long next = Math.max(arrival, now - burstNanos) + intervalNanos;
+            if (next - now > 0) {
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(arrival, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 记录一次被跳过的调用
+     *
+     * @param name 本次调用求值后的日志名称，与被采样记录的名称一致
+     */
+    public void skip(String name) {
+        String key = name != null ? name : defaultName;
+        LongAdder counter = skipped.get(key);
+        if (counter == null) {
+            if (skipped.size() >= MAX_NAMES) {
+                key = defaultName;
+            }
+            counter = skipped.computeIfAbsent(key, k -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    /**
+     * 取出并清零被跳过的调用数
+     *
+     * @return 日志名称 -> 跳过的调用数，只包含大于 0 的项
+     */
+    public Map<String, Long> drainSkipped() {
+        Map<String, Long> drained = new LinkedHashMap<>();
+        skipped.forEach((name, counter) -> {
+            long count = counter.sumThenReset();
+            if (count > 0) {
+                drained.put(name, count);
+            }
+        });
+        return drained;
+    }
+
+    public boolean isUnlimited() {
+        return unlimited;
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rosestack.spring.boot.syslog.support;
+
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.net.NetworkInterface;
+import java.net.SocketException;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Enumeration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * 进程级日志上下文
+ *
+ * <p>服务器 IP、主机名、应用名、时区只解析一次并定期刷新，请求线程只读取缓存值，不再逐次枚举网卡。
+ * 同时提供粗粒度时钟：后台线程按时钟精度更新当前时间，{@link #now()} 只是一次 volatile 读；
+ * 未启动时退化为 {@link LocalDateTime#now(ZoneId)}。
+ */
+public class SysLogStaticContext implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(SysLogStaticContext.class);
+    private static final String LOCALHOST = "127.0.0.1";
+
+    private final String appName;
+    private final Duration refreshInterval;
+    private final Duration clockResolution;
+
+    private volatile String serverIp;
+    private volatile String hostName;
+    private volatile ZoneId zone;
+    private volatile LocalDateTime now;
+
+    private volatile ScheduledExecutorService scheduler;
+
+    public SysLogStaticContext(String appName, Duration refreshInterval, Duration clockResolution) {
+        this.appName = appName;
+        this.refreshInterval = refreshInterval;
+        this.clockResolution = clockResolution;
+        refresh();
+    }
+
+    /**
+     * 重新解析服务器 IP、主机名与时区
+     */
+    public void refresh() {
+        this.zone = ZoneId.systemDefault();
+        this.serverIp = resolveServerIp();
+        this.hostName = resolveHostName();
+    }
+
+    /**
+     * 当前时间，精度为时钟精度
+     */
+    public LocalDateTime now() {
+        LocalDateTime current = now;
+        return current != null ? current : LocalDateTime.now(zone);
+    }
+
+    public String getServerIp() {
+        return serverIp;
+    }
+
+    public String getHostName() {
+        return hostName;
+    }
+
+    public String getAppName() {
+        return appName;
+    }
+
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public void start() {
+        if (scheduler != null) {
+            return;
+        }
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rose-syslog-context");
+            thread.setDaemon(true);
+            return thread;
+        });
+        tick();
+        long resolution = Math.max(1, clockResolution.toMillis());
+        executor.scheduleAtFixedRate(this::tick, resolution, resolution, TimeUnit.MILLISECONDS);
+        long refresh = refreshInterval.toMillis();
+        executor.scheduleWithFixedDelay(this::safeRefresh, refresh, refresh, TimeUnit.MILLISECONDS);
+        scheduler = executor;
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService executor = scheduler;
+        if (executor == null) {
+            return;
+        }
+        scheduler = null;
+        executor.shutdownNow();
+        now = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+
+    private void tick() {
+        now = LocalDateTime.now(zone);
+    }
+
+    private void safeRefresh() {
+        try {
+            refresh();
+        } catch (Throwable e) {
+            log.warn("刷新系统日志上下文失败", e);
+        }
+    }
+
+    /**
+     * 优先取本机地址，为回环地址时取第一个可用网卡的 IPv4 地址
+     */
+    private static String resolveServerIp() {
+        try {
+            InetAddress local = InetAddress.getLocalHost();
+            if (!local.isLoopbackAddress()) {
+                return local.getHostAddress();
+            }
+        } catch (UnknownHostException e) {
+            log.debug("无法解析本机地址: {}", e.getMessage());
+        }
+        try {
+            Enumeration<NetworkInterface> interfaces = NetworkInterface.getNetworkInterfaces();
+            while (interfaces != null && interfaces.hasMoreElements()) {
+                NetworkInterface networkInterface = interfaces.nextElement();
+                if (!networkInterface.isUp() || networkInterface.isLoopback() || networkInterface.isVirtual()) {
+                    continue;
+                }
+                Enumeration<InetAddress> addresses = networkInterface.getInetAddresses();
+                while (addresses.hasMoreElements()) {
+                    InetAddress address = addresses.nextElement();
+                    if (address instanceof Inet4Address && !address.isLoopbackAddress()) {
+                        return address.getHostAddress();
+                    }
+                }
+            }
+        } catch (SocketException e) {
+            log.debug("无法枚举网卡: {}", e.getMessage());
+        }
+        return LOCALHOST;
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "localhost";
+        }
+    }
+}
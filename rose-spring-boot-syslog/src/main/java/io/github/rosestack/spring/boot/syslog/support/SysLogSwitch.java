@@ -0,0 +1,113 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rosestack.spring.boot.syslog.support;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 系统日志运行时开关
+ *
+ * <p>全局开关与按包开关（最长前缀匹配）可在运行时修改。按类的判定结果缓存，切面热路径上只有一次 volatile 读和一次
+ * Map 查询。包开关与判定缓存放在同一个不可变快照中整体替换，每次变更使用新的缓存，旧快照上并发写入的判定不会残留。
+ */
+public class SysLogSwitch {
+    private volatile boolean enabled;
+    private volatile Rules rules;
+
+    public SysLogSwitch(boolean enabled, Map<String, Boolean> packages) {
+        this.enabled = enabled;
+        this.rules = new Rules(packages);
+    }
+
+    /**
+     * 是否记录该类中方法的日志
+     *
+     * @param type 目标对象的类（切面传入 {@code joinPoint.getTarget().getClass()}）
+     * @return 是否记录
+     */
+    public boolean isEnabled(Class<?> type) {
+        if (!enabled) {
+            return false;
+        }
+        return rules.isEnabled(type);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Map<String, Boolean> getPackages() {
+        return rules.packages;
+    }
+
+    /**
+     * 设置包（或类）开关
+     *
+     * @param packageName 包名或类全名
+     * @param enabled     开关，null 表示移除
+     */
+    public synchronized void setPackage(String packageName, Boolean enabled) {
+        Map<String, Boolean> updated = new TreeMap<>(rules.packages);
+        if (enabled == null) {
+            updated.remove(packageName);
+        } else {
+            updated.put(packageName, enabled);
+        }
+        rules = new Rules(updated);
+    }
+
+    /**
+     * 包开关与基于它计算出的判定缓存
+     */
+    private static final class Rules {
+        private final Map<String, Boolean> packages;
+        private final Map<Class<?>, Boolean> decisions = new ConcurrentHashMap<>();
+
+        private Rules(Map<String, Boolean> packages) {
+            this.packages = Collections.unmodifiableMap(new TreeMap<>(packages));
+        }
+
+        boolean isEnabled(Class<?> type) {
+            if (packages.isEmpty()) {
+                return true;
+            }
+            Boolean decision = decisions.get(type);
+            if (decision == null) {
+                decision = decisions.computeIfAbsent(type, this::resolve);
+            }
+            return decision;
+        }
+
+        private boolean resolve(Class<?> type) {
+            String name = type.getName();
+            String matched = null;
+            for (String prefix : packages.keySet()) {
+                if ((name.equals(prefix) || name.startsWith(prefix + "."))
+                        && (matched == null || prefix.length() > matched.length())) {
+                    matched = prefix;
+                }
+            }
+            return matched == null || packages.get(matched);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rosestack.spring.boot.syslog.support;
+
+import io.github.rosestack.spring.boot.syslog.event.SysLogInfo;
+import org.slf4j.MDC;
+
+/**
+ * 日志追踪信息解析
+ *
+ * <p>在请求线程构建日志时调用，只把 traceId、spanId 写入日志，无需把整个 MDC 复制到异步线程。
+ */
+@FunctionalInterface
+public interface SysLogTraceResolver {
+
+    /**
+     * 默认实现：读取当前线程 MDC 中的 {@code traceId}、{@code spanId}
+     */
+    SysLogTraceResolver MDC_RESOLVER = sysLogInfo -> {
+        sysLogInfo.setTraceId(MDC.get("traceId"));
+        sysLogInfo.setSpanId(MDC.get("spanId"));
+    };
+
+    /**
+     * 填充追踪信息
+     *
+     * @param sysLogInfo 日志
+     */
+    void resolve(SysLogInfo sysLogInfo);
+}
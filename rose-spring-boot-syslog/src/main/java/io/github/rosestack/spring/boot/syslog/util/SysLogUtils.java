@@ -0,0 +1,74 @@
+/*
+ * Copyright © 2025 rosestack.github.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.rosestack.spring.boot.syslog.util;
+
+import io.github.rosestack.spring.boot.capture.InvocationCapture;
+import io.github.rosestack.spring.boot.capture.RequestSnapshot;
+import io.github.rosestack.spring.boot.capture.UsernameResolver;
+import io.github.rosestack.spring.boot.syslog.event.SysLogInfo;
+import io.github.rosestack.spring.boot.syslog.support.SysLogMetadata;
+import io.github.rosestack.spring.boot.syslog.support.SysLogStaticContext;
+import org.springframework.http.HttpMethod;
+
+public class SysLogUtils {
+    /**
+     * 请求参数序列化默认最大字节数
+     */
+    public static final int DEFAULT_REQUEST_PARAMS_MAX_BYTES = 4096;
+
+    /**
+     * 从共享的调用采集中填充日志信息，请求参数只保存引用，序列化推迟到消费端
+     *
+     * @param sysLogInfo            待填充的日志，调用方保证其字段已清空
+     * @param capture               当前调用的采集
+     * @param metadata              方法元数据
+     * @param context               进程级上下文
+     * @param requestParamsMaxBytes 请求参数序列化最大字节数
+     */
+    public static SysLogInfo getSysLog(
+            SysLogInfo sysLogInfo,
+            InvocationCapture capture,
+            SysLogMetadata metadata,
+            SysLogStaticContext context,
+            int requestParamsMaxBytes) {
+        Object[] args = capture.getArgs();
+
+        sysLogInfo.setName(metadata.getName(args));
+        sysLogInfo.setSuccess(true);
+        sysLogInfo.setServerIp(context.getServerIp());
+        sysLogInfo.setHostName(context.getHostName());
+        sysLogInfo.setAppName(context.getAppName());
+        sysLogInfo.setCreateTime(context.now());
+
+        RequestSnapshot request = capture.getRequest();
+        sysLogInfo.setCreatedBy(request != null ? request.getUsername() : UsernameResolver.current());
+        if (request != null) {
+            sysLogInfo.setRequestUrl(request.getRequestUrl());
+            sysLogInfo.setRequestMethod(request.getMethod());
+            sysLogInfo.setUserAgent(request.getUserAgent());
+            sysLogInfo.setClientIp(request.getClientIp());
+
+            if (HttpMethod.PUT.name().equals(sysLogInfo.getRequestMethod())
+                    || HttpMethod.POST.name().equals(sysLogInfo.getRequestMethod())) {
+                sysLogInfo.deferRequestParams(metadata.getLoggableArgs(args), requestParamsMaxBytes);
+            } else {
+                // 快照在此（请求线程内）首次读取时拷贝参数 Map
+                sysLogInfo.deferRequestParams(request.getParameters(), requestParamsMaxBytes);
+            }
+        }
+        return sysLogInfo;
+    }
+}
@@ -0,0 +1,35 @@
+-- =====================================================
+-- 系统日志表创建脚本 (MySQL)
+-- =====================================================
+-- 写入方：JdbcSysLogConsumer（rose.syslog.jdbc.enabled=true），按批 INSERT
+-- 表名可通过 rose.syslog.jdbc.table-name 修改
+-- =====================================================
+
+CREATE TABLE sys_log (
+    id BIGINT NOT NULL AUTO_INCREMENT COMMENT '主键ID',
+    name VARCHAR(200) COMMENT '日志名称',
+    server_ip VARCHAR(45) COMMENT '服务器IP',
+    host_name VARCHAR(255) COMMENT '主机名',
+    app_name VARCHAR(100) COMMENT '应用名',
+    client_ip VARCHAR(45) COMMENT '客户端IP',
+    user_agent VARCHAR(500) COMMENT '用户代理',
+    request_url VARCHAR(1000) COMMENT '请求地址',
+    request_params TEXT COMMENT '请求参数（JSON）',
+    request_method VARCHAR(10) COMMENT 'HTTP方法',
+    cost_time BIGINT COMMENT '执行耗时（毫秒）',
+    success TINYINT(1) NOT NULL DEFAULT 1 COMMENT '是否成功',
+    exception TEXT COMMENT '异常信息',
+    trace_id VARCHAR(100) COMMENT '追踪ID',
+    span_id VARCHAR(50) COMMENT 'Span ID',
+    created_by VARCHAR(64) COMMENT '操作人',
+    create_time DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
+    tenant_id VARCHAR(50) COMMENT '租户ID',
+    skipped_count BIGINT NOT NULL DEFAULT 0 COMMENT '采样汇总记录：统计周期内被跳过的条数',
+    PRIMARY KEY (id)
+) ENGINE=InnoDB
+  DEFAULT CHARSET=utf8mb4
+  COLLATE=utf8mb4_unicode_ci
+  COMMENT='系统日志表';
+
+-- 只保留按时间查询所需的索引，避免批量写入时的索引维护开销
+CREATE INDEX idx_sys_log_create_time ON sys_log (create_time);
@@ -0,0 +1,34 @@
+-- =====================================================
+-- 系统日志表创建脚本 (PostgreSQL)
+-- =====================================================
+-- 写入方：JdbcSysLogConsumer（rose.syslog.jdbc.enabled=true），按批 INSERT
+-- 表名可通过 rose.syslog.jdbc.table-name 修改
+-- =====================================================
+
+CREATE TABLE sys_log (
+    id BIGSERIAL PRIMARY KEY,
+    name VARCHAR(200),
+    server_ip VARCHAR(45),
+    host_name VARCHAR(255),
+    app_name VARCHAR(100),
+    client_ip VARCHAR(45),
+    user_agent VARCHAR(500),
+    request_url VARCHAR(1000),
+    request_params TEXT,
+    request_method VARCHAR(10),
+    cost_time BIGINT,
+    success BOOLEAN NOT NULL DEFAULT TRUE,
+    exception TEXT,
+    trace_id VARCHAR(100),
+    span_id VARCHAR(50),
+    created_by VARCHAR(64),
+    create_time TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    tenant_id VARCHAR(50),
+    skipped_count BIGINT NOT NULL DEFAULT 0
+);
+
+COMMENT ON TABLE sys_log IS '系统日志表';
+COMMENT ON COLUMN sys_log.skipped_count IS '采样汇总记录：统计周期内被跳过的条数';
+
+-- 只保留按时间查询所需的索引，避免批量写入时的索引维护开销
+CREATE INDEX idx_sys_log_create_time ON sys_log (create_time);
@@ -0,0 +1,134 @@
+package io.github.rosestack.spring.boot.web.accesslog;
+
+import io.github.rosestack.spring.boot.capture.RequestSnapshot;
+import io.github.rosestack.spring.boot.web.config.TracingConfig;
+import io.github.rosestack.spring.boot.web.config.WebProperties;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 访问日志过滤器
+ *
+ * <p>请求结束时判断是否记录：慢请求（超过 {@code maxResponseTimeToLogInMs}）、状态码不低于 {@code error-status}
+ * 或抛出异常的请求总是记录，其余请求按 {@code sample-rate} 采样。需要记录时直接把字段填进 {@link AccessLogWriter}
+ * 的预分配槽位，格式化与输出在后台线程完成，请求线程上不拼接字符串。
+ *
+ * @author rosestack
+ * @since 1.0.0
+ */
+public class AccessLogFilter extends OncePerRequestFilter {
+    private final AccessLogWriter writer;
+    private final WebProperties.Filter.LoggingRequest properties;
+    private final long slowNanos;
+
+    public AccessLogFilter(AccessLogWriter writer, WebProperties.Filter.LoggingRequest properties) {
+        this.writer = writer;
+        this.properties = properties;
+        this.slowNanos = TimeUnit.MILLISECONDS.toNanos(properties.getMaxResponseTimeToLogInMs());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        Throwable failure = null;
+        try {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new CompletionListener(start));
+            } else {
+                complete(request, response, start, failure);
+            }
+        }
+    }
+
+    private void complete(HttpServletRequest request, HttpServletResponse response, long start, Throwable failure) {
+        long elapsed = System.nanoTime() - start;
+        int status = response.getStatus();
+        if (failure != null && status < 500) {
+            status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        }
+        boolean slow = elapsed >= slowNanos;
+        boolean error = failure != null || status >= properties.getErrorStatus();
+        if (!slow && !error && !sampled()) {
+            return;
+        }
+
+        long sequence = writer.claim();
+        if (sequence < 0) {
+            return;
+        }
+        AccessLogRecord record = writer.get(sequence);
+        try {
+            record.timestamp = System.currentTimeMillis();
+            record.method = request.getMethod();
+            record.uri = request.getRequestURI();
+            record.query = properties.isIncludeQueryString() ? request.getQueryString() : null;
+            record.status = status;
+            record.durationMillis = TimeUnit.NANOSECONDS.toMillis(elapsed);
+            record.requestBytes = request.getContentLengthLong();
+            record.clientIp = properties.isIncludeClientInfo() ? RequestSnapshot.resolveClientIp(request) : null;
+            record.userAgent = properties.isIncludeClientInfo() ? request.getHeader("User-Agent") : null;
+            record.traceId = traceId(response);
+            record.exception = failure != null ? failure.getClass().getName() : null;
+            record.slow = slow;
+        } finally {
+            writer.publish(sequence);
+        }
+    }
+
+    private boolean sampled() {
+        double rate = properties.getSampleRate();
+        return rate >= 1.0 || (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    private static String traceId(HttpServletResponse response) {
+        // 本过滤器位于最外层，结束时 MDC 可能已被内层清理，优先读取 TraceIdFilter 写入的响应头
+        String traceId = response.getHeader(TracingConfig.HEADER_TRACE_ID);
+        return traceId != null ? traceId : MDC.get(TracingConfig.MDC_TRACE_ID);
+    }
+
+    private final class CompletionListener implements AsyncListener {
+        private final long start;
+        private Throwable failure;
+
+        CompletionListener(long start) {
+            this.start = start;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            complete(
+                    (HttpServletRequest) event.getSuppliedRequest(),
+                    (HttpServletResponse) event.getSuppliedResponse(),
+                    start,
+                    failure);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {}
+
+        @Override
+        public void onError(AsyncEvent event) {
+            failure = event.getThrowable();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
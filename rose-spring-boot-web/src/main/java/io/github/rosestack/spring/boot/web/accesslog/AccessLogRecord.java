@@ -0,0 +1,42 @@
+package io.github.rosestack.spring.boot.web.accesslog;
+
+import lombok.Getter;
+
+/**
+ * 访问日志记录
+ *
+ * <p>对象预分配在 {@link AccessLogWriter} 的环形缓冲区中，由过滤器在请求结束时直接填充，写出后清空复用，不得在外部持有。
+ *
+ * @author rosestack
+ * @since 1.0.0
+ */
+@Getter
+public class AccessLogRecord {
+    long timestamp;
+    String method;
+    String uri;
+    String query;
+    int status;
+    long durationMillis;
+    long requestBytes;
+    String clientIp;
+    String userAgent;
+    String traceId;
+    String exception;
+    boolean slow;
+
+    void clear() {
+        timestamp = 0;
+        method = null;
+        uri = null;
+        query = null;
+        status = 0;
+        durationMillis = 0;
+        requestBytes = 0;
+        clientIp = null;
+        userAgent = null;
+        traceId = null;
+        exception = null;
+        slow = false;
+    }
+}
@@ -0,0 +1,181 @@
+package io.github.rosestack.spring.boot.web.accesslog;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.github.rosestack.spring.boot.buffer.SlotRingBuffer;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * 访问日志异步写出器
+ *
+ * <p>启动时在 {@link SlotRingBuffer} 中预分配全部 {@link AccessLogRecord}。请求线程抢占序号，直接在槽位上填充字段后发布；
+ * 单个后台线程按序号顺序把记录格式化为一行 JSON 写到独立的 Logger（默认 {@code rose.access}），
+ * 可在日志配置中为其指定单独的滚动文件并关闭 additivity。缓冲区满时丢弃并计数，不阻塞请求线程。
+ *
+ * @author rosestack
+ * @since 1.0.0
+ */
+@Slf4j
+public class AccessLogWriter implements SmartLifecycle {
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+    private final Logger accessLogger;
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    private final SlotRingBuffer<AccessLogRecord> ring;
+
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    private volatile boolean running;
+    private volatile Thread worker;
+
+    public AccessLogWriter(String loggerName, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity 必须大于 0");
+        }
+        this.accessLogger = LoggerFactory.getLogger(loggerName);
+        this.ring = new SlotRingBuffer<>(capacity, AccessLogRecord::new);
+    }
+
+    /**
+     * 抢占一个槽位
+     *
+     * @return 序号，缓冲区已满时返回 -1
+     */
+    public long claim() {
+        long sequence = ring.claim();
+        if (sequence < 0) {
+            dropped.increment();
+        }
+        return sequence;
+    }
+
+    /**
+     * 序号对应的槽位，只能在 {@link #claim()} 与 {@link #publish(long)} 之间填充
+     */
+    public AccessLogRecord get(long sequence) {
+        return ring.get(sequence);
+    }
+
+    /**
+     * 发布槽位，使其对写出线程可见
+     */
+    public void publish(long sequence) {
+        ring.publish(sequence);
+    }
+
+    public long getWritten() {
+        return written.sum();
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    @Override
+    public void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        Thread thread = new Thread(this::drainLoop, "rose-access-log");
+        thread.setDaemon(true);
+        worker = thread;
+        thread.start();
+        log.info("访问日志写出器已启动，槽位数: {}，Logger: {}", ring.capacity(), accessLogger.getName());
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        Thread thread = worker;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void drainLoop() {
+        StringWriter buffer = new StringWriter(512);
+        while (running || ring.size() > 0) {
+            long next = ring.getConsumerIndex();
+            if (!ring.isPublished(next)) {
+                if (!running) {
+                    // 停机时只等待已抢占但尚未发布的槽位一个空转周期
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                    if (!ring.isPublished(next)) {
+                        break;
+                    }
+                    continue;
+                }
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            AccessLogRecord record = ring.get(next);
+            try {
+                buffer.getBuffer().setLength(0);
+                write(record, buffer);
+                accessLogger.info(buffer.toString());
+                written.increment();
+            } catch (Throwable e) {
+                log.warn("访问日志写出失败", e);
+            } finally {
+                record.clear();
+                ring.release(next, 1);
+            }
+        }
+    }
+
+    private void write(AccessLogRecord record, StringWriter out) throws IOException {
+        try (JsonGenerator generator = jsonFactory.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeStringField("time", Instant.ofEpochMilli(record.timestamp).toString());
+            generator.writeStringField("method", record.method);
+            generator.writeStringField("uri", record.uri);
+            if (record.query != null) {
+                generator.writeStringField("query", record.query);
+            }
+            generator.writeNumberField("status", record.status);
+            generator.writeNumberField("durationMs", record.durationMillis);
+            if (record.requestBytes >= 0) {
+                generator.writeNumberField("requestBytes", record.requestBytes);
+            }
+            if (record.clientIp != null) {
+                generator.writeStringField("clientIp", record.clientIp);
+            }
+            if (record.userAgent != null) {
+                generator.writeStringField("userAgent", record.userAgent);
+            }
+            if (record.traceId != null) {
+                generator.writeStringField("traceId", record.traceId);
+            }
+            if (record.exception != null) {
+                generator.writeStringField("exception", record.exception);
+            }
+            if (record.slow) {
+                generator.writeBooleanField("slow", true);
+            }
+            generator.writeEndObject();
+        }
+    }
+}
@@ -2,16 +2,25 @@ package io.github.rosestack.spring.boot.web.advice;
 
 import io.github.rosestack.core.util.ApiResponse;
 import io.github.rosestack.spring.annotation.ResponseIgnore;
+import io.github.rosestack.spring.boot.web.config.WebProperties;
 import io.github.rosestack.spring.filter.AbstractRequestFilter;
 import io.github.rosestack.spring.util.ServletUtils;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.core.MethodParameter;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
 import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.http.server.ServerHttpResponse;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
 
 /**
@@ -19,18 +28,45 @@ import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
  *
  * <p>自动将控制器返回的数据包装为统一的 ApiResponse 格式，支持基于 URL 的排除路径
  *
+ * <p>是否包装按处理方法在启动时预先计算；排除路径的判断结果按具体请求路径缓存（上限 {@value #MAX_CACHED_PATHS} 条，
+ * 超出后不再缓存）。由 Jackson 转换器写出时返回 {@link ApiResponseEnvelope}，由 {@link ApiResponseEnvelopeSerializer}
+ * 直接写出包装结构。
+ *
+ * <p>返回 {@code Stream} 或 {@code Iterator} 时包装为 {@link StreamingBody}，先写出包装头，再逐个元素写出并定期刷新，
+ * 最后写出包装尾，导出大结果集时内存占用恒定且首字节时间不随结果集增长。数据源的生命周期要求见 {@link StreamingBody}。
+ *
  * @author rosestack
  * @since 1.0.0
  */
 @Slf4j
 @RestControllerAdvice
 @RequiredArgsConstructor
-public class ApiResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+public class ApiResponseBodyAdvice implements ResponseBodyAdvice<Object>, ApplicationListener<ContextRefreshedEvent> {
+    private static final int MAX_CACHED_PATHS = 2048;
+
+    /**
+     * 以返回值参数为键（包含控制器类型，继承的同一方法在不同控制器上可能有不同结论）
+     */
+    private final Map<MethodParameter, Boolean> supportCache = new ConcurrentHashMap<>();
+    private final Map<String, Boolean> excludeCache = new ConcurrentHashMap<>();
+
+    private final ObjectProvider<RequestMappingHandlerMapping> handlerMappings;
+    private final WebProperties webProperties;
+
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        handlerMappings.orderedStream().forEach(mapping -> {
+            for (HandlerMethod handlerMethod : mapping.getHandlerMethods().values()) {
+                MethodParameter returnType = handlerMethod.getReturnType();
+                supportCache.computeIfAbsent(returnType, ApiResponseBodyAdvice::computeSupports);
+            }
+        });
+        log.debug("ApiResponseBodyAdvice 预计算处理方法 {} 个", supportCache.size());
+    }
+
     @Override
     public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
-        return !returnType.hasMethodAnnotation(ResponseIgnore.class)
-                && !returnType.getContainingClass().isAnnotationPresent(ResponseIgnore.class)
-                && !ApiResponse.class.isAssignableFrom(returnType.getParameterType());
+        return supportCache.computeIfAbsent(returnType, ApiResponseBodyAdvice::computeSupports);
     }
 
     @Override
@@ -42,9 +78,7 @@ public class ApiResponseBodyAdvice implements ResponseBodyAdvice<Object> {
             ServerHttpRequest request,
             ServerHttpResponse response) {
         // 检查请求路径是否应该被排除
-        String requestPath = ServletUtils.extractPathFromUri(request.getURI().getPath());
-        if (AbstractRequestFilter.shouldExcludePath(requestPath)) {
-            log.debug("ApiResponseBodyAdvice 跳过包装路径: {}", requestPath);
+        if (isExcluded(request)) {
             return body;
         }
 
@@ -58,11 +92,41 @@ public class ApiResponseBodyAdvice implements ResponseBodyAdvice<Object> {
             return body;
         }
 
-        // 包装为成功响应
-        ApiResponse<Object> apiResponse = ApiResponse.ok(body);
+        // Jackson 转换器直接写出包装结构，其余转换器仍使用 ApiResponse 对象
+        if (AbstractJackson2HttpMessageConverter.class.isAssignableFrom(selectedConverterType)) {
+            if (StreamingBody.isStreamable(body)) {
+                int flushSize = webProperties.getResponse().getStreamFlushSize();
+                return new ApiResponseEnvelope(StreamingBody.of(body, flushSize));
+            }
+            return new ApiResponseEnvelope(body);
+        }
+        return ApiResponse.ok(body);
+    }
 
-        log.debug("响应体包装完成，路径: {}, 数据类型: {}", requestPath, body.getClass().getSimpleName());
+    private static boolean computeSupports(MethodParameter returnType) {
+        return !returnType.hasMethodAnnotation(ResponseIgnore.class)
+                && !returnType.getContainingClass().isAnnotationPresent(ResponseIgnore.class)
+                && !ApiResponse.class.isAssignableFrom(returnType.getParameterType());
+    }
 
-        return apiResponse;
+    private boolean isExcluded(ServerHttpRequest request) {
+        String requestPath = ServletUtils.extractPathFromUri(request.getURI().getPath());
+        Boolean excluded = excludeCache.get(requestPath);
+        if (excluded != null) {
+            return excluded;
+        }
+        excluded = computeExcluded(requestPath);
+        if (excludeCache.size() < MAX_CACHED_PATHS) {
+            excludeCache.put(requestPath, excluded);
+        }
+        return excluded;
+    }
+
+    private static boolean computeExcluded(String requestPath) {
+        boolean excluded = AbstractRequestFilter.shouldExcludePath(requestPath);
+        if (excluded) {
+            log.debug("ApiResponseBodyAdvice 跳过包装路径: {}", requestPath);
+        }
+        return excluded;
     }
 }
@@ -0,0 +1,25 @@
+package io.github.rosestack.spring.boot.web.advice;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+/**
+ * 待包装的响应体
+ *
+ * <p>由 {@link ApiResponseBodyAdvice} 在 Jackson 转换器写出前返回，{@link ApiResponseEnvelopeSerializer}
+ * 直接在响应体外围写出 {@code ApiResponse} 的 JSON 结构，不再构造中间的 {@code ApiResponse} 对象。
+ *
+ * @author rosestack
+ * @since 1.0.0
+ */
+@JsonSerialize(using = ApiResponseEnvelopeSerializer.class)
+public final class ApiResponseEnvelope {
+    private final Object body;
+
+    public ApiResponseEnvelope(Object body) {
+        this.body = body;
+    }
+
+    public Object getBody() {
+        return body;
+    }
+}
@@ -0,0 +1,95 @@
+package io.github.rosestack.spring.boot.web.advice;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.github.rosestack.core.util.ApiResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link ApiResponseEnvelope} 序列化器
+ *
+ * <p>首次使用时从当前 ObjectMapper 取得 {@code ApiResponse} 的属性写出器（字段名已按命名策略解析为
+ * {@code SerializedString}），并找出承载数据的属性。之后每次通过当前的 {@link JsonGenerator} 逐个写出字段：
+ * 数据字段直接写出响应体，其余字段取自本次新建的 {@code ApiResponse.ok()}，因此美化输出、非 ASCII 转义等生成器特性，
+ * 以及本地化消息、时间戳一类随请求变化的字段都与直接序列化 {@code ApiResponse} 一致。
+ *
+ * <p>{@code ApiResponse} 不是普通 Bean 序列化、或无法识别数据字段时，退回到逐次序列化 {@code ApiResponse.ok(body)}。
+ *
+ * @author rosestack
+ * @since 1.0.0
+ */
+@Slf4j
+public class ApiResponseEnvelopeSerializer extends StdSerializer<ApiResponseEnvelope> {
+    private static final Object PROBE = new Object();
+
+    private volatile Layout layout;
+
+    public ApiResponseEnvelopeSerializer() {
+        super(ApiResponseEnvelope.class);
+    }
+
+    @Override
+    public void serialize(ApiResponseEnvelope value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        Layout current = layout;
+        if (current == null) {
+            current = createLayout(provider);
+            layout = current;
+        }
+        if (current.data() == null) {
+            provider.defaultSerializeValue(ApiResponse.ok(value.getBody()), gen);
+            return;
+        }
+        ApiResponse<?> response = ApiResponse.ok();
+        gen.writeStartObject(response);
+        for (BeanPropertyWriter property : current.properties()) {
+            if (property == current.data()) {
+                gen.writeFieldName(property.getSerializedName());
+                provider.defaultSerializeValue(value.getBody(), gen);
+            } else {
+                property.serializeAsField(response, gen, provider);
+            }
+        }
+        gen.writeEndObject();
+    }
+
+    private static Layout createLayout(SerializerProvider provider) throws IOException {
+        JsonSerializer<Object> serializer = provider.findValueSerializer(ApiResponse.class);
+        if (serializer instanceof BeanSerializerBase) {
+            Object probe = ApiResponse.ok(PROBE);
+            List<BeanPropertyWriter> properties = new ArrayList<>();
+            BeanPropertyWriter data = null;
+            for (Iterator<PropertyWriter> it = serializer.properties(); it.hasNext(); ) {
+                if (!(it.next() instanceof BeanPropertyWriter property)) {
+                    properties = null;
+                    break;
+                }
+                properties.add(property);
+                try {
+                    if (property.get(probe) == PROBE) {
+                        data = property;
+                    }
+                } catch (Exception e) {
+                    properties = null;
+                    break;
+                }
+            }
+            if (properties != null && data != null) {
+                return new Layout(List.copyOf(properties), data);
+            }
+        }
+        log.info("无法识别 ApiResponse 的数据字段，响应包装逐次序列化 ApiResponse");
+        return new Layout(List.of(), null);
+    }
+
+    private record Layout(List<BeanPropertyWriter> properties, BeanPropertyWriter data) {}
+}
@@ -0,0 +1,72 @@
+package io.github.rosestack.spring.boot.web.advice;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import java.util.Iterator;
+import java.util.stream.BaseStream;
+
+/**
+ * 流式响应体
+ *
+ * <p>把控制器返回的 {@link BaseStream}、{@link Iterator} 统一为迭代器加关闭动作，由 {@link StreamingBodySerializer}
+ * 逐个元素写成 JSON 数组。元素只在写出时才被拉取，内存占用与结果集大小无关。
+ *
+ * <p>数据源在序列化结束（包括异常）时关闭。序列化发生在控制器方法返回之后，此时 {@code @Transactional} 服务方法的
+ * 事务与会话已经结束：MyBatis {@code Cursor} 等依赖数据库连接的游标已被关闭，不能直接返回，也不会被识别为流式返回值。
+ * 需要流式导出数据库结果时，应返回自行持有连接、在关闭时才释放的 {@code Stream} 或 {@code Iterator}。
+ *
+ * @author rosestack
+ * @since 1.0.0
+ */
+@JsonSerialize(using = StreamingBodySerializer.class)
+public final class StreamingBody {
+    private final Iterator<?> iterator;
+    private final AutoCloseable source;
+    private final int flushSize;
+
+    private StreamingBody(Iterator<?> iterator, AutoCloseable source, int flushSize) {
+        this.iterator = iterator;
+        this.source = source;
+        this.flushSize = flushSize;
+    }
+
+    /**
+     * 是否为可流式写出的返回值
+     */
+    public static boolean isStreamable(Object body) {
+        return body instanceof BaseStream || body instanceof Iterator;
+    }
+
+    /**
+     * 包装返回值
+     *
+     * @param body      控制器返回值，需满足 {@link #isStreamable(Object)}
+     * @param flushSize 每写出多少个元素刷新一次输出流，小于等于 0 时只在结束时刷新
+     * @return 流式响应体
+     */
+    public static StreamingBody of(Object body, int flushSize) {
+        if (body instanceof BaseStream<?, ?> stream) {
+            return new StreamingBody(stream.iterator(), stream, flushSize);
+        }
+        if (body instanceof Iterator<?> iterator) {
+            return new StreamingBody(iterator, iterator instanceof AutoCloseable closeable ? closeable : null, flushSize);
+        }
+        throw new IllegalArgumentException("Unsupported streaming body: " + body.getClass().getName());
+    }
+
+    Iterator<?> getIterator() {
+        return iterator;
+    }
+
+    int getFlushSize() {
+        return flushSize;
+    }
+
+    /**
+     * 关闭数据源，可重复调用
+     */
+    void close() throws Exception {
+        if (source != null) {
+            source.close();
+        }
+    }
+}
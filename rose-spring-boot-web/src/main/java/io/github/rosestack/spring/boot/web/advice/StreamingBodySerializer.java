@@ -0,0 +1,49 @@
+package io.github.rosestack.spring.boot.web.advice;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import java.util.Iterator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link StreamingBody} 序列化器
+ *
+ * <p>逐个元素写成 JSON 数组，每 {@code flushSize} 个元素调用一次 {@link JsonGenerator#flush()}，
+ * 使已写出的内容尽早以分块方式发送给客户端。响应在第一次刷新后即已提交，之后的异常只能中断连接，
+ * 无法再改写为错误响应。
+ *
+ * @author rosestack
+ * @since 1.0.0
+ */
+@Slf4j
+public class StreamingBodySerializer extends StdSerializer<StreamingBody> {
+
+    public StreamingBodySerializer() {
+        super(StreamingBody.class);
+    }
+
+    @Override
+    public void serialize(StreamingBody value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        Iterator<?> iterator = value.getIterator();
+        int flushSize = value.getFlushSize();
+        long count = 0;
+        try {
+            gen.writeStartArray();
+            while (iterator.hasNext()) {
+                provider.defaultSerializeValue(iterator.next(), gen);
+                if (flushSize > 0 && ++count % flushSize == 0) {
+                    gen.flush();
+                }
+            }
+            gen.writeEndArray();
+        } finally {
+            try {
+                value.close();
+            } catch (Exception e) {
+                log.warn("关闭流式响应数据源失败", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.rosestack.spring.boot.web.coalesce;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * 合并并发的相同 GET 请求
+ *
+ * <p>方法、路径、查询串、调用者身份以及 {@link #headers()} 指定的请求头都相同的并发请求只执行一次，其余请求等待并
+ * 直接复用首个请求序列化好的响应字节。适用于字典、配置一类幂等的查询。
+ *
+ * <p>调用者身份总是计入合并键，不依赖 {@link #headers()}：包括 {@code request.getUserPrincipal()} 的名称以及
+ * {@code Authorization}、{@code Cookie} 请求头，携带不同凭据的请求不会共享响应。
+ *
+ * <p>注意：跟随请求不会进入 {@code DispatcherServlet}，拦截器不会对其执行；异步与流式返回值不参与合并。
+ *
+ * @author rosestack
+ * @since 1.0.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface Coalesce {
+
+    /**
+     * 额外参与合并键的请求头，响应随其变化时需要列出（调用者身份相关的请求头已总是计入）
+     */
+    String[] headers() default {HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_LANGUAGE};
+
+    /**
+     * 跟随请求最长等待毫秒数，小于 0 时使用 {@code rose.web.filter.coalesce.timeout}
+     */
+    long timeoutMillis() default -1;
+}
@@ -0,0 +1,388 @@
+package io.github.rosestack.spring.boot.web.coalesce;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.BaseStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.ServletRequestPathUtils;
+
+/**
+ * 请求合并（single-flight）过滤器
+ *
+ * <p>启动时收集标注 {@link Coalesce} 的处理方法，没有时过滤器直接放行。对 GET 请求按路径解析处理方法，
+ * 命中后按合并键登记：
+ *
+ * <ul>
+ *   <li>首个请求正常执行，响应体写入缓冲区，完成后把状态码、响应头与字节发布给等待者，再写回自身响应；
+ *   <li>并发的相同请求在限定时间内等待发布结果，直接写出同一份字节，不再进入 {@code DispatcherServlet}；
+ *   <li>等待超时，或首个请求异常、转为异步、响应非 2xx 时，跟随请求自行执行。
+ * </ul>
+ *
+ * <p>带有条件请求头（{@code If-None-Match}、{@code If-Modified-Since} 等）或 {@code Range} 的请求不参与合并。
+ *
+ * <p>解析结果按请求 URI 缓存（上限 {@value #MAX_CACHED_PATHS} 条），但只缓存与请求条件无关的结果：若该 URI 能匹配到
+ * 带有 params、headers、consumes、produces 或自定义条件的映射，同一 URI 可能分派到不同处理方法，此时每次重新解析。
+ *
+ * <p>过滤器应排在安全过滤器之后，保证每个请求仍各自完成认证与鉴权，{@code getUserPrincipal()} 也才能反映调用者。
+ *
+ * @author rosestack
+ * @since 1.0.0
+ */
+@Slf4j
+public class CoalescingFilter extends OncePerRequestFilter implements ApplicationListener<ContextRefreshedEvent> {
+    private static final int MAX_CACHED_PATHS = 2048;
+    private static final Metadata NONE = new Metadata(new String[0], 0);
+    private static final List<String> CONDITIONAL_HEADERS = List.of(
+            HttpHeaders.IF_NONE_MATCH,
+            HttpHeaders.IF_MODIFIED_SINCE,
+            HttpHeaders.IF_MATCH,
+            HttpHeaders.IF_UNMODIFIED_SINCE,
+            HttpHeaders.IF_RANGE,
+            HttpHeaders.RANGE);
+    private static final Set<String> UNSHARED_HEADERS =
+            Set.of("content-length", "content-type", "transfer-encoding", "connection", "date", "set-cookie");
+    private static final List<Class<?>> UNSUPPORTED_RETURN_TYPES = List.of(
+            Callable.class,
+            CompletionStage.class,
+            DeferredResult.class,
+            WebAsyncTask.class,
+            ResponseBodyEmitter.class,
+            StreamingResponseBody.class,
+            BaseStream.class,
+            Iterator.class);
+
+    private final ObjectProvider<RequestMappingHandlerMapping> handlerMappings;
+    private final long defaultTimeoutMillis;
+
+    private final Map<String, CompletableFuture<SharedResponse>> flights = new ConcurrentHashMap<>();
+    private final Map<String, Metadata> pathCache = new ConcurrentHashMap<>();
+    private volatile Map<Method, Metadata> coalescedMethods = Map.of();
+    private volatile Map<RequestMappingHandlerMapping, List<RequestMappingInfo>> conditionalMappings = Map.of();
+
+    private final LongAdder leaders = new LongAdder();
+    private final LongAdder collapsed = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+
+    public CoalescingFilter(ObjectProvider<RequestMappingHandlerMapping> handlerMappings, long defaultTimeoutMillis) {
+        this.handlerMappings = handlerMappings;
+        this.defaultTimeoutMillis = defaultTimeoutMillis;
+    }
+
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        Map<Method, Metadata> methods = new HashMap<>();
+        Map<RequestMappingHandlerMapping, List<RequestMappingInfo>> conditional = new HashMap<>();
+        handlerMappings.orderedStream().forEach(mapping -> {
+            for (Map.Entry<RequestMappingInfo, HandlerMethod> entry : mapping.getHandlerMethods().entrySet()) {
+                if (isConditional(entry.getKey())) {
+                    conditional.computeIfAbsent(mapping, key -> new ArrayList<>()).add(entry.getKey());
+                }
+                HandlerMethod handlerMethod = entry.getValue();
+                Coalesce coalesce =
+                        AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getMethod(), Coalesce.class);
+                if (coalesce == null) {
+                    coalesce = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), Coalesce.class);
+                }
+                if (coalesce == null) {
+                    continue;
+                }
+                Class<?> returnType = handlerMethod.getReturnType().getParameterType();
+                if (UNSUPPORTED_RETURN_TYPES.stream().anyMatch(type -> type.isAssignableFrom(returnType))) {
+                    log.warn("@Coalesce 不支持异步或流式返回值，已忽略: {}", handlerMethod);
+                    continue;
+                }
+                methods.put(handlerMethod.getMethod(), new Metadata(coalesce.headers(), coalesce.timeoutMillis()));
+            }
+        });
+        coalescedMethods = methods;
+        conditionalMappings = conditional;
+        pathCache.clear();
+        log.debug("请求合并处理方法 {} 个", methods.size());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return coalescedMethods.isEmpty() || !HttpMethod.GET.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Metadata metadata = hasConditionalHeaders(request) ? NONE : resolve(request);
+        if (metadata == NONE) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        String key = key(request, metadata);
+        CompletableFuture<SharedResponse> flight = new CompletableFuture<>();
+        CompletableFuture<SharedResponse> existing = flights.putIfAbsent(key, flight);
+        if (existing == null) {
+            lead(key, flight, request, response, filterChain);
+        } else {
+            follow(existing, metadata, request, response, filterChain);
+        }
+    }
+
+    public long getLeaderCount() {
+        return leaders.sum();
+    }
+
+    public long getCollapsedCount() {
+        return collapsed.sum();
+    }
+
+    public long getTimeoutCount() {
+        return timeouts.sum();
+    }
+
+    public long getFallbackCount() {
+        return fallbacks.sum();
+    }
+
+    public int getInFlightCount() {
+        return flights.size();
+    }
+
+    private void lead(
+            String key,
+            CompletableFuture<SharedResponse> flight,
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain)
+            throws ServletException, IOException {
+        leaders.increment();
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        SharedResponse shared = null;
+        try {
+            filterChain.doFilter(request, wrapper);
+            // 只共享成功结果，错误（包括超时）不扩散给其他调用者
+            if (!request.isAsyncStarted() && isSuccessful(wrapper.getStatus())) {
+                shared = SharedResponse.capture(wrapper);
+            }
+        } finally {
+            flights.remove(key, flight);
+            // null 表示没有可共享的结果，跟随请求自行执行
+            flight.complete(shared);
+            if (!request.isAsyncStarted()) {
+                wrapper.copyBodyToResponse();
+            }
+        }
+    }
+
+    private void follow(
+            CompletableFuture<SharedResponse> flight,
+            Metadata metadata,
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain)
+            throws ServletException, IOException {
+        long timeout = metadata.timeoutMillis() >= 0 ? metadata.timeoutMillis() : defaultTimeoutMillis;
+        SharedResponse shared;
+        try {
+            shared = flight.get(timeout, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            filterChain.doFilter(request, response);
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fallbacks.increment();
+            filterChain.doFilter(request, response);
+            return;
+        } catch (ExecutionException e) {
+            shared = null;
+        }
+        if (shared == null) {
+            fallbacks.increment();
+            filterChain.doFilter(request, response);
+            return;
+        }
+        collapsed.increment();
+        shared.writeTo(response);
+    }
+
+    /**
+     * 条件请求与范围请求的响应（304、206 等）只对发起者有意义，不参与合并
+     */
+    private static boolean hasConditionalHeaders(HttpServletRequest request) {
+        for (String header : CONDITIONAL_HEADERS) {
+            if (request.getHeader(header) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isSuccessful(int status) {
+        return status >= 200 && status < 300 && status != HttpServletResponse.SC_PARTIAL_CONTENT;
+    }
+
+    private Metadata resolve(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        Metadata metadata = pathCache.get(path);
+        if (metadata != null) {
+            return metadata;
+        }
+        Resolution resolution = lookup(request);
+        if (resolution.cacheable() && pathCache.size() < MAX_CACHED_PATHS) {
+            pathCache.put(path, resolution.metadata());
+        }
+        return resolution.metadata();
+    }
+
+    /**
+     * 通过处理器映射解析处理方法
+     *
+     * <p>解析失败（如内容协商不匹配），或经过的映射中有带请求条件且路径匹配当前请求的映射时，结果不可缓存。
+     */
+    private Resolution lookup(HttpServletRequest request) {
+        boolean cacheable = true;
+        for (RequestMappingHandlerMapping mapping : handlerMappings.orderedStream().toList()) {
+            boolean parsed = false;
+            try {
+                if (mapping.usesPathPatterns() && !ServletRequestPathUtils.hasParsedRequestPath(request)) {
+                    ServletRequestPathUtils.parseAndCache(request);
+                    parsed = true;
+                }
+                HandlerExecutionChain chain = mapping.getHandler(request);
+                // getHandler 之后请求上已有解析好的查找路径，可以直接匹配路径模式
+                cacheable &= !matchesConditionalMapping(mapping, request);
+                if (chain != null && chain.getHandler() instanceof HandlerMethod handlerMethod) {
+                    return new Resolution(coalescedMethods.getOrDefault(handlerMethod.getMethod(), NONE), cacheable);
+                }
+            } catch (Exception e) {
+                return new Resolution(NONE, false);
+            } finally {
+                if (parsed) {
+                    ServletRequestPathUtils.clearParsedRequestPath(request);
+                }
+            }
+        }
+        return new Resolution(NONE, cacheable);
+    }
+
+    private boolean matchesConditionalMapping(RequestMappingHandlerMapping mapping, HttpServletRequest request) {
+        for (RequestMappingInfo info : conditionalMappings.getOrDefault(mapping, List.of())) {
+            if (info.getActivePatternsCondition().getMatchingCondition(request) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 映射是否带有路径与请求方法以外的条件，这类映射使同一 URI 的分派结果依赖于请求参数或请求头
+     */
+    private static boolean isConditional(RequestMappingInfo info) {
+        return !info.getParamsCondition().isEmpty()
+                || !info.getHeadersCondition().isEmpty()
+                || !info.getConsumesCondition().isEmpty()
+                || !info.getProducesCondition().isEmpty()
+                || info.getCustomCondition() != null;
+    }
+
+    private static String key(HttpServletRequest request, Metadata metadata) {
+        StringBuilder key = new StringBuilder(128)
+                .append(request.getMethod())
+                .append(' ')
+                .append(request.getRequestURI());
+        String query = request.getQueryString();
+        if (query != null) {
+            key.append('?').append(query);
+        }
+        // 调用者身份总是计入，不依赖 @Coalesce#headers 的配置
+        Principal principal = request.getUserPrincipal();
+        key.append("\nprincipal:").append(principal != null ? principal.getName() : "");
+        appendHeader(key, request, HttpHeaders.AUTHORIZATION);
+        appendHeader(key, request, HttpHeaders.COOKIE);
+        for (String header : metadata.headers()) {
+            appendHeader(key, request, header);
+        }
+        return key.toString();
+    }
+
+    private static void appendHeader(StringBuilder key, HttpServletRequest request, String header) {
+        key.append('\n').append(header.toLowerCase(Locale.ROOT)).append(':');
+        Enumeration<String> values = request.getHeaders(header);
+        while (values != null && values.hasMoreElements()) {
+            key.append(values.nextElement()).append(',');
+        }
+    }
+
+    private record Metadata(String[] headers, long timeoutMillis) {}
+
+    private record Resolution(Metadata metadata, boolean cacheable) {}
+
+    /**
+     * 首个请求的响应快照，字节数组由所有跟随请求共享，只读
+     */
+    private record SharedResponse(int status, String contentType, Map<String, List<String>> headers, byte[] body) {
+
+        static SharedResponse capture(ContentCachingResponseWrapper wrapper) {
+            Map<String, List<String>> headers = new LinkedHashMap<>();
+            for (String name : wrapper.getHeaderNames()) {
+                if (!UNSHARED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                    Collection<String> values = wrapper.getHeaders(name);
+                    headers.put(name, new ArrayList<>(values));
+                }
+            }
+            return new SharedResponse(
+                    wrapper.getStatus(), wrapper.getContentType(), headers, wrapper.getContentAsByteArray());
+        }
+
+        void writeTo(HttpServletResponse response) throws IOException {
+            response.setStatus(status);
+            headers.forEach((name, values) -> {
+                // 跟随请求自身已有的响应头（如追踪号）保持不变
+                if (!response.containsHeader(name)) {
+                    values.forEach(value -> response.addHeader(name, value));
+                }
+            });
+            if (contentType != null) {
+                response.setContentType(contentType);
+            }
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        }
+    }
+}
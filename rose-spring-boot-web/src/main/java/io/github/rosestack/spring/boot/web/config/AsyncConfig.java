@@ -1,16 +1,28 @@
 package io.github.rosestack.spring.boot.web.config;
 
+import io.github.rosestack.spring.boot.web.context.ContextPropagator;
+import io.github.rosestack.spring.boot.web.context.ContextSnapshot;
+import io.github.rosestack.spring.boot.web.task.BulkheadExecutorRegistrar;
+import io.github.rosestack.spring.boot.web.task.BulkheadTaskExecutor;
+import io.github.rosestack.spring.boot.web.task.DropReason;
+import io.github.rosestack.spring.boot.web.task.DroppedTaskHandler;
+import io.github.rosestack.spring.boot.web.task.VirtualThreadExecutorRegistrar;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import java.util.Arrays;
-import java.util.Map;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadPoolExecutor;
 import lombok.extern.slf4j.Slf4j;
-import org.slf4j.MDC;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.task.TaskExecutionProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.core.task.TaskDecorator;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -18,6 +30,7 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Slf4j
 @EnableAsync
+@Import({BulkheadExecutorRegistrar.class, VirtualThreadExecutorRegistrar.class})
 public class AsyncConfig implements AsyncConfigurer {
     /**
      * 系统 CPU 核心数，用于计算默认线程池大小
@@ -26,13 +39,29 @@ public class AsyncConfig implements AsyncConfigurer {
 
     private final TaskExecutionProperties properties;
 
-    public AsyncConfig(TaskExecutionProperties properties) {
+    private final WebProperties webProperties;
+
+    /**
+     * 虚拟线程或舱壁模式下 {@code taskExecutor} 与 {@link AsyncConfigurer} 共用同一实例
+     */
+    private volatile Executor sharedExecutor;
+
+    public AsyncConfig(TaskExecutionProperties properties, WebProperties webProperties) {
         this.properties = properties;
+        this.webProperties = webProperties;
     }
 
     @Override
     @Bean(name = "taskExecutor")
     public Executor getAsyncExecutor() {
+        WebProperties.Async async = webProperties.getAsync();
+        if (async.isVirtualThreads()) {
+            return getVirtualThreadExecutor(async);
+        }
+        if (async.getBulkhead().isEnabled()) {
+            return getBulkheadExecutor(async.getBulkhead());
+        }
+
         log.info("Creating Async Task Executor");
 
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
@@ -65,6 +94,31 @@ public class AsyncConfig implements AsyncConfigurer {
         return executor;
     }
 
+    private synchronized Executor getVirtualThreadExecutor(WebProperties.Async async) {
+        if (sharedExecutor == null) {
+            String prefix = properties.getThreadNamePrefix();
+            sharedExecutor = VirtualThreadExecutorRegistrar.create(prefix, async.getConcurrencyLimit());
+            log.info("创建虚拟线程异步执行器，并发上限：{}，线程前缀：{}", async.getConcurrencyLimit(), prefix);
+        }
+        return sharedExecutor;
+    }
+
+    private synchronized Executor getBulkheadExecutor(WebProperties.Bulkhead bulkhead) {
+        if (sharedExecutor == null) {
+            WebProperties.Bulkhead.Pool pool = bulkhead.getPools()
+                    .getOrDefault(BulkheadExecutorRegistrar.DEFAULT_BULKHEAD, new WebProperties.Bulkhead.Pool());
+            sharedExecutor = new BulkheadTaskExecutor(
+                    BulkheadExecutorRegistrar.DEFAULT_BULKHEAD, pool, bulkhead.getAdjustInterval());
+            log.info(
+                    "创建异步舱壁线程池，核心线程数：{}，最大线程数：{}，队列容量：{}，排队截止时间：{}",
+                    pool.getCoreSize(),
+                    pool.getMaxSize(),
+                    pool.getQueueCapacity(),
+                    pool.getQueueDeadline());
+        }
+        return sharedExecutor;
+    }
+
     @Override
     public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
         return (ex, method, params) ->
@@ -72,41 +126,91 @@ public class AsyncConfig implements AsyncConfigurer {
     }
 
     @Bean
-    BeanPostProcessor threadPoolTaskExecutorBeanPostProcessor() {
+    BeanPostProcessor threadPoolTaskExecutorBeanPostProcessor(
+            ObjectProvider<ContextPropagator> contextPropagator, ObjectProvider<DroppedTaskHandler> droppedTaskHandler) {
         return new BeanPostProcessor() {
             @Override
             public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+                if (bean instanceof SimpleAsyncTaskExecutor simpleExecutor) {
+                    simpleExecutor.setTaskDecorator(new CopyContextTaskDecorator(contextPropagator.getIfAvailable()));
+                    return simpleExecutor;
+                }
                 if (!(bean instanceof ThreadPoolTaskExecutor)) {
                     return bean;
                 }
                 ThreadPoolTaskExecutor executor = (ThreadPoolTaskExecutor) bean;
-                executor.setTaskDecorator(new CopyContextTaskDecorator());
+                executor.setTaskDecorator(new CopyContextTaskDecorator(contextPropagator.getIfAvailable()));
+                if (executor instanceof BulkheadTaskExecutor bulkhead) {
+                    bulkhead.setDroppedTaskHandler(droppedTaskHandler.getIfAvailable());
+                }
                 return executor;
             }
         };
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = BulkheadExecutorRegistrar.PREFIX, name = "enabled", havingValue = "true")
+    MeterBinder bulkheadMeterBinder(ObjectProvider<Executor> executors) {
+        // taskExecutor 声明类型为 Executor，按实例类型筛选才能覆盖到它
+        return registry -> executors.orderedStream()
+                .filter(BulkheadTaskExecutor.class::isInstance)
+                .map(BulkheadTaskExecutor.class::cast)
+                .forEach(executor -> {
+                    String name = executor.getName();
+                    Gauge.builder("rose.web.bulkhead.threads.core", executor, BulkheadTaskExecutor::getCorePoolSize)
+                            .description("Current adaptive core pool size of the bulkhead")
+                            .tag("bulkhead", name)
+                            .register(registry);
+                    Gauge.builder("rose.web.bulkhead.threads.active", executor, BulkheadTaskExecutor::getActiveCount)
+                            .description("Threads actively executing tasks")
+                            .tag("bulkhead", name)
+                            .register(registry);
+                    Gauge.builder("rose.web.bulkhead.queue.size", executor, BulkheadTaskExecutor::getQueueSize)
+                            .description("Tasks waiting in the bulkhead queue")
+                            .tag("bulkhead", name)
+                            .register(registry);
+                    Gauge.builder(
+                                    "rose.web.bulkhead.queue.latency",
+                                    executor,
+                                    e -> e.getQueueLatencyNanos() / 1_000_000_000.0)
+                            .description("Smoothed time tasks spend queued before execution")
+                            .baseUnit("seconds")
+                            .tag("bulkhead", name)
+                            .register(registry);
+                    FunctionCounter.builder(
+                                    "rose.web.bulkhead.completed", executor, BulkheadTaskExecutor::getCompletedCount)
+                            .description("Tasks executed by the bulkhead")
+                            .tag("bulkhead", name)
+                            .register(registry);
+                    for (DropReason reason : DropReason.values()) {
+                        FunctionCounter.builder("rose.web.bulkhead.dropped", executor, e -> e.getDroppedCount(reason))
+                                .description("Tasks shed by the bulkhead")
+                                .tag("bulkhead", name)
+                                .tag("reason", reason.name().toLowerCase())
+                                .register(registry);
+                    }
+                });
+    }
+
+    /**
+     * 将提交线程的 MDC、链路、认证等上下文透传到执行线程，确保 traceId/spanId 在异步日志中可见
+     *
+     * <p>提交时只捕获各上下文的引用（{@link ContextSnapshot}），执行时按差异恢复、结束后还原。
+     */
     public static class CopyContextTaskDecorator implements TaskDecorator {
+        private final ContextPropagator propagator;
+
+        public CopyContextTaskDecorator() {
+            this(null);
+        }
+
+        public CopyContextTaskDecorator(ContextPropagator propagator) {
+            this.propagator = propagator != null ? propagator : ContextPropagator.mdcOnly();
+        }
+
         @Override
         public Runnable decorate(Runnable runnable) {
-            final var contextMap = MDC.getCopyOfContextMap();
-            return () -> {
-                // 将父线程的 MDC 上下文透传到子线程，确保 traceId/spanId 在异步日志中可见
-                Map<String, String> previous = null;
-                try {
-                    previous = MDC.getCopyOfContextMap();
-                    if (contextMap != null) {
-                        MDC.setContextMap(contextMap);
-                    }
-                    runnable.run();
-                } finally {
-                    if (previous == null) {
-                        MDC.clear();
-                    } else {
-                        MDC.setContextMap(previous);
-                    }
-                }
-            };
+            return propagator.capture().wrap(runnable);
         }
     }
 }
@@ -0,0 +1,62 @@
+package io.github.rosestack.spring.boot.web.config;
+
+import io.github.rosestack.spring.boot.web.context.ContextAccessor;
+import io.github.rosestack.spring.boot.web.context.ContextPropagator;
+import io.github.rosestack.spring.boot.web.context.MdcContextAccessor;
+import io.github.rosestack.spring.boot.web.context.SecurityContextAccessor;
+import io.github.rosestack.spring.boot.web.context.TracingContextAccessor;
+import io.micrometer.tracing.Tracer;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * 异步上下文透传配置
+ *
+ * <p>MDC 始终透传；类路径存在 Spring Security、Micrometer Tracing 时分别透传认证信息与链路上下文；
+ * 业务上下文（如租户）声明 {@link ContextAccessor} Bean 即可接入。
+ *
+ * @author rosestack
+ * @since 1.0.0
+ */
+@Import({
+    ContextPropagationConfig.SecurityContextConfiguration.class,
+    ContextPropagationConfig.TracingContextConfiguration.class
+})
+public class ContextPropagationConfig {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ContextPropagator contextPropagator(ObjectProvider<ContextAccessor> accessors) {
+        List<ContextAccessor> list = new ArrayList<>();
+        list.add(MdcContextAccessor.INSTANCE);
+        accessors.orderedStream().forEach(list::add);
+        return new ContextPropagator(list);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(SecurityContextHolder.class)
+    static class SecurityContextConfiguration {
+
+        @Bean
+        SecurityContextAccessor securityContextAccessor() {
+            return new SecurityContextAccessor();
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(Tracer.class)
+    static class TracingContextConfiguration {
+
+        @Bean
+        TracingContextAccessor tracingContextAccessor(ObjectProvider<Tracer> tracer) {
+            return new TracingContextAccessor(tracer);
+        }
+    }
+}
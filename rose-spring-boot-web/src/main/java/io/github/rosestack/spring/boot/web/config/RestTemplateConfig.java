@@ -1,21 +1,99 @@
 package io.github.rosestack.spring.boot.web.config;
 
+import io.github.rosestack.spring.boot.web.http.Http2ClientFactory;
+import io.github.rosestack.spring.boot.web.http.InstrumentedConnectionManager;
+import io.github.rosestack.spring.boot.web.http.PooledHttpClientFactory;
+import io.github.rosestack.spring.boot.web.http.RestClientRegistrar;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestOperations;
 
+/**
+ * HTTP 客户端配置
+ *
+ * <p>按 {@code rose.web.http-client.*} 创建共享的 {@link ClientHttpRequestFactory}：开启 HTTP/2 时使用 JDK
+ * HttpClient，否则优先使用 Apache HttpClient 5 连接池，都不可用时退回 {@link SimpleClientHttpRequestFactory}。
+ * {@code RestTemplate} 与 {@code RestClient}（Spring Framework 6.1+）使用同一个工厂。
+ *
+ * <p>模块需兼容 Spring Framework 6.0 编译，6.1 才有的类型只按类名引用，相关配置由 {@code @ConditionalOnClass} 保护。
+ *
+ * @author rosestack
+ * @since 1.0.0
+ */
+@Slf4j
+@Import({
+    RestTemplateConfig.Http2ClientConfiguration.class,
+    RestTemplateConfig.PooledClientConfiguration.class,
+    RestTemplateConfig.RestClientConfiguration.class
+})
 public class RestTemplateConfig {
+    public static final String REQUEST_FACTORY_BEAN_NAME = "roseClientHttpRequestFactory";
+
+    @Bean(name = REQUEST_FACTORY_BEAN_NAME)
+    @ConditionalOnMissingBean(name = REQUEST_FACTORY_BEAN_NAME)
+    public ClientHttpRequestFactory roseClientHttpRequestFactory(WebProperties webProperties) {
+        WebProperties.HttpClient properties = webProperties.getHttpClient();
+        if (properties.isHttp2()) {
+            log.warn("HTTP/2 客户端需要 Spring Framework 6.1+，已退回 HttpURLConnection");
+        }
+        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+        factory.setConnectTimeout((int) properties.getConnectTimeout().toMillis());
+        factory.setReadTimeout((int) properties.getReadTimeout().toMillis());
+        return factory;
+    }
+
     @Bean
-    public RestOperations restTemplate(RestTemplateBuilder builder) {
-        // 使用 RestTemplateBuilder 配置请求工厂并设置超时，避免使用已弃用的超时方法；
-        // 保持 Micrometer/Tracing 自动拦截器注入。
-        return builder.requestFactory(() -> {
-                    SimpleClientHttpRequestFactory f = new SimpleClientHttpRequestFactory();
-                    f.setConnectTimeout(3_000);
-                    f.setReadTimeout(7_000);
-                    return f;
-                })
-                .build();
+    public RestOperations restTemplate(
+            RestTemplateBuilder builder,
+            @Qualifier(REQUEST_FACTORY_BEAN_NAME) ClientHttpRequestFactory requestFactory) {
+        // 通过 RestTemplateBuilder 构建，保持 Micrometer/Tracing 自动拦截器注入
+        return builder.requestFactory(() -> requestFactory).build();
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = Http2ClientFactory.JDK_FACTORY_CLASS)
+    @ConditionalOnProperty(prefix = "rose.web.http-client", name = "http2", havingValue = "true")
+    static class Http2ClientConfiguration {
+
+        @Bean(name = REQUEST_FACTORY_BEAN_NAME)
+        ClientHttpRequestFactory roseClientHttpRequestFactory(WebProperties webProperties) {
+            return Http2ClientFactory.create(webProperties.getHttpClient());
+        }
     }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.apache.hc.client5.http.impl.classic.HttpClients")
+    @ConditionalOnProperty(
+            prefix = "rose.web.http-client",
+            name = "http2",
+            havingValue = "false",
+            matchIfMissing = true)
+    static class PooledClientConfiguration {
+
+        @Bean
+        InstrumentedConnectionManager roseHttpClientConnectionManager(WebProperties webProperties) {
+            return PooledHttpClientFactory.createConnectionManager(webProperties.getHttpClient());
+        }
+
+        @Bean(name = REQUEST_FACTORY_BEAN_NAME)
+        ClientHttpRequestFactory roseClientHttpRequestFactory(
+                WebProperties webProperties, InstrumentedConnectionManager connectionManager) {
+            return PooledHttpClientFactory.create(webProperties.getHttpClient(), connectionManager);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = RestClientRegistrar.REST_CLIENT_CLASS)
+    @ConditionalOnMissingBean(type = RestClientRegistrar.REST_CLIENT_CLASS)
+    @Import(RestClientRegistrar.class)
+    static class RestClientConfiguration {}
 }
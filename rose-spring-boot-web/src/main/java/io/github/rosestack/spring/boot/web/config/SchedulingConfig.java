@@ -1,13 +1,26 @@
 package io.github.rosestack.spring.boot.web.config;
 
+import io.github.rosestack.spring.boot.web.task.VirtualThreadTaskScheduler;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.SchedulingConfigurer;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.scheduling.config.ScheduledTaskRegistrar;
 
+@Slf4j
 @EnableScheduling
 public class SchedulingConfig implements SchedulingConfigurer {
+    private final WebProperties webProperties;
+
+    /**
+     * {@code taskScheduler} Bean 与 {@link #configureTasks} 共用同一实例
+     */
+    private volatile ThreadPoolTaskScheduler taskScheduler;
+
+    public SchedulingConfig(WebProperties webProperties) {
+        this.webProperties = webProperties;
+    }
 
     @Override
     public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
@@ -15,11 +28,22 @@ public class SchedulingConfig implements SchedulingConfigurer {
     }
 
     @Bean(destroyMethod = "shutdown")
-    public ThreadPoolTaskScheduler taskScheduler() {
-        ThreadPoolTaskScheduler threadPoolScheduler = new ThreadPoolTaskScheduler();
+    public synchronized ThreadPoolTaskScheduler taskScheduler() {
+        if (taskScheduler != null) {
+            return taskScheduler;
+        }
+        ThreadPoolTaskScheduler threadPoolScheduler;
+        if (webProperties.getScheduling().isVirtualThreads()) {
+            // 调度线程只负责触发，任务体在虚拟线程上执行
+            threadPoolScheduler = new VirtualThreadTaskScheduler();
+            log.info("定时任务体将分派到虚拟线程执行");
+        } else {
+            threadPoolScheduler = new ThreadPoolTaskScheduler();
+        }
         threadPoolScheduler.setThreadNamePrefix("scheduler-");
         threadPoolScheduler.setPoolSize(Runtime.getRuntime().availableProcessors());
         threadPoolScheduler.setRemoveOnCancelPolicy(true);
+        taskScheduler = threadPoolScheduler;
         return threadPoolScheduler;
     }
 }
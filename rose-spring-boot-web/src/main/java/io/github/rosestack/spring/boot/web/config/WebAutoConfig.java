@@ -1,20 +1,29 @@
 package io.github.rosestack.spring.boot.web.config;
 
 import io.github.rosestack.core.util.StringPool;
+import io.github.rosestack.spring.boot.web.accesslog.AccessLogFilter;
+import io.github.rosestack.spring.boot.web.accesslog.AccessLogWriter;
 import io.github.rosestack.spring.boot.web.advice.ApiResponseBodyAdvice;
+import io.github.rosestack.spring.boot.web.coalesce.CoalescingFilter;
 import io.github.rosestack.spring.boot.web.exception.GlobalExceptionHandler;
+import io.github.rosestack.spring.boot.web.filter.SpillableCachingRequestFilter;
+import io.github.rosestack.spring.boot.web.xss.XssFilter;
+import io.github.rosestack.spring.boot.web.xss.XssRequestBodyAdvice;
+import io.github.rosestack.spring.boot.web.xss.XssStringDeserializer;
 import io.github.rosestack.spring.factory.YmlPropertySourceFactory;
-import io.github.rosestack.spring.filter.CachingRequestFilter;
-import io.github.rosestack.spring.filter.LoggingRequestFilter;
-import io.github.rosestack.spring.filter.XssRequestFilter;
 import io.github.rosestack.spring.util.SpringContextUtils;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.context.WebServerInitializedEvent;
 import org.springframework.boot.web.server.WebServerFactoryCustomizer;
@@ -28,7 +37,7 @@ import org.springframework.context.event.EventListener;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.web.context.request.RequestContextListener;
-import org.springframework.web.filter.CommonsRequestLoggingFilter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 
 /**
  * Web 自动配置
@@ -39,6 +48,7 @@ import org.springframework.web.filter.CommonsRequestLoggingFilter;
  * @since 1.0.0
  */
 @Import({
+    ContextPropagationConfig.class,
     AsyncConfig.class,
     SchedulingConfig.class,
     WebMvcConfig.class,
@@ -92,10 +102,10 @@ public class WebAutoConfig {
             name = "enabled",
             havingValue = "true",
             matchIfMissing = true)
-    FilterRegistrationBean<CachingRequestFilter> cachingRequestFilter() {
-        CachingRequestFilter filter =
-                new CachingRequestFilter(webProperties.getFilter().getExcludePaths());
-        FilterRegistrationBean<CachingRequestFilter> registrationBean = new FilterRegistrationBean<>();
+    FilterRegistrationBean<SpillableCachingRequestFilter> cachingRequestFilter() {
+        SpillableCachingRequestFilter filter = new SpillableCachingRequestFilter(
+                webProperties.getFilter().getCaching(), webProperties.getFilter().getExcludePaths());
+        FilterRegistrationBean<SpillableCachingRequestFilter> registrationBean = new FilterRegistrationBean<>(filter);
         registrationBean.setDispatcherTypes(DispatcherType.REQUEST);
         registrationBean.addUrlPatterns(StringPool.ALL_PATH);
         registrationBean.setName(filter.getClass().getSimpleName());
@@ -109,9 +119,9 @@ public class WebAutoConfig {
             name = "enabled",
             havingValue = "true",
             matchIfMissing = true)
-    FilterRegistrationBean<XssRequestFilter> xxsFilter() {
-        XssRequestFilter filter = new XssRequestFilter(webProperties.getFilter().getExcludePaths());
-        FilterRegistrationBean<XssRequestFilter> registrationBean = new FilterRegistrationBean<>();
+    FilterRegistrationBean<XssFilter> xxsFilter() {
+        XssFilter filter = new XssFilter(webProperties.getFilter().getXss(), webProperties.getFilter().getExcludePaths());
+        FilterRegistrationBean<XssFilter> registrationBean = new FilterRegistrationBean<>(filter);
         registrationBean.setDispatcherTypes(DispatcherType.REQUEST);
         registrationBean.addUrlPatterns(StringPool.ALL_PATH);
         registrationBean.setName(filter.getClass().getSimpleName());
@@ -119,20 +129,111 @@ public class WebAutoConfig {
         return registrationBean;
     }
 
+    @Bean
+    @ConditionalOnProperty(
+            prefix = "rose.web.filter.xss",
+            name = "enabled",
+            havingValue = "true",
+            matchIfMissing = true)
+    Jackson2ObjectMapperBuilderCustomizer xssJacksonCustomizer() {
+        // 反序列化器只在 XssRequestBodyAdvice 读取请求体期间生效
+        return builder -> builder.deserializerByType(String.class, new XssStringDeserializer());
+    }
+
+    @Bean
+    @ConditionalOnProperty(
+            prefix = "rose.web.filter.xss",
+            name = "enabled",
+            havingValue = "true",
+            matchIfMissing = true)
+    XssRequestBodyAdvice xssRequestBodyAdvice() {
+        return new XssRequestBodyAdvice();
+    }
+
     @Bean
     @ConditionalOnProperty(
             prefix = "rose.web.filter.logging",
             name = "enabled",
             havingValue = "true",
             matchIfMissing = true)
-    public CommonsRequestLoggingFilter commonsRequestLoggingFilter() {
-        final CommonsRequestLoggingFilter filter =
-                new LoggingRequestFilter(webProperties.getFilter().getLogging().getMaxResponseTimeToLogInMs());
-        filter.setIncludeQueryString(true);
-        filter.setIncludePayload(true);
-        filter.setMaxPayloadLength(1000);
-        filter.setIncludeHeaders(true);
-        filter.setIncludeClientInfo(true);
-        return filter;
+    AccessLogWriter accessLogWriter() {
+        WebProperties.Filter.LoggingRequest logging = webProperties.getFilter().getLogging();
+        return new AccessLogWriter(logging.getLoggerName(), logging.getCapacity());
+    }
+
+    @Bean
+    @ConditionalOnProperty(
+            prefix = "rose.web.filter.logging",
+            name = "enabled",
+            havingValue = "true",
+            matchIfMissing = true)
+    FilterRegistrationBean<AccessLogFilter> accessLogFilter(AccessLogWriter accessLogWriter) {
+        AccessLogFilter filter = new AccessLogFilter(accessLogWriter, webProperties.getFilter().getLogging());
+        FilterRegistrationBean<AccessLogFilter> registrationBean = new FilterRegistrationBean<>(filter);
+        registrationBean.setDispatcherTypes(DispatcherType.REQUEST);
+        registrationBean.addUrlPatterns(StringPool.ALL_PATH);
+        registrationBean.setName(filter.getClass().getSimpleName());
+        // 最外层，计时覆盖整个过滤器链
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registrationBean;
+    }
+
+    @Bean
+    @ConditionalOnProperty(
+            prefix = "rose.web.filter.coalesce",
+            name = "enabled",
+            havingValue = "true",
+            matchIfMissing = true)
+    CoalescingFilter coalescingFilter(ObjectProvider<RequestMappingHandlerMapping> handlerMappings) {
+        return new CoalescingFilter(
+                handlerMappings,
+                webProperties.getFilter().getCoalesce().getTimeout().toMillis());
+    }
+
+    @Bean
+    @ConditionalOnProperty(
+            prefix = "rose.web.filter.coalesce",
+            name = "enabled",
+            havingValue = "true",
+            matchIfMissing = true)
+    FilterRegistrationBean<CoalescingFilter> coalescingFilterRegistration(CoalescingFilter filter) {
+        FilterRegistrationBean<CoalescingFilter> registrationBean = new FilterRegistrationBean<>(filter);
+        registrationBean.setDispatcherTypes(DispatcherType.REQUEST);
+        registrationBean.addUrlPatterns(StringPool.ALL_PATH);
+        registrationBean.setName(filter.getClass().getSimpleName());
+        // 排在 Spring Security（-100）之后，每个请求仍各自完成认证与鉴权
+        registrationBean.setOrder(Ordered.LOWEST_PRECEDENCE - 10);
+        return registrationBean;
+    }
+
+    @Bean
+    @ConditionalOnProperty(
+            prefix = "rose.web.filter.coalesce",
+            name = "enabled",
+            havingValue = "true",
+            matchIfMissing = true)
+    MeterBinder coalescingMeterBinder(CoalescingFilter filter) {
+        // 合并率 = collapsed / (leader + collapsed + timeout + fallback)
+        return registry -> {
+            FunctionCounter.builder("rose.web.coalesce.requests", filter, CoalescingFilter::getLeaderCount)
+                    .description("Requests handled by the coalescing filter")
+                    .tag("result", "leader")
+                    .register(registry);
+            FunctionCounter.builder("rose.web.coalesce.requests", filter, CoalescingFilter::getCollapsedCount)
+                    .description("Requests handled by the coalescing filter")
+                    .tag("result", "collapsed")
+                    .register(registry);
+            FunctionCounter.builder("rose.web.coalesce.requests", filter, CoalescingFilter::getTimeoutCount)
+                    .description("Requests handled by the coalescing filter")
+                    .tag("result", "timeout")
+                    .register(registry);
+            FunctionCounter.builder("rose.web.coalesce.requests", filter, CoalescingFilter::getFallbackCount)
+                    .description("Requests handled by the coalescing filter")
+                    .tag("result", "fallback")
+                    .register(registry);
+            Gauge.builder("rose.web.coalesce.in-flight", filter, CoalescingFilter::getInFlightCount)
+                    .description("Distinct coalesced requests currently executing")
+                    .register(registry);
+        };
     }
 }
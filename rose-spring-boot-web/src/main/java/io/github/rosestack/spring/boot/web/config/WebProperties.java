@@ -1,7 +1,14 @@
 package io.github.rosestack.spring.boot.web.config;
 
+import io.github.rosestack.spring.boot.web.xss.XssPolicy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 
 /**
  * Web 配置属性
@@ -30,6 +37,26 @@ public class WebProperties {
      */
     private Springdoc springdoc = new Springdoc();
 
+    /**
+     * 异步任务配置
+     */
+    private Async async = new Async();
+
+    /**
+     * 定时任务配置
+     */
+    private Scheduling scheduling = new Scheduling();
+
+    /**
+     * 响应包装配置
+     */
+    private Response response = new Response();
+
+    /**
+     * HTTP 客户端配置，作用于 {@code RestTemplate} / {@code RestClient}
+     */
+    private HttpClient httpClient = new HttpClient();
+
     /**
      * 过滤器配置
      */
@@ -51,11 +78,49 @@ public class WebProperties {
 
         private LoggingRequest logging = new LoggingRequest();
 
+        /**
+         * 相同 GET 请求合并
+         */
+        private Coalesce coalesce = new Coalesce();
+
         @Data
         public static class LoggingRequest {
             private boolean enabled = true;
 
+            /**
+             * 超过该耗时的请求总是记录
+             */
             private int maxResponseTimeToLogInMs = 1500;
+
+            /**
+             * 不低于该状态码的请求总是记录
+             */
+            private int errorStatus = 500;
+
+            /**
+             * 快速成功请求的采样率，0 ~ 1
+             */
+            private double sampleRate = 0.1;
+
+            /**
+             * 访问日志 Logger 名称，可在日志配置中为其指定独立的滚动文件
+             */
+            private String loggerName = "rose.access";
+
+            /**
+             * 异步缓冲区槽位数，满时丢弃
+             */
+            private int capacity = 8192;
+
+            /**
+             * 是否记录查询字符串
+             */
+            private boolean includeQueryString = true;
+
+            /**
+             * 是否记录客户端 IP 与 User-Agent
+             */
+            private boolean includeClientInfo = true;
         }
 
         @Data
@@ -64,6 +129,32 @@ public class WebProperties {
              * 是否启用
              */
             private boolean enabled = true;
+
+            /**
+             * 请求体在内存中缓存的上限，超过后溢出到临时文件
+             */
+            private DataSize memoryThreshold = DataSize.ofKilobytes(64);
+
+            /**
+             * 内存缓冲区池大小
+             */
+            private int bufferPoolSize = 64;
+
+            /**
+             * 溢出文件目录，为空时使用系统临时目录
+             */
+            private String spillDirectory;
+
+            /**
+             * 不做缓存的 Content-Type 前缀
+             */
+            private List<String> bypassContentTypes = new ArrayList<>(List.of(
+                    "multipart/", "application/octet-stream", "application/x-www-form-urlencoded"));
+
+            /**
+             * 仅缓存匹配的路径（Ant 风格），为空表示全部路径
+             */
+            private String[] includePaths;
         }
 
         /**
@@ -86,6 +177,220 @@ public class WebProperties {
              * 是否启用
              */
             private boolean enabled = true;
+
+            /**
+             * 默认策略
+             */
+            private XssPolicy policy = XssPolicy.ESCAPE;
+
+            /**
+             * 是否清洗请求头
+             */
+            private boolean headers = true;
+
+            /**
+             * 按路径（Ant 风格）指定策略，按声明顺序取第一个匹配项
+             */
+            private Map<String, XssPolicy> paths = new LinkedHashMap<>();
+        }
+
+        /**
+         * 请求合并过滤器配置，只作用于标注了 {@code @Coalesce} 的处理方法
+         */
+        @Data
+        public static class Coalesce {
+            /**
+             * 是否启用
+             */
+            private boolean enabled = true;
+
+            /**
+             * 跟随请求等待首个请求完成的最长时间，超时后自行执行
+             */
+            private Duration timeout = Duration.ofSeconds(3);
+        }
+    }
+
+    /**
+     * 异步任务配置
+     */
+    @Data
+    public static class Async {
+        /**
+         * 舱壁线程池配置
+         */
+        private Bulkhead bulkhead = new Bulkhead();
+
+        /**
+         * 是否使用虚拟线程执行 {@code @Async} 任务（需要 JDK 21+），开启后优先于舱壁配置
+         */
+        private boolean virtualThreads = false;
+
+        /**
+         * 虚拟线程模式下 {@code taskExecutor} 的并发上限，-1 表示不限制
+         */
+        private int concurrencyLimit = -1;
+
+        /**
+         * 虚拟线程模式下按限定符注册的执行器及其并发上限，键为 Bean 名称，可用于 {@code @Async("名称")}
+         */
+        private Map<String, Integer> concurrencyLimits = new LinkedHashMap<>();
+    }
+
+    /**
+     * 定时任务配置
+     */
+    @Data
+    public static class Scheduling {
+        /**
+         * 是否把定时任务体分派到虚拟线程执行（需要 JDK 21+），调度线程只负责触发
+         */
+        private boolean virtualThreads = false;
+    }
+
+    /**
+     * 响应包装配置
+     */
+    @Data
+    public static class Response {
+        /**
+         * 流式响应（{@code Stream} / {@code Iterator}）每写出多少个元素刷新一次输出流
+         */
+        private int streamFlushSize = 500;
+    }
+
+    /**
+     * HTTP 客户端配置
+     *
+     * <p>类路径存在 Apache HttpClient 5 时使用连接池客户端；开启 {@code http2} 且 Spring Framework 6.1+ 时改用 JDK
+     * {@code HttpClient}（单连接多路复用，连接数、Keep-Alive 与解压配置不适用）；两者都不满足时退回
+     * {@code HttpURLConnection}，只应用默认超时。
+     */
+    @Data
+    public static class HttpClient {
+        /**
+         * 是否使用 HTTP/2（JDK HttpClient）
+         */
+        private boolean http2 = false;
+
+        /**
+         * 建立连接超时
+         */
+        private Duration connectTimeout = Duration.ofSeconds(3);
+
+        /**
+         * 读取响应超时
+         */
+        private Duration readTimeout = Duration.ofSeconds(7);
+
+        /**
+         * 从连接池获取连接的超时
+         */
+        private Duration connectionRequestTimeout = Duration.ofSeconds(1);
+
+        /**
+         * 连接池总连接数
+         */
+        private int maxConnections = 200;
+
+        /**
+         * 每个路由（协议 + 主机 + 端口）的最大连接数
+         */
+        private int maxConnectionsPerRoute = 20;
+
+        /**
+         * 服务端未声明 Keep-Alive 时空闲连接的保持时间，同时用于清理空闲连接
+         */
+        private Duration keepAlive = Duration.ofSeconds(30);
+
+        /**
+         * 是否发送 {@code Accept-Encoding} 并自动解压响应
+         */
+        private boolean decompression = true;
+
+        /**
+         * 按主机覆盖的配置，键为主机名，含点号时需使用方括号，如 {@code "[api.example.com]"}
+         */
+        private Map<String, Host> hosts = new LinkedHashMap<>();
+
+        @Data
+        public static class Host {
+            /**
+             * 建立连接超时，为空时使用默认值
+             */
+            private Duration connectTimeout;
+
+            /**
+             * 读取响应超时，为空时使用默认值
+             */
+            private Duration readTimeout;
+
+            /**
+             * 该主机每个路由的最大连接数，为空时使用默认值
+             */
+            private Integer maxConnections;
+        }
+    }
+
+    /**
+     * 舱壁线程池配置
+     *
+     * <p>启用后 {@code taskExecutor} 使用名为 {@code default} 的舱壁，其余舱壁按名称注册为 Bean，
+     * 可通过 {@code @Async("名称")} 隔离不同类别的任务。
+     */
+    @Data
+    public static class Bulkhead {
+        /**
+         * 是否启用
+         */
+        private boolean enabled = false;
+
+        /**
+         * 根据排队延迟调整核心线程数的周期
+         */
+        private Duration adjustInterval = Duration.ofSeconds(1);
+
+        /**
+         * 舱壁定义，键为舱壁名称（同时作为 Bean 名称）
+         */
+        private Map<String, Pool> pools = new LinkedHashMap<>();
+
+        @Data
+        public static class Pool {
+            /**
+             * 核心线程数下限
+             */
+            private int coreSize = 8;
+
+            /**
+             * 最大线程数，核心线程数向上调整的上限
+             */
+            private int maxSize = 32;
+
+            /**
+             * 队列容量，队列满且线程数达到上限时拒绝任务
+             */
+            private int queueCapacity = 1000;
+
+            /**
+             * 空闲线程存活时间
+             */
+            private Duration keepAlive = Duration.ofSeconds(60);
+
+            /**
+             * 任务排队超过该时间后丢弃，为空或 0 表示不限制
+             */
+            private Duration queueDeadline = Duration.ofSeconds(30);
+
+            /**
+             * 目标排队延迟，平均排队延迟超过该值时扩大核心线程数
+             */
+            private Duration targetQueueLatency = Duration.ofMillis(100);
+
+            /**
+             * 线程名前缀，默认为 {@code 舱壁名称-}
+             */
+            private String threadNamePrefix;
         }
     }
 
@@ -0,0 +1,69 @@
+package io.github.rosestack.spring.boot.web.context;
+
+/**
+ * 线程上下文访问器 SPI
+ *
+ * <p>{@link #capture()} 在提交线程调用，应尽量为 O(1)（返回不可变快照或对象引用，不做拷贝）；
+ * {@link #restore(Object)} 与 {@link #reset(Object)} 在执行线程成对调用。容器中的所有该类型 Bean
+ * 都会被 {@link ContextPropagator} 收集，租户等业务上下文可通过 {@link #forThreadLocal(ThreadLocal)} 接入。
+ *
+ * @author rosestack
+ * @since 1.0.0
+ */
+public interface ContextAccessor {
+
+    /**
+     * 捕获当前线程的上下文
+     *
+     * @return 上下文值，null 表示无需透传
+     */
+    Object capture();
+
+    /**
+     * 在当前线程恢复上下文
+     *
+     * @param captured {@link #capture()} 的非空返回值
+     * @return 用于 {@link #reset(Object)} 的还原令牌
+     */
+    Object restore(Object captured);
+
+    /**
+     * 撤销 {@link #restore(Object)} 的影响
+     *
+     * @param token {@link #restore(Object)} 的返回值
+     */
+    void reset(Object token);
+
+    /**
+     * 基于 {@link ThreadLocal} 的访问器
+     *
+     * @param threadLocal 线程变量
+     * @return 访问器
+     */
+    static <T> ContextAccessor forThreadLocal(ThreadLocal<T> threadLocal) {
+        return new ContextAccessor() {
+            @Override
+            public Object capture() {
+                return threadLocal.get();
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object restore(Object captured) {
+                T previous = threadLocal.get();
+                threadLocal.set((T) captured);
+                return previous;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public void reset(Object token) {
+                if (token == null) {
+                    threadLocal.remove();
+                } else {
+                    threadLocal.set((T) token);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.rosestack.spring.boot.web.context;
+
+import java.util.List;
+
+/**
+ * 上下文透传入口
+ *
+ * <p>{@link #capture()} 只记录各访问器返回的非空引用，未携带任何上下文时返回共享的空快照，不产生分配。
+ *
+ * @author rosestack
+ * @since 1.0.0
+ */
+public class ContextPropagator {
+    private final ContextAccessor[] accessors;
+
+    public ContextPropagator(List<ContextAccessor> accessors) {
+        this.accessors = accessors.toArray(new ContextAccessor[0]);
+    }
+
+    /**
+     * 仅透传 MDC 的默认实例
+     */
+    public static ContextPropagator mdcOnly() {
+        return new ContextPropagator(List.of(MdcContextAccessor.INSTANCE));
+    }
+
+    /**
+     * 捕获当前线程上下文
+     *
+     * @return 快照
+     */
+    public ContextSnapshot capture() {
+        int present = 0;
+        Object[] values = null;
+        for (int i = 0; i < accessors.length; i++) {
+            Object value = accessors[i].capture();
+            if (value != null) {
+                if (values == null) {
+                    values = new Object[accessors.length];
+                }
+                values[i] = value;
+                present++;
+            }
+        }
+        if (present == 0) {
+            return ContextSnapshot.EMPTY;
+        }
+        if (present == accessors.length) {
+            return new ContextSnapshot(accessors, values);
+        }
+        ContextAccessor[] capturedAccessors = new ContextAccessor[present];
+        Object[] capturedValues = new Object[present];
+        for (int i = 0, j = 0; i < accessors.length; i++) {
+            if (values[i] != null) {
+                capturedAccessors[j] = accessors[i];
+                capturedValues[j++] = values[i];
+            }
+        }
+        return new ContextSnapshot(capturedAccessors, capturedValues);
+    }
+}
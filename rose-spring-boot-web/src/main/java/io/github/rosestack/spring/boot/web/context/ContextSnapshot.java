@@ -0,0 +1,69 @@
+package io.github.rosestack.spring.boot.web.context;
+
+/**
+ * 上下文快照
+ *
+ * <p>只持有各访问器捕获到的引用，不拷贝上下文内容；同一个快照可在多个线程上多次 {@link #restore()}。
+ *
+ * @author rosestack
+ * @since 1.0.0
+ */
+public final class ContextSnapshot {
+    static final ContextSnapshot EMPTY = new ContextSnapshot(new ContextAccessor[0], new Object[0]);
+
+    private static final Scope NOOP_SCOPE = () -> {};
+
+    private final ContextAccessor[] accessors;
+    private final Object[] values;
+
+    ContextSnapshot(ContextAccessor[] accessors, Object[] values) {
+        this.accessors = accessors;
+        this.values = values;
+    }
+
+    /**
+     * 在当前线程恢复快照，关闭返回的 {@link Scope} 时按相反顺序还原
+     *
+     * @return 作用域
+     */
+    public Scope restore() {
+        if (accessors.length == 0) {
+            return NOOP_SCOPE;
+        }
+        Object[] tokens = new Object[accessors.length];
+        for (int i = 0; i < accessors.length; i++) {
+            tokens[i] = accessors[i].restore(values[i]);
+        }
+        return () -> {
+            for (int i = accessors.length - 1; i >= 0; i--) {
+                accessors[i].reset(tokens[i]);
+            }
+        };
+    }
+
+    /**
+     * 包装任务，使其在快照上下文中执行
+     *
+     * @param runnable 任务
+     * @return 包装后的任务
+     */
+    public Runnable wrap(Runnable runnable) {
+        if (accessors.length == 0) {
+            return runnable;
+        }
+        return () -> {
+            try (Scope ignored = restore()) {
+                runnable.run();
+            }
+        };
+    }
+
+    /**
+     * 快照作用域
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,95 @@
+package io.github.rosestack.spring.boot.web.context;
+
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import org.slf4j.MDC;
+import org.slf4j.spi.MDCAdapter;
+import org.springframework.util.ClassUtils;
+
+/**
+ * MDC 访问器
+ *
+ * <p>Logback 的 MDC 为写时复制：{@link LogbackMDCAdapter#getPropertyMap()} 返回的只读 Map 在下次修改前一直复用，
+ * 捕获时直接持有该引用，不拷贝；其他日志实现退化为 {@link MDC#getCopyOfContextMap()}。
+ * 恢复时与执行线程当前的 MDC 逐键比较，只写入有差异的键，不再整体 {@code setContextMap}。
+ *
+ * @author rosestack
+ * @since 1.0.0
+ */
+public final class MdcContextAccessor implements ContextAccessor {
+    public static final MdcContextAccessor INSTANCE = new MdcContextAccessor();
+
+    private static final boolean LOGBACK_PRESENT = ClassUtils.isPresent(
+            "ch.qos.logback.classic.util.LogbackMDCAdapter", MdcContextAccessor.class.getClassLoader());
+
+    private MdcContextAccessor() {}
+
+    @Override
+    public Object capture() {
+        Map<String, String> map = current();
+        return map == null || map.isEmpty() ? null : map;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object restore(Object captured) {
+        Map<String, String> previous = current();
+        apply(previous, (Map<String, String>) captured);
+        return previous == null ? Collections.emptyMap() : previous;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void reset(Object token) {
+        apply(current(), (Map<String, String>) token);
+    }
+
+    private static Map<String, String> current() {
+        if (LOGBACK_PRESENT) {
+            Map<String, String> map = LogbackSupport.getPropertyMap(MDC.getMDCAdapter());
+            if (map != LogbackSupport.UNSUPPORTED) {
+                return map;
+            }
+        }
+        return MDC.getCopyOfContextMap();
+    }
+
+    /**
+     * 隔离对 Logback 类的引用，未引入 Logback 时不会加载
+     */
+    private static final class LogbackSupport {
+        static final Map<String, String> UNSUPPORTED = Collections.unmodifiableMap(new HashMap<>());
+
+        static Map<String, String> getPropertyMap(MDCAdapter adapter) {
+            if (adapter instanceof LogbackMDCAdapter logback) {
+                return logback.getPropertyMap();
+            }
+            return UNSUPPORTED;
+        }
+    }
+
+    /**
+     * 把当前 MDC 调整为 target，只修改有差异的键
+     */
+    private static void apply(Map<String, String> current, Map<String, String> target) {
+        if (current == target) {
+            return;
+        }
+        if (current != null) {
+            for (String key : current.keySet()) {
+                if (!target.containsKey(key)) {
+                    MDC.remove(key);
+                }
+            }
+        }
+        for (Map.Entry<String, String> entry : target.entrySet()) {
+            String value = entry.getValue();
+            if (current == null || !Objects.equals(current.get(entry.getKey()), value)) {
+                MDC.put(entry.getKey(), value);
+            }
+        }
+    }
+}
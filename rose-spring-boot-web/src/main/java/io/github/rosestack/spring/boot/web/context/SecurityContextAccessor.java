@@ -0,0 +1,36 @@
+package io.github.rosestack.spring.boot.web.context;
+
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Spring Security 上下文访问器，未认证时不透传
+ *
+ * @author rosestack
+ * @since 1.0.0
+ */
+public class SecurityContextAccessor implements ContextAccessor {
+
+    @Override
+    public Object capture() {
+        SecurityContext context = SecurityContextHolder.getContext();
+        return context.getAuthentication() == null ? null : context;
+    }
+
+    @Override
+    public Object restore(Object captured) {
+        SecurityContext previous = SecurityContextHolder.getContext();
+        SecurityContextHolder.setContext((SecurityContext) captured);
+        return previous;
+    }
+
+    @Override
+    public void reset(Object token) {
+        SecurityContext previous = (SecurityContext) token;
+        if (previous.getAuthentication() == null) {
+            SecurityContextHolder.clearContext();
+        } else {
+            SecurityContextHolder.setContext(previous);
+        }
+    }
+}
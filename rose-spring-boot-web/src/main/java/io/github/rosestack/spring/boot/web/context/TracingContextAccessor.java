@@ -0,0 +1,49 @@
+package io.github.rosestack.spring.boot.web.context;
+
+import io.micrometer.tracing.CurrentTraceContext;
+import io.micrometer.tracing.TraceContext;
+import io.micrometer.tracing.Tracer;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Micrometer Tracing 上下文访问器
+ *
+ * <p>透传的是 {@link TraceContext} 引用，执行线程上通过 {@link CurrentTraceContext#maybeScope(TraceContext)} 打开作用域，
+ * 子线程中新建的 Span 与提交线程处于同一条链路。
+ *
+ * @author rosestack
+ * @since 1.0.0
+ */
+public class TracingContextAccessor implements ContextAccessor {
+    private final ObjectProvider<Tracer> tracerProvider;
+    private volatile Tracer tracer;
+    private volatile boolean resolved;
+
+    public TracingContextAccessor(ObjectProvider<Tracer> tracerProvider) {
+        this.tracerProvider = tracerProvider;
+    }
+
+    @Override
+    public Object capture() {
+        Tracer current = tracer();
+        return current == null ? null : current.currentTraceContext().context();
+    }
+
+    @Override
+    public Object restore(Object captured) {
+        return tracer().currentTraceContext().maybeScope((TraceContext) captured);
+    }
+
+    @Override
+    public void reset(Object token) {
+        ((CurrentTraceContext.Scope) token).close();
+    }
+
+    private Tracer tracer() {
+        if (!resolved) {
+            tracer = tracerProvider.getIfAvailable();
+            resolved = true;
+        }
+        return tracer;
+    }
+}
@@ -0,0 +1,36 @@
+package io.github.rosestack.spring.boot.web.filter;
+
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * 请求体缓冲区池
+ *
+ * <p>所有缓冲区长度相同（等于内存阈值），池满时归还的缓冲区直接丢弃交给 GC。
+ *
+ * @author rosestack
+ * @since 1.0.0
+ */
+public class RequestBufferPool {
+    private final int bufferSize;
+    private final ArrayBlockingQueue<byte[]> buffers;
+
+    public RequestBufferPool(int bufferSize, int maxPooled) {
+        this.bufferSize = bufferSize;
+        this.buffers = new ArrayBlockingQueue<>(Math.max(1, maxPooled));
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public byte[] acquire() {
+        byte[] buffer = buffers.poll();
+        return buffer != null ? buffer : new byte[bufferSize];
+    }
+
+    public void release(byte[] buffer) {
+        if (buffer != null && buffer.length == bufferSize) {
+            buffers.offer(buffer);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package io.github.rosestack.spring.boot.web.filter;
+
+import io.github.rosestack.spring.boot.web.config.WebProperties;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Locale;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 请求体缓存过滤器，使请求体可被审计、日志等组件重复读取
+ *
+ * <p>与全量堆内缓存不同，超过 {@code memory-threshold} 的请求体溢出到临时文件；以下请求直接放行不包装：
+ *
+ * <ul>
+ *   <li>命中 {@code bypass-content-types} 的请求（默认 multipart、octet-stream、表单，表单参数本身可重复读取）；
+ *   <li>配置了 {@code include-paths} 而当前路径不在其中，或命中 {@code excludePaths}；
+ *   <li>声明了 {@code Content-Length: 0} 的请求。
+ * </ul>
+ *
+ * @author rosestack
+ * @since 1.0.0
+ */
+public class SpillableCachingRequestFilter extends OncePerRequestFilter {
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final RequestBufferPool bufferPool;
+    private final Path spillDirectory;
+    private final List<String> bypassContentTypes;
+    private final String[] includePaths;
+    private final String[] excludePaths;
+
+    public SpillableCachingRequestFilter(WebProperties.Filter.CachingRequest properties, String[] excludePaths) {
+        this.bufferPool = new RequestBufferPool(
+                (int) Math.min(Integer.MAX_VALUE - 8, properties.getMemoryThreshold().toBytes()),
+                properties.getBufferPoolSize());
+        this.spillDirectory =
+                StringUtils.hasText(properties.getSpillDirectory()) ? Paths.get(properties.getSpillDirectory()) : null;
+        this.bypassContentTypes = properties.getBypassContentTypes().stream()
+                .map(type -> type.toLowerCase(Locale.ROOT))
+                .toList();
+        this.includePaths = properties.getIncludePaths();
+        this.excludePaths = excludePaths;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (request.getContentLengthLong() == 0) {
+            return true;
+        }
+        String contentType = request.getContentType();
+        if (contentType != null) {
+            String lower = contentType.toLowerCase(Locale.ROOT);
+            for (String bypass : bypassContentTypes) {
+                if (lower.startsWith(bypass)) {
+                    return true;
+                }
+            }
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (!ObjectUtils.isEmpty(includePaths) && !matches(includePaths, path)) {
+            return true;
+        }
+        return !ObjectUtils.isEmpty(excludePaths) && matches(excludePaths, path);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SpillableRequestWrapper wrapper = new SpillableRequestWrapper(request, bufferPool, spillDirectory);
+        try {
+            filterChain.doFilter(wrapper, response);
+        } finally {
+            if (wrapper.isAsyncStarted()) {
+                wrapper.getAsyncContext().addListener(new ReleasingListener(wrapper));
+            } else {
+                wrapper.release();
+            }
+        }
+    }
+
+    private boolean matches(String[] patterns, String path) {
+        for (String pattern : patterns) {
+            if (pathMatcher.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record ReleasingListener(SpillableRequestWrapper wrapper) implements AsyncListener {
+        @Override
+        public void onComplete(AsyncEvent event) {
+            wrapper.release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {}
+
+        @Override
+        public void onError(AsyncEvent event) {}
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package io.github.rosestack.spring.boot.web.filter;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * 可重复读取的请求包装，请求体超过内存阈值时溢出到临时文件
+ *
+ * <p>请求体在第一次 {@link #getInputStream()} / {@link #getReader()} 时才读取：
+ *
+ * <ul>
+ *   <li>不超过阈值时保存在 {@link RequestBufferPool} 借出的缓冲区中；
+ *   <li>超过阈值时改为写入 {@code DELETE_ON_CLOSE} 的临时文件，堆内只保留一个拷贝缓冲区；
+ *   <li>之后每次 {@link #getInputStream()} 都返回从头开始的新流，{@link #transferTo(WritableByteChannel)}
+ *       对文件使用 {@link FileChannel#transferTo} 零拷贝输出。
+ * </ul>
+ *
+ * <p>请求结束后必须调用 {@link #release()} 归还缓冲区并删除临时文件，{@link SpillableCachingRequestFilter} 负责此事。
+ *
+ * @author rosestack
+ * @since 1.0.0
+ */
+public class SpillableRequestWrapper extends HttpServletRequestWrapper {
+    private final RequestBufferPool bufferPool;
+    private final Path spillDirectory;
+
+    private byte[] memory;
+    private FileChannel spill;
+    private long length = -1;
+    private boolean released;
+
+    public SpillableRequestWrapper(HttpServletRequest request, RequestBufferPool bufferPool, Path spillDirectory) {
+        super(request);
+        this.bufferPool = bufferPool;
+        this.spillDirectory = spillDirectory;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+        load();
+        return new ReplayInputStream();
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+        String encoding = getCharacterEncoding();
+        Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+        return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+    }
+
+    /**
+     * 请求体长度，尚未读取时触发读取
+     */
+    public long getContentSize() throws IOException {
+        load();
+        return length;
+    }
+
+    /**
+     * 请求体是否已溢出到磁盘
+     */
+    public boolean isSpilled() {
+        return spill != null;
+    }
+
+    /**
+     * 读取请求体前 {@code maxBytes} 个字节，供审计、日志等场景使用
+     *
+     * @param maxBytes 最大字节数
+     * @return 请求体内容
+     */
+    public byte[] getContentAsByteArray(int maxBytes) {
+        try {
+            load();
+            int size = (int) Math.min(length, maxBytes);
+            if (spill == null) {
+                return Arrays.copyOf(memory, size);
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(size);
+            long position = 0;
+            while (buffer.hasRemaining()) {
+                int n = spill.read(buffer, position);
+                if (n < 0) {
+                    break;
+                }
+                position += n;
+            }
+            return Arrays.copyOf(buffer.array(), buffer.position());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 把完整请求体写到目标通道，溢出文件使用零拷贝
+     *
+     * @param target 目标通道
+     * @return 写出的字节数
+     */
+    public long transferTo(WritableByteChannel target) throws IOException {
+        load();
+        if (spill == null) {
+            ByteBuffer buffer = ByteBuffer.wrap(memory, 0, (int) length);
+            while (buffer.hasRemaining()) {
+                target.write(buffer);
+            }
+            return length;
+        }
+        long position = 0;
+        while (position < length) {
+            position += spill.transferTo(position, length - position, target);
+        }
+        return length;
+    }
+
+    /**
+     * 归还缓冲区并删除临时文件，可重复调用
+     */
+    public synchronized void release() {
+        if (released) {
+            return;
+        }
+        released = true;
+        bufferPool.release(memory);
+        memory = null;
+        if (spill != null) {
+            try {
+                spill.close();
+            } catch (IOException e) {
+                // DELETE_ON_CLOSE 的文件关闭失败时由 JVM 退出时清理
+            }
+        }
+    }
+
+    private synchronized void load() throws IOException {
+        if (length >= 0) {
+            return;
+        }
+        if (released) {
+            throw new IllegalStateException("Request body already released");
+        }
+        ServletInputStream in = super.getInputStream();
+        byte[] buffer = bufferPool.acquire();
+        int count = readFully(in, buffer, 0);
+        if (count < buffer.length) {
+            memory = buffer;
+            length = count;
+            return;
+        }
+
+        // 缓冲区已满，探测是否还有剩余数据
+        byte[] chunk = bufferPool.acquire();
+        try {
+            int n = in.read(chunk);
+            if (n < 0) {
+                memory = buffer;
+                length = count;
+                return;
+            }
+            spill = openSpillFile();
+            long total = write(spill, buffer, count) + write(spill, chunk, n);
+            bufferPool.release(buffer);
+            while ((n = readFully(in, chunk, 0)) > 0) {
+                total += write(spill, chunk, n);
+            }
+            length = total;
+        } finally {
+            bufferPool.release(chunk);
+        }
+    }
+
+    private FileChannel openSpillFile() throws IOException {
+        Path file = spillDirectory != null
+                ? Files.createTempFile(spillDirectory, "rose-body-", ".tmp")
+                : Files.createTempFile("rose-body-", ".tmp");
+        return FileChannel.open(
+                file, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE);
+    }
+
+    private static int readFully(ServletInputStream in, byte[] buffer, int offset) throws IOException {
+        int count = offset;
+        int n;
+        while (count < buffer.length && (n = in.read(buffer, count, buffer.length - count)) != -1) {
+            count += n;
+        }
+        return count;
+    }
+
+    private static long write(FileChannel channel, byte[] bytes, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, length);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        return length;
+    }
+
+    /**
+     * 从头回放请求体的流，溢出文件使用按位置读取，多个流互不影响
+     */
+    private final class ReplayInputStream extends ServletInputStream {
+        private long position;
+
+        @Override
+        public int read() throws IOException {
+            if (spill == null) {
+                return position < length ? memory[(int) position++] & 0xFF : -1;
+            }
+            byte[] single = new byte[1];
+            int n = read(single, 0, 1);
+            return n < 0 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (position >= length) {
+                return -1;
+            }
+            int n = (int) Math.min(len, length - position);
+            if (spill == null) {
+                System.arraycopy(memory, (int) position, b, off, n);
+            } else {
+                n = spill.read(ByteBuffer.wrap(b, off, n), position);
+                if (n < 0) {
+                    return -1;
+                }
+            }
+            position += n;
+            return n;
+        }
+
+        @Override
+        public int available() {
+            return (int) Math.min(Integer.MAX_VALUE, length - position);
+        }
+
+        @Override
+        public boolean isFinished() {
+            return position >= length;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            // 数据已全部在本地，立即回调
+            try {
+                if (!isFinished()) {
+                    readListener.onDataAvailable();
+                }
+                readListener.onAllDataRead();
+            } catch (IOException e) {
+                readListener.onError(e);
+            }
+        }
+    }
+}
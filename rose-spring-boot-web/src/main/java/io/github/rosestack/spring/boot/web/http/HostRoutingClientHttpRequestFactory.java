@@ -0,0 +1,39 @@
+package io.github.rosestack.spring.boot.web.http;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Locale;
+import java.util.Map;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+
+/**
+ * 按目标主机选择请求工厂，未配置的主机使用默认工厂
+ *
+ * @author rosestack
+ * @since 1.0.0
+ */
+public class HostRoutingClientHttpRequestFactory implements ClientHttpRequestFactory {
+    private final Map<String, ClientHttpRequestFactory> hosts;
+    private final ClientHttpRequestFactory defaultFactory;
+
+    /**
+     * @param hosts          键为小写主机名
+     * @param defaultFactory 默认工厂
+     */
+    public HostRoutingClientHttpRequestFactory(
+            Map<String, ClientHttpRequestFactory> hosts, ClientHttpRequestFactory defaultFactory) {
+        this.hosts = hosts;
+        this.defaultFactory = defaultFactory;
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        ClientHttpRequestFactory factory = null;
+        if (uri.getHost() != null) {
+            factory = hosts.get(uri.getHost().toLowerCase(Locale.ROOT));
+        }
+        return (factory != null ? factory : defaultFactory).createRequest(uri, httpMethod);
+    }
+}
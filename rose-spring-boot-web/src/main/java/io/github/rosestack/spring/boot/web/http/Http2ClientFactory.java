@@ -0,0 +1,65 @@
+package io.github.rosestack.spring.boot.web.http;
+
+import io.github.rosestack.spring.boot.web.config.WebProperties;
+import java.lang.reflect.Method;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import org.springframework.beans.BeanUtils;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * 基于 JDK {@link HttpClient} 的 HTTP/2 请求工厂，需要 Spring Framework 6.1+
+ *
+ * <p>HTTP/2 在每个主机的单个连接上多路复用，连接数上限不适用；JDK 客户端不会自动解压响应，
+ * 空闲连接保持时间由系统属性 {@code jdk.httpclient.keepalive.timeout} 控制。对端不支持 HTTP/2 时自动降级到 HTTP/1.1。
+ *
+ * <p>模块按 Spring Framework 6.0 编译，{@code JdkClientHttpRequestFactory} 按类名反射创建，调用方需先确认该类存在。
+ *
+ * @author rosestack
+ * @since 1.0.0
+ */
+public final class Http2ClientFactory {
+    public static final String JDK_FACTORY_CLASS = "org.springframework.http.client.JdkClientHttpRequestFactory";
+
+    private Http2ClientFactory() {}
+
+    public static ClientHttpRequestFactory create(WebProperties.HttpClient properties) {
+        HttpClient defaultClient = createClient(properties.getConnectTimeout());
+        ClientHttpRequestFactory defaultFactory = createFactory(defaultClient, properties.getReadTimeout());
+        if (properties.getHosts().isEmpty()) {
+            return defaultFactory;
+        }
+        Map<String, ClientHttpRequestFactory> hosts = new HashMap<>();
+        properties.getHosts().forEach((host, config) -> {
+            // 连接超时属于客户端级别，只有覆盖了连接超时的主机才需要独立的客户端
+            HttpClient client =
+                    config.getConnectTimeout() != null ? createClient(config.getConnectTimeout()) : defaultClient;
+            Duration readTimeout =
+                    config.getReadTimeout() != null ? config.getReadTimeout() : properties.getReadTimeout();
+            hosts.put(host.toLowerCase(Locale.ROOT), createFactory(client, readTimeout));
+        });
+        return new HostRoutingClientHttpRequestFactory(hosts, defaultFactory);
+    }
+
+    private static HttpClient createClient(Duration connectTimeout) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                .build();
+    }
+
+    private static ClientHttpRequestFactory createFactory(HttpClient client, Duration readTimeout) {
+        Class<?> factoryType =
+                ClassUtils.resolveClassName(JDK_FACTORY_CLASS, Http2ClientFactory.class.getClassLoader());
+        ClientHttpRequestFactory factory = (ClientHttpRequestFactory)
+                BeanUtils.instantiateClass(ClassUtils.getConstructorIfAvailable(factoryType, HttpClient.class), client);
+        Method setReadTimeout = ClassUtils.getMethod(factoryType, "setReadTimeout", Duration.class);
+        ReflectionUtils.invokeMethod(setReadTimeout, factory, readTimeout);
+        return factory;
+    }
+}
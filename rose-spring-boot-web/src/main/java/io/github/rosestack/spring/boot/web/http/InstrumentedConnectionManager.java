@@ -0,0 +1,80 @@
+package io.github.rosestack.spring.boot.web.http;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.ToDoubleFunction;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.Timeout;
+
+/**
+ * 带指标的连接池
+ *
+ * <p>作为 {@link MeterBinder} 注册以下指标：
+ *
+ * <ul>
+ *   <li>{@code rose.web.http-client.connections}：按 {@code state} 区分 leased / available / pending / max；
+ *   <li>{@code rose.web.http-client.acquire}：从发起租借到拿到连接的耗时，包括超时失败的租借。
+ * </ul>
+ *
+ * @author rosestack
+ * @since 1.0.0
+ */
+public class InstrumentedConnectionManager extends PoolingHttpClientConnectionManager implements MeterBinder {
+    private static final String PREFIX = "rose.web.http-client";
+
+    private volatile Timer acquireTimer;
+
+    @Override
+    public LeaseRequest lease(String id, HttpRoute route, Timeout requestTimeout, Object state) {
+        LeaseRequest delegate = super.lease(id, route, requestTimeout, state);
+        Timer timer = acquireTimer;
+        if (timer == null) {
+            return delegate;
+        }
+        return new TimedLeaseRequest(delegate, timer, System.nanoTime());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        gauge(registry, "leased", PoolStats::getLeased);
+        gauge(registry, "available", PoolStats::getAvailable);
+        gauge(registry, "pending", PoolStats::getPending);
+        gauge(registry, "max", PoolStats::getMax);
+        acquireTimer = Timer.builder(PREFIX + ".acquire")
+                .description("Time to lease a connection from the HTTP client pool")
+                .register(registry);
+    }
+
+    private void gauge(MeterRegistry registry, String state, ToDoubleFunction<PoolStats> value) {
+        Gauge.builder(PREFIX + ".connections", this, manager -> value.applyAsDouble(manager.getTotalStats()))
+                .tag("state", state)
+                .description("HTTP client pool connections")
+                .register(registry);
+    }
+
+    private record TimedLeaseRequest(LeaseRequest delegate, Timer timer, long startNanos) implements LeaseRequest {
+        @Override
+        public ConnectionEndpoint get(Timeout timeout)
+                throws InterruptedException, ExecutionException, TimeoutException {
+            try {
+                return delegate.get(timeout);
+            } finally {
+                timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        @Override
+        public boolean cancel() {
+            return delegate.cancel();
+        }
+    }
+}
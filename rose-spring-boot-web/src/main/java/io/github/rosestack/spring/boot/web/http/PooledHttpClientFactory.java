@@ -0,0 +1,136 @@
+package io.github.rosestack.spring.boot.web.http;
+
+import io.github.rosestack.spring.boot.web.config.WebProperties;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * 基于 Apache HttpClient 5 连接池的请求工厂
+ *
+ * <p>超时通过每个请求的 {@link RequestConfig} 下发，因此 {@code hosts} 中的主机可以有各自的连接 / 读取超时；
+ * 主机级连接上限在第一次访问该路由时写入连接池。
+ *
+ * @author rosestack
+ * @since 1.0.0
+ */
+public final class PooledHttpClientFactory {
+
+    private PooledHttpClientFactory() {}
+
+    /**
+     * 创建连接池
+     */
+    public static InstrumentedConnectionManager createConnectionManager(WebProperties.HttpClient properties) {
+        InstrumentedConnectionManager connectionManager = new InstrumentedConnectionManager();
+        connectionManager.setMaxTotal(properties.getMaxConnections());
+        connectionManager.setDefaultMaxPerRoute(properties.getMaxConnectionsPerRoute());
+        return connectionManager;
+    }
+
+    /**
+     * 基于连接池创建请求工厂
+     */
+    public static HttpComponentsClientHttpRequestFactory create(
+            WebProperties.HttpClient properties, InstrumentedConnectionManager connectionManager) {
+        HttpClientBuilder builder = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .evictExpiredConnections()
+                .evictIdleConnections(toTimeValue(properties.getKeepAlive()));
+        if (!properties.isDecompression()) {
+            builder.disableContentCompression();
+        }
+        CloseableHttpClient httpClient = builder.build();
+
+        RouteConfigs routeConfigs = new RouteConfigs(properties, connectionManager);
+        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        factory.setHttpContextFactory(routeConfigs::createContext);
+        return factory;
+    }
+
+    @SuppressWarnings("deprecation")
+    private static RequestConfig requestConfig(
+            WebProperties.HttpClient properties, Duration connectTimeout, Duration readTimeout) {
+        // RequestConfig 的连接超时在 5.2 起标记过时，但对所有 5.x 版本都生效
+        return RequestConfig.custom()
+                .setConnectTimeout(toTimeout(connectTimeout))
+                .setResponseTimeout(toTimeout(readTimeout))
+                .setConnectionRequestTimeout(toTimeout(properties.getConnectionRequestTimeout()))
+                .setConnectionKeepAlive(toTimeValue(properties.getKeepAlive()))
+                .build();
+    }
+
+    private static Timeout toTimeout(Duration duration) {
+        return Timeout.of(duration.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private static TimeValue toTimeValue(Duration duration) {
+        return TimeValue.of(duration.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 按主机解析请求配置，只缓存 {@code hosts} 中配置过的路由
+     */
+    private static final class RouteConfigs {
+        private final WebProperties.HttpClient properties;
+        private final InstrumentedConnectionManager connectionManager;
+        private final RequestConfig defaultConfig;
+        private final Map<String, WebProperties.HttpClient.Host> hosts = new ConcurrentHashMap<>();
+        private final Map<String, RequestConfig> routes = new ConcurrentHashMap<>();
+
+        RouteConfigs(WebProperties.HttpClient properties, InstrumentedConnectionManager connectionManager) {
+            this.properties = properties;
+            this.connectionManager = connectionManager;
+            this.defaultConfig =
+                    requestConfig(properties, properties.getConnectTimeout(), properties.getReadTimeout());
+            if (!CollectionUtils.isEmpty(properties.getHosts())) {
+                properties.getHosts().forEach((host, config) -> hosts.put(host.toLowerCase(Locale.ROOT), config));
+            }
+        }
+
+        HttpClientContext createContext(HttpMethod method, URI uri) {
+            HttpClientContext context = HttpClientContext.create();
+            context.setRequestConfig(resolve(uri));
+            return context;
+        }
+
+        private RequestConfig resolve(URI uri) {
+            if (hosts.isEmpty() || uri.getHost() == null) {
+                return defaultConfig;
+            }
+            WebProperties.HttpClient.Host host = hosts.get(uri.getHost().toLowerCase(Locale.ROOT));
+            if (host == null) {
+                return defaultConfig;
+            }
+            String scheme = uri.getScheme() != null ? uri.getScheme().toLowerCase(Locale.ROOT) : "http";
+            int port = uri.getPort() >= 0 ? uri.getPort() : ("https".equals(scheme) ? 443 : 80);
+            String key = scheme + "://" + uri.getHost().toLowerCase(Locale.ROOT) + ":" + port;
+            return routes.computeIfAbsent(key, k -> {
+                if (host.getMaxConnections() != null) {
+                    HttpHost target = new HttpHost(scheme, uri.getHost(), port);
+                    connectionManager.setMaxPerRoute(
+                            new HttpRoute(target, null, "https".equals(scheme)), host.getMaxConnections());
+                }
+                return requestConfig(
+                        properties,
+                        host.getConnectTimeout() != null ? host.getConnectTimeout() : properties.getConnectTimeout(),
+                        host.getReadTimeout() != null ? host.getReadTimeout() : properties.getReadTimeout());
+            });
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.rosestack.spring.boot.web.http;
+
+import io.github.rosestack.spring.boot.web.config.RestTemplateConfig;
+import java.lang.reflect.Method;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.annotation.ImportBeanDefinitionRegistrar;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * 注册使用共享请求工厂的 {@code RestClient}
+ *
+ * <p>{@code RestClient} 需要 Spring Framework 6.1+，而模块按 Spring 6.0 编译，因此按类名解析并通过反射构建；
+ * 容器中有 {@code RestClient.Builder}（Spring Boot 3.2+ 自动配置）时基于它构建，保留其定制器与观测配置。
+ * 只应在 {@code RestClient} 存在时导入。
+ *
+ * @author rosestack
+ * @since 1.0.0
+ */
+public class RestClientRegistrar implements ImportBeanDefinitionRegistrar, BeanFactoryAware {
+    public static final String REST_CLIENT_CLASS = "org.springframework.web.client.RestClient";
+    public static final String BEAN_NAME = "restClient";
+
+    private BeanFactory beanFactory;
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) {
+        this.beanFactory = beanFactory;
+    }
+
+    @Override
+    public void registerBeanDefinitions(AnnotationMetadata importingClassMetadata, BeanDefinitionRegistry registry) {
+        if (registry.containsBeanDefinition(BEAN_NAME)) {
+            return;
+        }
+        ClassLoader classLoader = RestClientRegistrar.class.getClassLoader();
+        Class<?> clientType = ClassUtils.resolveClassName(REST_CLIENT_CLASS, classLoader);
+        Class<?> builderType = ClassUtils.resolveClassName(REST_CLIENT_CLASS + "$Builder", classLoader);
+        RootBeanDefinition definition = new RootBeanDefinition(clientType);
+        definition.setInstanceSupplier(() -> create(clientType, builderType));
+        registry.registerBeanDefinition(BEAN_NAME, definition);
+    }
+
+    private Object create(Class<?> clientType, Class<?> builderType) {
+        Method builderMethod = ClassUtils.getStaticMethod(clientType, "builder");
+        Method requestFactoryMethod =
+                ClassUtils.getMethod(builderType, "requestFactory", ClientHttpRequestFactory.class);
+        Method buildMethod = ClassUtils.getMethod(builderType, "build");
+
+        ObjectProvider<Object> builders = beanFactory.getBeanProvider(ResolvableType.forClass(builderType));
+        Object builder = builders.getIfAvailable(() -> ReflectionUtils.invokeMethod(builderMethod, null));
+        ClientHttpRequestFactory requestFactory =
+                beanFactory.getBean(RestTemplateConfig.REQUEST_FACTORY_BEAN_NAME, ClientHttpRequestFactory.class);
+        ReflectionUtils.invokeMethod(requestFactoryMethod, builder, requestFactory);
+        return ReflectionUtils.invokeMethod(buildMethod, builder);
+    }
+}
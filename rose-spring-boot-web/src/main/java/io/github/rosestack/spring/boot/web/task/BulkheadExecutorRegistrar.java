@@ -0,0 +1,60 @@
+package io.github.rosestack.spring.boot.web.task;
+
+import io.github.rosestack.spring.boot.web.config.WebProperties;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.annotation.ImportBeanDefinitionRegistrar;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.AnnotationMetadata;
+
+/**
+ * 按 {@code rose.web.async.bulkhead.pools} 为每个舱壁注册一个 {@link BulkheadTaskExecutor} Bean
+ *
+ * <p>Bean 名称即舱壁名称，可直接用作 {@code @Async} 的限定符；{@code default} 舱壁由 {@code taskExecutor} 承载，
+ * 此处不再重复注册。
+ *
+ * @author rosestack
+ * @since 1.0.0
+ */
+@Slf4j
+public class BulkheadExecutorRegistrar implements ImportBeanDefinitionRegistrar, EnvironmentAware {
+    public static final String PREFIX = "rose.web.async.bulkhead";
+    public static final String DEFAULT_BULKHEAD = "default";
+
+    private Environment environment;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public void registerBeanDefinitions(AnnotationMetadata importingClassMetadata, BeanDefinitionRegistry registry) {
+        WebProperties.Bulkhead bulkhead = Binder.get(environment)
+                .bind(PREFIX, WebProperties.Bulkhead.class)
+                .orElse(null);
+        if (bulkhead == null || !bulkhead.isEnabled()) {
+            return;
+        }
+        for (Map.Entry<String, WebProperties.Bulkhead.Pool> entry :
+                bulkhead.getPools().entrySet()) {
+            String name = entry.getKey();
+            if (DEFAULT_BULKHEAD.equals(name) || registry.containsBeanDefinition(name)) {
+                continue;
+            }
+            WebProperties.Bulkhead.Pool pool = entry.getValue();
+            AbstractBeanDefinition definition = BeanDefinitionBuilder.genericBeanDefinition(
+                            BulkheadTaskExecutor.class,
+                            () -> new BulkheadTaskExecutor(name, pool, bulkhead.getAdjustInterval()))
+                    .getBeanDefinition();
+            registry.registerBeanDefinition(name, definition);
+            log.info("注册异步舱壁 [{}]，核心线程数：{}，最大线程数：{}，队列容量：{}",
+                    name, pool.getCoreSize(), pool.getMaxSize(), pool.getQueueCapacity());
+        }
+    }
+}
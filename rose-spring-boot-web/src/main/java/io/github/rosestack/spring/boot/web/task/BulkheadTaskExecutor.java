@@ -0,0 +1,259 @@
+package io.github.rosestack.spring.boot.web.task;
+
+import io.github.rosestack.spring.boot.web.config.WebProperties;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 自适应舱壁线程池
+ *
+ * <p>在 {@link ThreadPoolTaskExecutor} 之上增加：
+ *
+ * <ul>
+ *   <li>排队截止时间：任务出队时若已等待超过 {@code queueDeadline} 则不再执行，交给 {@link DroppedTaskHandler}；
+ *   <li>溢出拒绝：队列满且线程数达到上限时抛出 {@link org.springframework.core.task.TaskRejectedException}，
+ *       不再像 {@code CallerRunsPolicy} 那样占用提交方（通常是 Web 请求线程）；
+ *   <li>自适应扩缩：按周期统计平均排队延迟（EWMA），高于目标值时在 {@code coreSize ~ maxSize} 间扩大核心线程数，
+ *       明显低于目标值且队列为空时逐个回收。
+ * </ul>
+ *
+ * <p>超过排队截止时间时，不同返回值的 {@code @Async} 方法表现如下：
+ *
+ * <ul>
+ *   <li>{@code void}：任务被丢弃，只触发 {@link DroppedTaskHandler}；
+ *   <li>{@code Future} / {@code ListenableFuture}（经 {@code submit} 提交的 {@link Future} 任务）：任务被取消，
+ *       等待方收到 {@link java.util.concurrent.CancellationException}；
+ *   <li>{@code CompletableFuture}：任务由 {@code CompletableFuture.supplyAsync} 提交，执行器拿不到它要完成的
+ *       {@code CompletableFuture}，丢弃会让等待方永远阻塞，因此这类任务不受截止时间约束，超时后仍然执行。
+ * </ul>
+ *
+ * <p>队列满时所有类型都在提交时抛出异常，调用方立即感知。
+ *
+ * <p>设置的 {@link TaskDecorator}（如 MDC 透传）照常生效，排队计时包裹在装饰器外层。
+ *
+ * @author rosestack
+ * @since 1.0.0
+ */
+@Slf4j
+public class BulkheadTaskExecutor extends ThreadPoolTaskExecutor {
+    private static final double EWMA_ALPHA = 0.3;
+
+    private final String name;
+    private final int minCoreSize;
+    private final int maxCoreSize;
+    private final long queueDeadlineNanos;
+    private final long targetQueueLatencyNanos;
+    private final Duration adjustInterval;
+
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAdder waitCount = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder deadlineDropped = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    private volatile DroppedTaskHandler droppedTaskHandler = DroppedTaskHandler.LOGGING;
+    private volatile double queueLatencyNanos;
+    private volatile ScheduledFuture<?> adjuster;
+
+    public BulkheadTaskExecutor(String name, WebProperties.Bulkhead.Pool pool, Duration adjustInterval) {
+        this.name = name;
+        this.minCoreSize = pool.getCoreSize();
+        this.maxCoreSize = Math.max(pool.getCoreSize(), pool.getMaxSize());
+        this.queueDeadlineNanos =
+                pool.getQueueDeadline() == null ? 0 : pool.getQueueDeadline().toNanos();
+        this.targetQueueLatencyNanos = pool.getTargetQueueLatency().toNanos();
+        this.adjustInterval = adjustInterval;
+
+        setBeanName(name);
+        setCorePoolSize(minCoreSize);
+        setMaxPoolSize(maxCoreSize);
+        setQueueCapacity(pool.getQueueCapacity());
+        setKeepAliveSeconds((int) pool.getKeepAlive().toSeconds());
+        setThreadNamePrefix(pool.getThreadNamePrefix() != null ? pool.getThreadNamePrefix() : name + "-");
+        setRejectedExecutionHandler(new SheddingPolicy());
+        super.setTaskDecorator(new AdmissionDecorator(null));
+    }
+
+    @Override
+    public void setTaskDecorator(TaskDecorator taskDecorator) {
+        super.setTaskDecorator(new AdmissionDecorator(taskDecorator));
+    }
+
+    public void setDroppedTaskHandler(DroppedTaskHandler droppedTaskHandler) {
+        this.droppedTaskHandler = droppedTaskHandler != null ? droppedTaskHandler : DroppedTaskHandler.LOGGING;
+    }
+
+    @Override
+    protected ExecutorService initializeExecutor(
+            ThreadFactory threadFactory, RejectedExecutionHandler rejectedExecutionHandler) {
+        ExecutorService executor = super.initializeExecutor(threadFactory, rejectedExecutionHandler);
+        cancelAdjuster();
+        if (maxCoreSize > minCoreSize && !adjustInterval.isZero() && !adjustInterval.isNegative()) {
+            long period = adjustInterval.toMillis();
+            adjuster = Adjuster.SCHEDULER.scheduleWithFixedDelay(this::adjust, period, period, TimeUnit.MILLISECONDS);
+        }
+        return executor;
+    }
+
+    @Override
+    public void shutdown() {
+        cancelAdjuster();
+        super.shutdown();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 最近的平均排队延迟（EWMA），单位纳秒
+     */
+    public double getQueueLatencyNanos() {
+        return queueLatencyNanos;
+    }
+
+    public int getQueueSize() {
+        ThreadPoolExecutor executor = getThreadPoolExecutor();
+        return executor.getQueue().size();
+    }
+
+    public long getCompletedCount() {
+        return completed.sum();
+    }
+
+    public long getDroppedCount(DropReason reason) {
+        return reason == DropReason.DEADLINE ? deadlineDropped.sum() : rejected.sum();
+    }
+
+    void adjust() {
+        long count = waitCount.sumThenReset();
+        long sum = waitNanos.sumThenReset();
+        double sample = count == 0 ? 0 : (double) sum / count;
+        double latency = EWMA_ALPHA * sample + (1 - EWMA_ALPHA) * queueLatencyNanos;
+        queueLatencyNanos = latency;
+
+        int current = getCorePoolSize();
+        if (latency > targetQueueLatencyNanos && current < maxCoreSize) {
+            int target = Math.min(maxCoreSize, current + Math.max(1, current / 4));
+            setCorePoolSize(target);
+            log.debug("舱壁 [{}] 排队延迟 {}ms，核心线程数 {} -> {}", name, (long) (latency / 1_000_000), current, target);
+        } else if (latency < targetQueueLatencyNanos / 4.0 && current > minCoreSize && getQueueSize() == 0) {
+            setCorePoolSize(current - 1);
+        }
+    }
+
+    private void drop(Runnable task, DropReason reason) {
+        if (reason == DropReason.DEADLINE) {
+            deadlineDropped.increment();
+        } else {
+            rejected.increment();
+        }
+        if (task instanceof Future<?> future) {
+            future.cancel(false);
+        }
+        try {
+            droppedTaskHandler.onDropped(name, task, reason);
+        } catch (RuntimeException e) {
+            log.warn("舱壁 [{}] 丢弃回调执行失败", name, e);
+        }
+    }
+
+    /**
+     * {@code CompletableFuture.supplyAsync/runAsync} 提交的任务无法被外部完成，丢弃会使其 future 永不结束
+     */
+    private static boolean droppable(Runnable task) {
+        return !(task instanceof CompletableFuture.AsynchronousCompletionTask);
+    }
+
+    private void cancelAdjuster() {
+        ScheduledFuture<?> current = adjuster;
+        if (current != null) {
+            current.cancel(false);
+            adjuster = null;
+        }
+    }
+
+    /**
+     * 在提交时记录入队时间，并把业务装饰器包在内层
+     */
+    private final class AdmissionDecorator implements TaskDecorator {
+        private final TaskDecorator delegate;
+
+        AdmissionDecorator(TaskDecorator delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Runnable decorate(Runnable runnable) {
+            Runnable decorated = delegate != null ? delegate.decorate(runnable) : runnable;
+            return new QueuedTask(runnable, decorated, System.nanoTime());
+        }
+    }
+
+    private final class QueuedTask implements Runnable {
+        private final Runnable original;
+        private final Runnable decorated;
+        private final long enqueuedAt;
+
+        QueuedTask(Runnable original, Runnable decorated, long enqueuedAt) {
+            this.original = original;
+            this.decorated = decorated;
+            this.enqueuedAt = enqueuedAt;
+        }
+
+        @Override
+        public void run() {
+            long waited = System.nanoTime() - enqueuedAt;
+            waitNanos.add(waited);
+            waitCount.increment();
+            if (queueDeadlineNanos > 0 && waited > queueDeadlineNanos && droppable(original)) {
+                drop(original, DropReason.DEADLINE);
+                return;
+            }
+            try {
+                decorated.run();
+            } finally {
+                completed.increment();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return original.toString();
+        }
+    }
+
+    private final class SheddingPolicy implements RejectedExecutionHandler {
+        @Override
+        public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+            Runnable task = r instanceof QueuedTask queued ? queued.original : r;
+            drop(task, DropReason.REJECTED);
+            throw new RejectedExecutionException("Bulkhead [" + name + "] is full, task " + task + " rejected");
+        }
+    }
+
+    /**
+     * 所有舱壁共用的调整线程
+     */
+    private static final class Adjuster {
+        static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "bulkhead-adjuster");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
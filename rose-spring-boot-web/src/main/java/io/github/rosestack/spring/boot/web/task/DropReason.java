@@ -0,0 +1,19 @@
+package io.github.rosestack.spring.boot.web.task;
+
+/**
+ * 任务被舱壁丢弃的原因
+ *
+ * @author rosestack
+ * @since 1.0.0
+ */
+public enum DropReason {
+    /**
+     * 任务在队列中等待超过截止时间
+     */
+    DEADLINE,
+
+    /**
+     * 队列已满且线程数已达上限
+     */
+    REJECTED
+}
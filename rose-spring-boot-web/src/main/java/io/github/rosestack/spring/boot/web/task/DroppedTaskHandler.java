@@ -0,0 +1,38 @@
+package io.github.rosestack.spring.boot.web.task;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 舱壁丢弃任务回调
+ *
+ * <p>在提交线程（{@link DropReason#REJECTED}）或工作线程（{@link DropReason#DEADLINE}）上同步调用，实现应尽量轻量。
+ * 容器中存在该类型的 Bean 时替换默认的日志实现。
+ *
+ * @author rosestack
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface DroppedTaskHandler {
+
+    /**
+     * 默认实现：仅记录告警日志
+     */
+    DroppedTaskHandler LOGGING = new DroppedTaskHandler() {
+        private final Logger log = LoggerFactory.getLogger(DroppedTaskHandler.class);
+
+        @Override
+        public void onDropped(String bulkhead, Runnable task, DropReason reason) {
+            log.warn("异步任务被舱壁 [{}] 丢弃，原因：{}，任务：{}", bulkhead, reason, task);
+        }
+    };
+
+    /**
+     * 任务被丢弃时调用
+     *
+     * @param bulkhead 舱壁名称
+     * @param task     被丢弃的原始任务（{@code submit} 提交时为对应的 {@link java.util.concurrent.Future}）
+     * @param reason   丢弃原因
+     */
+    void onDropped(String bulkhead, Runnable task, DropReason reason);
+}
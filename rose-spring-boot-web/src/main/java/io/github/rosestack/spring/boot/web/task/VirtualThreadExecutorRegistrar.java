@@ -0,0 +1,71 @@
+package io.github.rosestack.spring.boot.web.task;
+
+import io.github.rosestack.spring.boot.web.config.WebProperties;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.annotation.ImportBeanDefinitionRegistrar;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.type.AnnotationMetadata;
+
+/**
+ * 按 {@code rose.web.async.concurrency-limits} 为每个限定符注册一个虚拟线程执行器
+ *
+ * <p>仅在 {@code rose.web.async.virtual-threads=true} 时生效；达到并发上限时提交方阻塞等待，
+ * 由于提交方通常也是虚拟线程，阻塞成本很低。
+ *
+ * @author rosestack
+ * @since 1.0.0
+ */
+@Slf4j
+public class VirtualThreadExecutorRegistrar implements ImportBeanDefinitionRegistrar, EnvironmentAware {
+    public static final String PREFIX = "rose.web.async";
+
+    private Environment environment;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public void registerBeanDefinitions(AnnotationMetadata importingClassMetadata, BeanDefinitionRegistry registry) {
+        WebProperties.Async async = Binder.get(environment)
+                .bind(PREFIX, WebProperties.Async.class)
+                .orElse(null);
+        if (async == null || !async.isVirtualThreads()) {
+            return;
+        }
+        for (Map.Entry<String, Integer> entry : async.getConcurrencyLimits().entrySet()) {
+            String name = entry.getKey();
+            if (registry.containsBeanDefinition(name)) {
+                continue;
+            }
+            int limit = entry.getValue() == null ? -1 : entry.getValue();
+            AbstractBeanDefinition definition = BeanDefinitionBuilder.genericBeanDefinition(
+                            SimpleAsyncTaskExecutor.class, () -> create(name + "-", limit))
+                    .getBeanDefinition();
+            registry.registerBeanDefinition(name, definition);
+            log.info("注册虚拟线程执行器 [{}]，并发上限：{}", name, limit);
+        }
+    }
+
+    /**
+     * 创建虚拟线程执行器
+     *
+     * @param threadNamePrefix 线程名前缀
+     * @param concurrencyLimit 并发上限，-1 表示不限制
+     * @return 执行器
+     */
+    public static SimpleAsyncTaskExecutor create(String threadNamePrefix, int concurrencyLimit) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(VirtualThreads.threadFactory(threadNamePrefix));
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setConcurrencyLimit(concurrencyLimit);
+        return executor;
+    }
+}
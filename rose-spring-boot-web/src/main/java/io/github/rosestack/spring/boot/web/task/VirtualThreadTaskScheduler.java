@@ -0,0 +1,115 @@
+package io.github.rosestack.spring.boot.web.task;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 任务体运行在虚拟线程上的调度器
+ *
+ * <p>平台线程池只负责按时间触发，触发后立即把任务体交给虚拟线程执行，慢任务不会占住调度线程而饿死其他定时任务。
+ * 语义与 {@link ThreadPoolTaskScheduler} 保持一致：同一个周期任务不会并发执行，fixed-delay 仍从上次结束开始计时，
+ * cron 任务在本次执行结束后才计算下次触发时间。
+ *
+ * @author rosestack
+ * @since 1.0.0
+ */
+public class VirtualThreadTaskScheduler extends ThreadPoolTaskScheduler {
+    private Executor dispatcher;
+
+    @Override
+    protected ScheduledExecutorService createExecutor(
+            int poolSize, ThreadFactory threadFactory, RejectedExecutionHandler rejectedExecutionHandler) {
+        this.dispatcher = new SimpleAsyncTaskExecutor(VirtualThreads.threadFactory(getThreadNamePrefix()));
+        return new ScheduledThreadPoolExecutor(poolSize, threadFactory, rejectedExecutionHandler) {
+            @Override
+            protected <V> RunnableScheduledFuture<V> decorateTask(Runnable runnable, RunnableScheduledFuture<V> task) {
+                return new DispatchingTask<>(this, task);
+            }
+
+            @Override
+            protected <V> RunnableScheduledFuture<V> decorateTask(Callable<V> callable, RunnableScheduledFuture<V> task) {
+                return new DispatchingTask<>(this, task);
+            }
+        };
+    }
+
+    /**
+     * 到期时把原任务投递到虚拟线程，其余行为全部委托给原任务
+     */
+    private final class DispatchingTask<V> implements RunnableScheduledFuture<V> {
+        private final ScheduledThreadPoolExecutor owner;
+        private final RunnableScheduledFuture<V> delegate;
+
+        DispatchingTask(ScheduledThreadPoolExecutor owner, RunnableScheduledFuture<V> delegate) {
+            this.owner = owner;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void run() {
+            if (delegate.isDone()) {
+                return;
+            }
+            // 周期任务在 delegate.run() 结束时才把本对象重新入队，因此同一任务不会重叠执行
+            dispatcher.execute(delegate);
+        }
+
+        @Override
+        public boolean isPeriodic() {
+            return delegate.isPeriodic();
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return delegate.getDelay(unit);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other == this) {
+                return 0;
+            }
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = delegate.cancel(mayInterruptIfRunning);
+            if (cancelled && owner.getRemoveOnCancelPolicy()) {
+                owner.remove(this);
+            }
+            return cancelled;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return delegate.isCancelled();
+        }
+
+        @Override
+        public boolean isDone() {
+            return delegate.isDone();
+        }
+
+        @Override
+        public V get() throws InterruptedException, ExecutionException {
+            return delegate.get();
+        }
+
+        @Override
+        public V get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            return delegate.get(timeout, unit);
+        }
+    }
+}
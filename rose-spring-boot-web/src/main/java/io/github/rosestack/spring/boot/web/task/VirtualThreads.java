@@ -0,0 +1,77 @@
+package io.github.rosestack.spring.boot.web.task;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 虚拟线程工厂
+ *
+ * <p>项目以 Java 17 编译，{@code Thread.ofVirtual()} 通过 {@link MethodHandle} 解析；运行在 JDK 21 以下时
+ * {@link #isSupported()} 返回 false，{@link #threadFactory(String)} 抛出 {@link IllegalStateException}。
+ *
+ * @author rosestack
+ * @since 1.0.0
+ */
+public final class VirtualThreads {
+    private static final MethodHandle OF_VIRTUAL;
+    private static final MethodHandle NAME;
+    private static final MethodHandle FACTORY;
+
+    static {
+        MethodHandle ofVirtual = null;
+        MethodHandle name = null;
+        MethodHandle factory = null;
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            Class<?> builder = Class.forName("java.lang.Thread$Builder");
+            Class<?> ofVirtualBuilder = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            ofVirtual = lookup.findStatic(Thread.class, "ofVirtual", MethodType.methodType(ofVirtualBuilder));
+            name = lookup.findVirtual(builder, "name", MethodType.methodType(builder, String.class, long.class));
+            factory = lookup.findVirtual(builder, "factory", MethodType.methodType(ThreadFactory.class));
+        } catch (ReflectiveOperationException e) {
+            ofVirtual = null;
+        }
+        OF_VIRTUAL = ofVirtual;
+        NAME = name;
+        FACTORY = factory;
+    }
+
+    private VirtualThreads() {}
+
+    /**
+     * 当前 JDK 是否支持虚拟线程
+     */
+    public static boolean isSupported() {
+        if (OF_VIRTUAL == null) {
+            return false;
+        }
+        try {
+            OF_VIRTUAL.invoke();
+            return true;
+        } catch (Throwable e) {
+            // JDK 19/20 未开启 --enable-preview
+            return false;
+        }
+    }
+
+    /**
+     * 创建虚拟线程工厂，线程名为 {@code prefix + 序号}
+     *
+     * @param prefix 线程名前缀
+     * @return 线程工厂
+     */
+    public static ThreadFactory threadFactory(String prefix) {
+        if (!isSupported()) {
+            throw new IllegalStateException("Virtual threads require JDK 21+, current: " + Runtime.version());
+        }
+        try {
+            Object builder = OF_VIRTUAL.invoke();
+            builder = NAME.invoke(builder, prefix, 0L);
+            return (ThreadFactory) FACTORY.invoke(builder);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to create virtual thread factory", e);
+        }
+    }
+}
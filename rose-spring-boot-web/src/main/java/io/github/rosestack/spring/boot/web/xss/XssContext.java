@@ -0,0 +1,29 @@
+package io.github.rosestack.spring.boot.web.xss;
+
+/**
+ * 正在读取的请求体的 XSS 策略，由 {@link XssRequestBodyAdvice} 只在读取 {@code @RequestBody} 期间设置，
+ * 供 {@link XssStringDeserializer} 读取
+ *
+ * @author rosestack
+ * @since 1.0.0
+ */
+public final class XssContext {
+    private static final ThreadLocal<XssPolicy> CURRENT = new ThreadLocal<>();
+
+    private XssContext() {}
+
+    /**
+     * 当前策略，不在请求体读取期间时为 null
+     */
+    public static XssPolicy current() {
+        return CURRENT.get();
+    }
+
+    static void set(XssPolicy policy) {
+        CURRENT.set(policy);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+}
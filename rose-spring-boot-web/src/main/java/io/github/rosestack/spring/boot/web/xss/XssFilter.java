@@ -0,0 +1,88 @@
+package io.github.rosestack.spring.boot.web.xss;
+
+import io.github.rosestack.spring.boot.web.config.WebProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.ObjectUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * XSS 过滤器
+ *
+ * <p>按路径解析策略：命中 {@code excludePaths} 为 {@link XssPolicy#NONE}，否则取 {@code paths} 中第一个匹配的策略，
+ * 都不匹配时使用默认策略。解析结果按路径缓存（上限 {@value #MAX_CACHED_PATHS} 条，避免路径参数撑大缓存）。
+ *
+ * <p>参数与请求头由 {@link XssRequestWrapper} 清洗；JSON 请求体只在 {@link XssRequestBodyAdvice} 读取
+ * {@code @RequestBody} 期间清洗，同一请求内其它 Jackson 读取（如下游接口响应、缓存）不受影响。
+ *
+ * @author rosestack
+ * @since 1.0.0
+ */
+public class XssFilter extends OncePerRequestFilter {
+    /**
+     * 当前请求策略的请求属性名，由 {@link XssRequestBodyAdvice} 在读取请求体时使用
+     */
+    public static final String POLICY_ATTRIBUTE = XssFilter.class.getName() + ".POLICY";
+
+    private static final int MAX_CACHED_PATHS = 2048;
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Map<String, XssPolicy> policyCache = new ConcurrentHashMap<>();
+    private final WebProperties.Filter.Xss properties;
+    private final String[] excludePaths;
+
+    public XssFilter(WebProperties.Filter.Xss properties, String[] excludePaths) {
+        this.properties = properties;
+        this.excludePaths = excludePaths;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        XssPolicy policy = resolvePolicy(request.getRequestURI().substring(request.getContextPath().length()));
+        if (policy == XssPolicy.NONE) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        request.setAttribute(POLICY_ATTRIBUTE, policy);
+        try {
+            filterChain.doFilter(new XssRequestWrapper(request, policy, properties.isHeaders()), response);
+        } finally {
+            // 请求体读取异常时 XssRequestBodyAdvice 来不及清理，这里兜底
+            XssContext.clear();
+        }
+    }
+
+    XssPolicy resolvePolicy(String path) {
+        XssPolicy policy = policyCache.get(path);
+        if (policy == null) {
+            policy = doResolvePolicy(path);
+            if (policyCache.size() < MAX_CACHED_PATHS) {
+                policyCache.put(path, policy);
+            }
+        }
+        return policy;
+    }
+
+    private XssPolicy doResolvePolicy(String path) {
+        if (!ObjectUtils.isEmpty(excludePaths)) {
+            for (String pattern : excludePaths) {
+                if (pathMatcher.match(pattern, path)) {
+                    return XssPolicy.NONE;
+                }
+            }
+        }
+        for (Map.Entry<String, XssPolicy> entry : properties.getPaths().entrySet()) {
+            if (pathMatcher.match(entry.getKey(), path)) {
+                return entry.getValue();
+            }
+        }
+        return properties.getPolicy();
+    }
+}
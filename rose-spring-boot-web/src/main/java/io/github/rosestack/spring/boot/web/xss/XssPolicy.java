@@ -0,0 +1,24 @@
+package io.github.rosestack.spring.boot.web.xss;
+
+/**
+ * XSS 处理策略
+ *
+ * @author rosestack
+ * @since 1.0.0
+ */
+public enum XssPolicy {
+    /**
+     * 不处理
+     */
+    NONE,
+
+    /**
+     * 转义 {@code < > " '}，移除 {@code javascript:} / {@code vbscript:} 协议
+     */
+    ESCAPE,
+
+    /**
+     * 删除 HTML 标签，其余与 {@link #ESCAPE} 相同
+     */
+    STRIP
+}
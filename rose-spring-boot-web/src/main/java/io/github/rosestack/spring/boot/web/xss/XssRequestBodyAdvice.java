@@ -0,0 +1,67 @@
+package io.github.rosestack.spring.boot.web.xss;
+
+import java.lang.reflect.Type;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+/**
+ * 只在 Jackson 读取 {@code @RequestBody} 期间启用 {@link XssStringDeserializer}
+ *
+ * <p>策略来自 {@link XssFilter} 写入的请求属性，读取前设置到 {@link XssContext}，读取后立即清除。
+ *
+ * @author rosestack
+ * @since 1.0.0
+ */
+@ControllerAdvice
+public class XssRequestBodyAdvice extends RequestBodyAdviceAdapter {
+
+    @Override
+    public boolean supports(
+            MethodParameter methodParameter, Type targetType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public HttpInputMessage beforeBodyRead(
+            HttpInputMessage inputMessage,
+            MethodParameter parameter,
+            Type targetType,
+            Class<? extends HttpMessageConverter<?>> converterType) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        Object policy = attributes != null
+                ? attributes.getAttribute(XssFilter.POLICY_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+                : null;
+        if (policy instanceof XssPolicy xssPolicy) {
+            XssContext.set(xssPolicy);
+        }
+        return inputMessage;
+    }
+
+    @Override
+    public Object afterBodyRead(
+            Object body,
+            HttpInputMessage inputMessage,
+            MethodParameter parameter,
+            Type targetType,
+            Class<? extends HttpMessageConverter<?>> converterType) {
+        XssContext.clear();
+        return body;
+    }
+
+    @Override
+    public Object handleEmptyBody(
+            Object body,
+            HttpInputMessage inputMessage,
+            MethodParameter parameter,
+            Type targetType,
+            Class<? extends HttpMessageConverter<?>> converterType) {
+        XssContext.clear();
+        return body;
+    }
+}
@@ -0,0 +1,103 @@
+package io.github.rosestack.spring.boot.web.xss;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 清洗参数与请求头的请求包装
+ *
+ * <p>参数表在第一次访问时整体清洗一次并缓存，请求头按名称缓存；未改动的值与数组直接复用原对象。
+ * 请求体不在此处处理，JSON 由 {@link XssStringDeserializer} 在反序列化时清洗。
+ *
+ * @author rosestack
+ * @since 1.0.0
+ */
+public class XssRequestWrapper extends HttpServletRequestWrapper {
+    private final XssPolicy policy;
+    private final boolean sanitizeHeaders;
+
+    private Map<String, String[]> parameterMap;
+    private Map<String, String> headerCache;
+
+    public XssRequestWrapper(HttpServletRequest request, XssPolicy policy, boolean sanitizeHeaders) {
+        super(request);
+        this.policy = policy;
+        this.sanitizeHeaders = sanitizeHeaders;
+    }
+
+    @Override
+    public String getParameter(String name) {
+        String[] values = getParameterMap().get(name);
+        return values == null || values.length == 0 ? null : values[0];
+    }
+
+    @Override
+    public String[] getParameterValues(String name) {
+        return getParameterMap().get(name);
+    }
+
+    @Override
+    public Map<String, String[]> getParameterMap() {
+        Map<String, String[]> map = parameterMap;
+        if (map == null) {
+            Map<String, String[]> source = super.getParameterMap();
+            map = new LinkedHashMap<>(source.size() * 4 / 3 + 1);
+            for (Map.Entry<String, String[]> entry : source.entrySet()) {
+                map.put(entry.getKey(), sanitize(entry.getValue()));
+            }
+            map = Collections.unmodifiableMap(map);
+            parameterMap = map;
+        }
+        return map;
+    }
+
+    @Override
+    public String getHeader(String name) {
+        String value = super.getHeader(name);
+        if (!sanitizeHeaders || value == null) {
+            return value;
+        }
+        if (headerCache == null) {
+            headerCache = new HashMap<>();
+        }
+        return headerCache.computeIfAbsent(name.toLowerCase(Locale.ROOT), key -> XssSanitizer.sanitize(value, policy));
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(String name) {
+        Enumeration<String> headers = super.getHeaders(name);
+        if (!sanitizeHeaders || headers == null) {
+            return headers;
+        }
+        List<String> values = new ArrayList<>(1);
+        while (headers.hasMoreElements()) {
+            values.add(XssSanitizer.sanitize(headers.nextElement(), policy));
+        }
+        return Collections.enumeration(values);
+    }
+
+    private String[] sanitize(String[] values) {
+        if (values == null) {
+            return null;
+        }
+        String[] result = values;
+        for (int i = 0; i < values.length; i++) {
+            String cleaned = XssSanitizer.sanitize(values[i], policy);
+            if (cleaned != values[i]) {
+                if (result == values) {
+                    result = values.clone();
+                }
+                result[i] = cleaned;
+            }
+        }
+        return result;
+    }
+}
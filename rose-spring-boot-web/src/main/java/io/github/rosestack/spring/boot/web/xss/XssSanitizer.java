@@ -0,0 +1,126 @@
+package io.github.rosestack.spring.boot.web.xss;
+
+/**
+ * XSS 清洗器
+ *
+ * <p>手写状态机，单次扫描：先定位第一个危险字符，绝大多数不含危险字符的值直接返回原字符串，不产生任何分配；
+ * 只有命中时才从该位置开始改写。危险内容包括：
+ *
+ * <ul>
+ *   <li>{@code < > " '}：{@link XssPolicy#ESCAPE} 转义为实体，{@link XssPolicy#STRIP} 删除整个标签；
+ *   <li>{@code javascript:} / {@code vbscript:} 协议（不区分大小写，忽略中间的空白与控制字符）：直接删除。
+ * </ul>
+ *
+ * @author rosestack
+ * @since 1.0.0
+ */
+public final class XssSanitizer {
+    private static final String[] SCHEMES = {"javascript:", "vbscript:"};
+
+    private XssSanitizer() {}
+
+    /**
+     * 按策略清洗
+     *
+     * @param value  原始值
+     * @param policy 策略
+     * @return 清洗结果，无需清洗时返回 {@code value} 本身
+     */
+    public static String sanitize(String value, XssPolicy policy) {
+        if (value == null || policy == null || policy == XssPolicy.NONE) {
+            return value;
+        }
+        int first = indexOfDangerous(value);
+        if (first < 0) {
+            return value;
+        }
+        return rewrite(value, first, policy == XssPolicy.STRIP);
+    }
+
+    /**
+     * 第一个危险字符的位置，没有时返回 -1
+     */
+    static int indexOfDangerous(String value) {
+        for (int i = 0, n = value.length(); i < n; i++) {
+            switch (value.charAt(i)) {
+                case '<', '>', '"', '\'' -> {
+                    return i;
+                }
+                case 'j', 'J', 'v', 'V' -> {
+                    if (schemeLength(value, i) > 0) {
+                        return i;
+                    }
+                }
+                default -> {}
+            }
+        }
+        return -1;
+    }
+
+    private static String rewrite(String value, int first, boolean strip) {
+        int n = value.length();
+        StringBuilder out = new StringBuilder(n + 16);
+        out.append(value, 0, first);
+        int i = first;
+        while (i < n) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '<' -> {
+                    if (strip && i + 1 < n && isTagStart(value.charAt(i + 1))) {
+                        int end = value.indexOf('>', i + 1);
+                        // 未闭合的标签删除到结尾
+                        i = end < 0 ? n : end + 1;
+                        continue;
+                    }
+                    out.append("&lt;");
+                }
+                case '>' -> out.append("&gt;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&#39;");
+                case 'j', 'J', 'v', 'V' -> {
+                    int length = schemeLength(value, i);
+                    if (length > 0) {
+                        i += length;
+                        continue;
+                    }
+                    out.append(c);
+                }
+                default -> out.append(c);
+            }
+            i++;
+        }
+        return out.toString();
+    }
+
+    private static boolean isTagStart(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '/' || c == '!' || c == '?';
+    }
+
+    /**
+     * 从 start 开始匹配危险协议，返回匹配消耗的字符数，不匹配返回 0
+     */
+    private static int schemeLength(String value, int start) {
+        int n = value.length();
+        for (String scheme : SCHEMES) {
+            int i = start;
+            int j = 0;
+            while (i < n && j < scheme.length()) {
+                char c = value.charAt(i);
+                if (j > 0 && c <= ' ') {
+                    // 浏览器解析协议时忽略其中的制表、换行等字符
+                    i++;
+                    continue;
+                }
+                if (Character.toLowerCase(c) != scheme.charAt(j)) {
+                    break;
+                }
+                i++;
+                j++;
+            }
+            if (j == scheme.length()) {
+                return i - start;
+            }
+        }
+        return 0;
+    }
+}
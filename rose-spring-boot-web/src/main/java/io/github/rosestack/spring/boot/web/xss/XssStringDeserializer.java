@@ -0,0 +1,30 @@
+package io.github.rosestack.spring.boot.web.xss;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import java.io.IOException;
+
+/**
+ * JSON 字符串反序列化时按当前请求的策略清洗
+ *
+ * <p>直接作用于解析出的字符串值，避免对整个请求体做字符串替换；只在 {@link XssRequestBodyAdvice} 读取请求体期间生效，
+ * 共用同一 ObjectMapper 的其它读取（下游响应、缓存等）原样返回。
+ *
+ * @author rosestack
+ * @since 1.0.0
+ */
+public class XssStringDeserializer extends StdScalarDeserializer<String> {
+
+    public XssStringDeserializer() {
+        super(String.class);
+    }
+
+    @Override
+    public String deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        String value = StringDeserializer.instance.deserialize(p, ctxt);
+        XssPolicy policy = XssContext.current();
+        return policy == null ? value : XssSanitizer.sanitize(value, policy);
+    }
+}